@@ -0,0 +1,73 @@
+// Runs the view --emit-js generates for product.ts against the fake DOM and checks what it renders:
+//
+//   java -cp <classes>:<antlr runtime> App.Main --emit-js out bench/js/product.ts
+//   node bench/js/check.mjs out/bench/js/product.ts.js
+//
+// Exits with a failed assertion when the view renders or updates differently.
+
+import assert from "node:assert/strict";
+import { pathToFileURL } from "node:url";
+import { Document, find, findAll, ops, resetOps } from "./fakedom.mjs";
+
+const { ProductComponentView } = await import(pathToFileURL(process.argv[2]).href);
+
+const host = new Document().createElement("app");
+const ctx = {
+    activeTab: "list",
+    selectedProduct: null,
+    newProduct: { title: "", price: 0, picture: "", description: "" },
+    products: [
+        { title: "A", price: 1, picture: "a.png", description: "first" },
+        { title: "B", price: 2, picture: "b.png", description: "second" }
+    ],
+    selectProduct(product) {
+        this.selectedProduct = product;
+        this.activeTab = "details";
+    },
+    addProduct() {
+        this.products = [...this.products, { ...this.newProduct }];
+        this.activeTab = "list";
+    }
+};
+
+const cards = () => findAll(host, node => node.attributes?.get("class") === "card");
+const text = node => node.outerHTML.replace(/<[^>]*>/g, "").trim();
+
+const view = new ProductComponentView(ctx, host);
+view.update();
+assert.deepEqual(cards().map(text), ["A$1", "B$2"]);
+assert.equal(cards()[1].firstChild.attributes.get("src"), "b.png");
+assert.equal(cards()[1].firstChild.attributes.get("alt"), "B");
+assert.equal(findAll(host, node => node.tagName === "button")[2].attributes.has("disabled"), true);
+
+resetOps();
+view.update();
+assert.equal(ops, 0, "an update without changes writes to the DOM");
+
+// Event bindings call into the component and refresh the view.
+cards()[1].dispatch("click");
+assert.equal(ctx.activeTab, "details");
+assert.equal(cards().length, 0);
+assert.equal(text(find(host, node => node.tagName === "h2")), "B");
+assert.equal(findAll(host, node => node.tagName === "button")[2].attributes.has("disabled"), false);
+
+// Two-way ngModel bindings write the input back, and ngSubmit keeps the form from navigating.
+findAll(host, node => node.tagName === "button")[1].dispatch("click");
+const title = find(host, node => node.tagName === "input");
+title.value = "C";
+title.dispatch("input");
+assert.equal(ctx.newProduct.title, "C");
+const submit = find(host, node => node.tagName === "form").dispatch("submit");
+assert.equal(submit.defaultPrevented, true);
+assert.deepEqual(cards().map(text), ["A$1", "B$2", "C$0"]);
+
+// *ngFor reuses item views by position when the list changes.
+const reused = cards()[0];
+ctx.products = ctx.products.slice(1);
+view.update();
+assert.deepEqual(cards().map(text), ["B$2", "C$0"]);
+assert.equal(cards()[0], reused);
+
+view.destroy();
+assert.equal(host.childNodes.length, 0);
+console.log("ok");
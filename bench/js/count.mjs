@@ -0,0 +1,45 @@
+// Counts the DOM calls of the view --emit-js generates for product.ts on a list of 100 products:
+//
+//   java -cp <classes>:<antlr runtime> App.Main --emit-js out bench/js/product.ts
+//   node bench/js/count.mjs out/bench/js/product.ts.js
+//
+// Prints the calls made to create and first render the view, to switch through all three tabs ten times,
+// and by one update without changes.
+
+import { pathToFileURL } from "node:url";
+import { Document, ops, resetOps } from "./fakedom.mjs";
+
+const ITEMS = 100;
+const CYCLES = 10;
+
+const { ProductComponentView } = await import(pathToFileURL(process.argv[2]).href);
+
+const host = new Document().createElement("app");
+const ctx = {
+    activeTab: "list",
+    selectedProduct: null,
+    newProduct: { title: "", price: 0, picture: "", description: "" },
+    products: Array.from({ length: ITEMS }, (_, i) => ({ title: "P" + i, price: i, picture: i + ".png" }))
+};
+
+resetOps();
+const view = new ProductComponentView(ctx, host);
+view.update();
+const create = ops;
+
+let switches = 0;
+for (let i = 0; i < CYCLES; i++) {
+    resetOps();
+    ctx.activeTab = "add";
+    view.update();
+    ctx.selectedProduct = ctx.products[i];
+    ctx.activeTab = "details";
+    view.update();
+    ctx.activeTab = "list";
+    view.update();
+    switches += ops;
+}
+
+resetOps();
+view.update();
+console.log(`create ${create}, ${CYCLES} tab switch cycles ${switches}, idle update ${ops}`);
@@ -0,0 +1,260 @@
+// A minimal DOM for running modules written by --emit-js under Node. It implements only the calls the
+// generated views make, and counts every call that creates, moves or writes a node in `ops`.
+
+export let ops = 0;
+
+export function resetOps() {
+    ops = 0;
+}
+
+class Node {
+    constructor(doc) {
+        this.ownerDocument = doc;
+        this.parentNode = null;
+        this.childNodes = [];
+        this.listeners = {};
+    }
+
+    appendChild(child) {
+        ops++;
+        if (child.parentNode) {
+            child.parentNode.removeChild(child);
+        }
+        child.parentNode = this;
+        this.childNodes.push(child);
+        return child;
+    }
+
+    insertBefore(child, reference) {
+        ops++;
+        if (child.parentNode) {
+            child.parentNode.removeChild(child);
+        }
+        const index = this.childNodes.indexOf(reference);
+        if (index < 0) {
+            throw new Error("insertBefore: reference is not a child");
+        }
+        child.parentNode = this;
+        this.childNodes.splice(index, 0, child);
+        return child;
+    }
+
+    removeChild(child) {
+        ops++;
+        const index = this.childNodes.indexOf(child);
+        if (index < 0) {
+            throw new Error("removeChild: not a child");
+        }
+        this.childNodes.splice(index, 1);
+        child.parentNode = null;
+        return child;
+    }
+
+    get firstChild() {
+        return this.childNodes[0] || null;
+    }
+
+    get nextSibling() {
+        const parent = this.parentNode;
+        return parent ? parent.childNodes[parent.childNodes.indexOf(this) + 1] || null : null;
+    }
+
+    addEventListener(type, listener) {
+        (this.listeners[type] ||= []).push(listener);
+    }
+
+    // Calls the listeners for type directly; there is no capturing or bubbling.
+    dispatch(type, event = {}) {
+        event.target = event.target || this;
+        event.preventDefault = () => {
+            event.defaultPrevented = true;
+        };
+        for (const listener of this.listeners[type] || []) {
+            listener(event);
+        }
+        return event;
+    }
+
+    // A deep clone counts as one call, however many nodes it copies.
+    cloneNode(deep) {
+        ops++;
+        const copy = this.shallowCopy();
+        if (deep) {
+            for (const child of this.childNodes) {
+                const childCopy = child.cloneNode(true);
+                ops--;
+                childCopy.parentNode = copy;
+                copy.childNodes.push(childCopy);
+            }
+        }
+        return copy;
+    }
+}
+
+class Element extends Node {
+    constructor(doc, tagName) {
+        super(doc);
+        this.tagName = tagName;
+        this.attributes = new Map();
+        const element = this;
+        this.classList = {
+            toggle(name, on) {
+                ops++;
+                const names = new Set((element.attributes.get("class") || "").split(" ").filter(Boolean));
+                if (on) {
+                    names.add(name);
+                } else {
+                    names.delete(name);
+                }
+                element.attributes.set("class", [...names].join(" "));
+            }
+        };
+        this.style = {
+            properties: new Map(),
+            setProperty(name, value) {
+                ops++;
+                if (value == null || value === "") {
+                    this.properties.delete(name);
+                } else {
+                    this.properties.set(name, value);
+                }
+            }
+        };
+    }
+
+    shallowCopy() {
+        const copy = new Element(this.ownerDocument, this.tagName);
+        copy.attributes = new Map(this.attributes);
+        return copy;
+    }
+
+    setAttribute(name, value) {
+        ops++;
+        this.attributes.set(name, "" + value);
+    }
+
+    removeAttribute(name) {
+        ops++;
+        this.attributes.delete(name);
+    }
+
+    get value() {
+        return this._value;
+    }
+
+    set value(value) {
+        ops++;
+        this._value = value == null ? "" : "" + value;
+    }
+
+    set src(value) {
+        ops++;
+        this.attributes.set("src", "" + value);
+    }
+
+    set alt(value) {
+        ops++;
+        this.attributes.set("alt", "" + value);
+    }
+
+    set disabled(value) {
+        ops++;
+        if (value) {
+            this.attributes.set("disabled", "");
+        } else {
+            this.attributes.delete("disabled");
+        }
+    }
+
+    set className(value) {
+        ops++;
+        this.attributes.set("class", "" + value);
+    }
+
+    get outerHTML() {
+        const attributes = [...this.attributes].map(([name, value]) => ` ${name}="${value}"`).join("");
+        const style = this.style.properties.size === 0 ? ""
+            : ` style="${[...this.style.properties].map(([name, value]) => name + ": " + value).join("; ")}"`;
+        const children = this.childNodes.map(child => child.outerHTML).join("");
+        return `<${this.tagName}${attributes}${style}>${children}</${this.tagName}>`;
+    }
+}
+
+class Text extends Node {
+    constructor(doc, data) {
+        super(doc);
+        this._data = data;
+    }
+
+    shallowCopy() {
+        return new Text(this.ownerDocument, this._data);
+    }
+
+    get data() {
+        return this._data;
+    }
+
+    set data(value) {
+        ops++;
+        this._data = value;
+    }
+
+    get outerHTML() {
+        return this._data;
+    }
+}
+
+class Comment extends Node {
+    constructor(doc, data) {
+        super(doc);
+        this.data = data;
+    }
+
+    shallowCopy() {
+        return new Comment(this.ownerDocument, this.data);
+    }
+
+    get outerHTML() {
+        return `<!--${this.data}-->`;
+    }
+}
+
+export class Document {
+    createElement(tagName) {
+        ops++;
+        return new Element(this, tagName);
+    }
+
+    createTextNode(data) {
+        ops++;
+        return new Text(this, data);
+    }
+
+    createComment(data) {
+        ops++;
+        return new Comment(this, data);
+    }
+}
+
+export function find(node, predicate) {
+    if (predicate(node)) {
+        return node;
+    }
+    for (const child of node.childNodes) {
+        const found = find(child, predicate);
+        if (found) {
+            return found;
+        }
+    }
+    return null;
+}
+
+export function findAll(node, predicate, found = []) {
+    if (predicate(node)) {
+        found.push(node);
+    }
+    for (const child of node.childNodes) {
+        findAll(child, predicate, found);
+    }
+    return found;
+}
@@ -0,0 +1,74 @@
+import { Component } from '@angular/core';
+import { CommonModule } from '@angular/common';
+import { FormsModule } from '@angular/forms';
+
+interface Product {
+  title: string;
+  price: number;
+  picture: string;
+  description: string;
+}
+
+@Component({
+  selector: 'app-root',
+  standalone: true,
+  imports: [CommonModule, FormsModule],
+  template: `
+    <div class="container">
+      <h1>Product Manager</h1>
+
+      <div class="tabs">
+        <button (click)="activeTab = 'list'">View Products</button>
+        <button (click)="activeTab = 'add'">Add Product</button>
+        <button [disabled]="!selectedProduct" (click)="activeTab = 'details'">
+          View Details
+        </button>
+      </div>
+
+      <!-- Product List -->
+      <div *ngIf="activeTab === 'list'" class="tab">
+        <div *ngFor="let product of products" class="card" (click)="selectProduct(product)">
+          <img [src]="product.picture" alt="{{product.title}}" />
+          <h3>{{ product.title }}</h3>
+          <p>\${{ product.price }}</p>
+        </div>
+      </div>
+
+      <!-- Add Product -->
+      <div *ngIf="activeTab === 'add'" class="tab">
+        <h2>Add New Product</h2>
+        <form (ngSubmit)="addProduct()">
+          <input [(ngModel)]="newProduct.title" name="title" placeholder="Title" required />
+          <input [(ngModel)]="newProduct.price" name="price" placeholder="Price" type="number" required />
+          <input [(ngModel)]="newProduct.picture" name="picture" placeholder="Picture URL" required />
+          <textarea [(ngModel)]="newProduct.description" name="description" placeholder="Description"></textarea>
+          <button type="submit">Add</button>
+        </form>
+      </div>
+
+      <!-- Product Details -->
+      <div *ngIf="activeTab === 'details' && selectedProduct" class="tab">
+        <h2>{{ selectedProduct?.title }}</h2>
+        <img [src]="selectedProduct?.picture" alt="{{selectedProduct?.title}}" />
+        <p><b>Price:</b> \${{ selectedProduct?.price }}</p>
+        <p><b>Description:</b> {{ selectedProduct?.description }}</p>
+      </div>
+    </div>
+  `,
+  styles: []
+})
+export class ProductComponent {
+  activeTab: string = "list";
+  products: Product[] = [];
+  selectedProduct: Product;
+  newProduct: Product = { title: '', price: 0, picture: '', description: '' };
+
+  selectProduct(product: Product) {
+    this.selectedProduct = product;
+    this.activeTab = 'details';
+  }
+
+  addProduct() {
+    this.activeTab = 'list';
+  }
+}
@@ -0,0 +1,23 @@
+package Bench;
+
+import App.CorpusGenerator;
+
+/**
+ * Source text for the benchmarks, produced by CorpusGenerator. Benchmarks are run through JMH's launcher,
+ * e.g. {@code java -cp <classpath> org.openjdk.jmh.Main Bench.ParserBenchmark}, from the project root.
+ */
+final class BenchInputs {
+    private BenchInputs() {
+    }
+
+    static String program(int components, int membersPerClass) {
+        return new CorpusGenerator()
+                .components(components)
+                .members(membersPerClass)
+                .expressionDepth(4)
+                .bindings(5)
+                .styles(3)
+                .interfaces(1)
+                .generate();
+    }
+}
@@ -0,0 +1,47 @@
+package Bench;
+
+import Helpers.CycleDetector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CycleDetector on a long dependency chain with a back edge every 100 modules, so the search has to
+ * go deep and finds many small cycles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleDetectorBenchmark {
+    @Param({"1000", "100000"})
+    public int modules;
+
+    private Map<String, List<String>> _graph;
+
+    @Setup
+    public void setUp() {
+        _graph = new HashMap<>();
+        for (int i = 0; i < modules; i++) {
+            List<String> dependencies = new ArrayList<>();
+            if (i + 1 < modules) {
+                dependencies.add("Module" + (i + 1));
+            }
+            if (i % 100 == 99) {
+                dependencies.add("Module" + (i - 50));
+            }
+            _graph.put("Module" + i, dependencies);
+        }
+    }
+
+    @Benchmark
+    public List<List<String>> findCycles() {
+        return new CycleDetector(_graph).findCycles();
+    }
+}
@@ -0,0 +1,57 @@
+package Bench;
+
+import App.MappedCharStream;
+import antlr.AngularLexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token throughput of AngularLexer, including the template lexer mode, from a decoded string and from
+ * UTF-8 bytes read in place by MappedCharStream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+    @Param({"1", "10", "100"})
+    public int components;
+
+    private String _source;
+    private ByteBuffer _bytes;
+
+    @Setup
+    public void setUp() {
+        _source = BenchInputs.program(components, 5);
+        byte[] utf8 = _source.getBytes(StandardCharsets.UTF_8);
+        _bytes = ByteBuffer.allocateDirect(utf8.length).put(utf8).flip();
+    }
+
+    @Benchmark
+    public int tokenize() {
+        return tokenize(CharStreams.fromString(_source));
+    }
+
+    @Benchmark
+    public int tokenizeMapped() {
+        return tokenize(new MappedCharStream(_bytes, "bench"));
+    }
+
+    private static int tokenize(CharStream input) {
+        AngularLexer lexer = new AngularLexer(input);
+        lexer.removeErrorListeners();
+        int count = 0;
+        while (lexer.nextToken().getType() != Token.EOF) {
+            count++;
+        }
+        return count;
+    }
+}
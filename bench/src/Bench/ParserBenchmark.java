@@ -0,0 +1,51 @@
+package Bench;
+
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AngularParser.program() over pre-lexed tokens with SLL and with full LL prediction.
+ * The shared DFA cache stays warm across invocations, as it does in a long-running compiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"1", "10", "100"})
+    public int components;
+
+    @Param({"SLL", "LL"})
+    public String prediction;
+
+    private List<? extends Token> _tokens;
+    private PredictionMode _predictionMode;
+
+    @Setup
+    public void setUp() {
+        AngularLexer lexer = new AngularLexer(CharStreams.fromString(BenchInputs.program(components, 5)));
+        lexer.removeErrorListeners();
+        _tokens = lexer.getAllTokens();
+        _predictionMode = PredictionMode.valueOf(prediction);
+    }
+
+    @Benchmark
+    public ParseTree parse() {
+        AngularParser parser = new AngularParser(new CommonTokenStream(new ListTokenSource(_tokens)));
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(_predictionMode);
+        return parser.program();
+    }
+}
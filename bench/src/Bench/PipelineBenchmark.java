@@ -0,0 +1,49 @@
+package Bench;
+
+import App.CompilationResult;
+import App.Compiler;
+import App.ParseStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One file through Compiler.compile: read, lex, parse and the semantic pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"1", "10", "100"})
+    public int components;
+
+    private Path _file;
+    private Compiler _compiler;
+
+    @Setup
+    public void setUp() throws IOException {
+        _file = Files.createTempFile("bench", ".ts");
+        Files.writeString(_file, BenchInputs.program(components, 5));
+        _compiler = new Compiler(ParseStrategy.TWO_STAGE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(_file);
+    }
+
+    @Benchmark
+    public CompilationResult compile() {
+        CompilationResult result = _compiler.compile(_file);
+        if (result.isFailed()) {
+            throw new IllegalStateException("Benchmark input failed to compile", result.getFailure());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package Bench;
+
+import App.CompilationResult;
+import App.Compiler;
+import App.CorpusGenerator;
+import App.ParseStrategy;
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Heap that stays reachable per compiled file: the CompilationResult returned by Compiler, against the
+ * ANTLR parse tree (with its tokens and char stream) of the same file. Not a JMH benchmark; run it with
+ * {@code java -cp <classpath> Bench.RetainedHeap [files] [components per file]}.
+ */
+public final class RetainedHeap {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private RetainedHeap() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int fileCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int components = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Path directory = Files.createTempDirectory("retained-heap");
+        try {
+            CorpusGenerator generator = new CorpusGenerator().components(components).members(5)
+                    .expressionDepth(4).bindings(5).styles(3).interfaces(1);
+            List<Path> files = new ArrayList<>(fileCount);
+            for (int i = 0; i < fileCount; i++) {
+                Path file = directory.resolve(CorpusGenerator.fileName(i));
+                Files.writeString(file, generator.generate(i), StandardCharsets.UTF_8);
+                files.add(file);
+            }
+
+            Compiler compiler = new Compiler(ParseStrategy.TWO_STAGE);
+            compiler.compile(files.get(0));
+            long baseline = usedHeap();
+
+            List<CompilationResult> results = new ArrayList<>(fileCount);
+            for (Path file : files) {
+                results.add(compiler.compile(file));
+            }
+            long resultBytes = usedHeap() - baseline;
+
+            List<Object> trees = new ArrayList<>(fileCount);
+            for (Path file : files) {
+                AngularParser parser = new AngularParser(new CommonTokenStream(new AngularLexer(CharStreams.fromPath(file))));
+                parser.removeErrorListeners();
+                trees.add(parser.program());
+            }
+            long treeBytes = usedHeap() - baseline - resultBytes;
+
+            System.out.printf("%d files, %d components each%n", fileCount, components);
+            System.out.printf("CompilationResult (AST, symbols, diagnostics): %,12d bytes, %,10d per file%n", resultBytes, resultBytes / fileCount);
+            System.out.printf("ANTLR parse tree, tokens and input:           %,12d bytes, %,10d per file%n", treeBytes, treeBytes / fileCount);
+            System.out.printf("Retaining the parse trees as well would need %.1fx the heap of the results alone%n",
+                    (double) (resultBytes + treeBytes) / Math.max(1, resultBytes));
+
+            Reference.reachabilityFence(results);
+            Reference.reachabilityFence(trees);
+        } finally {
+            try (Stream<Path> entries = Files.walk(directory)) {
+                for (Path entry : entries.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
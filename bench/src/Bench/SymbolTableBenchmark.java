@@ -0,0 +1,65 @@
+package Bench;
+
+import SymbolTable.Scope;
+import SymbolTable.ScopeKind;
+import SymbolTable.SymbolTable;
+import SymbolTable.SymbolTableInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declaring symbols across class, method and block scopes, then resolving every one of them from the
+ * innermost block, which walks the whole parent chain.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolTableBenchmark {
+    @Param({"100", "10000"})
+    public int symbols;
+
+    private String[] _names;
+    private SymbolTable _table;
+    private Scope _innermost;
+
+    @Setup
+    public void setUp() {
+        _names = new String[symbols];
+        for (int i = 0; i < symbols; i++) {
+            _names[i] = "symbol" + i;
+        }
+        _table = new SymbolTable();
+        _innermost = declareAll(_table);
+    }
+
+    private Scope declareAll(SymbolTable table) {
+        Scope classScope = table.createScope(table.getGlobalScope(), "Bench", ScopeKind.CLASS);
+        Scope methodScope = table.createScope(classScope, "method", ScopeKind.METHOD);
+        Scope blockScope = table.createScope(methodScope, "while", ScopeKind.BLOCK);
+        Scope[] scopes = { classScope, methodScope, blockScope };
+        for (int i = 0; i < _names.length; i++) {
+            table.addVariable(_names[i], "number", i, scopes[i % scopes.length]);
+        }
+        return blockScope;
+    }
+
+    @Benchmark
+    public SymbolTable declare() {
+        SymbolTable table = new SymbolTable();
+        declareAll(table);
+        return table;
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        for (String name : _names) {
+            SymbolTableInfo info = _table.tryLookup(name, _innermost);
+            blackhole.consume(info);
+        }
+    }
+}
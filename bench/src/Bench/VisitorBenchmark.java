@@ -0,0 +1,48 @@
+package Bench;
+
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import Visitor.AngularCompVisitor;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The semantic pass of AngularCompVisitor over a tree parsed once in setup. The visitor analyzes components
+ * concurrently only when it runs on a fork/join worker, so visitOnPool runs it on the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorBenchmark {
+    @Param({"1", "10", "100"})
+    public int components;
+
+    private ParseTree _tree;
+
+    @Setup
+    public void setUp() {
+        AngularLexer lexer = new AngularLexer(CharStreams.fromString(BenchInputs.program(components, 5)));
+        lexer.removeErrorListeners();
+        AngularParser parser = new AngularParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        _tree = parser.program();
+    }
+
+    @Benchmark
+    public Object visit() {
+        return new AngularCompVisitor().visit(_tree);
+    }
+
+    @Benchmark
+    public Object visitOnPool() {
+        return ForkJoinPool.commonPool().submit(() -> new AngularCompVisitor().visit(_tree)).join();
+    }
+}
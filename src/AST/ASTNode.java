@@ -1,4 +1,10 @@
 package AST;
 
 public interface ASTNode {
+    /**
+     * Source offsets of the node packed by SourceSpan, or SourceSpan.NONE for nodes that were not parsed from source.
+     */
+    long getSpan();
+
+    void setSpan(long span);
 }
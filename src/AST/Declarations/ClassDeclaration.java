@@ -1,9 +1,9 @@
 package AST.Declarations;
 
-import AST.ASTNode;
+import AST.SourceNode;
 import AST.Types.ClassBody;
 
-public class ClassDeclaration implements ASTNode
+public class ClassDeclaration extends SourceNode
 {
     private final boolean _isExported;
     private final String _className;
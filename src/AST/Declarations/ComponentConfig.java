@@ -1,11 +1,11 @@
 package AST.Declarations;
 
-import AST.ASTNode;
 import AST.Properties.ComponentProperty;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ComponentConfig implements ASTNode
+public class ComponentConfig extends SourceNode
 {
     private final List<ComponentProperty> _componentProperties;
     public ComponentConfig(List<ComponentProperty> componentProperties)
@@ -1,8 +1,8 @@
 package AST.Declarations;
 
-import AST.ASTNode;
+import AST.SourceNode;
 
-public class ComponentDefinition implements ASTNode
+public class ComponentDefinition extends SourceNode
 {
     private final ComponentConfig _componentConfig;
     private final ClassDeclaration _classDeclaration;
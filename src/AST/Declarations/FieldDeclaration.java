@@ -1,9 +1,10 @@
 package AST.Declarations;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 import AST.Types.TypeAnnotation;
 
-public class FieldDeclaration implements ClassMember
+public class FieldDeclaration extends SourceNode implements ClassMember
 {
     private final String _name;
     private final TypeAnnotation _type;
@@ -1,8 +1,8 @@
 package AST.Declarations;
 
-import AST.ASTNode;
+import AST.SourceNode;
 
-public class ImportItem implements ASTNode
+public class ImportItem extends SourceNode
 {
     private final String _identifier;
     public ImportItem(String identifier)
@@ -1,10 +1,10 @@
 package AST.Declarations;
 
-import AST.ASTNode;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ImportItems implements ASTNode
+public class ImportItems extends SourceNode
 {
     private final List<ImportItem> _items;
     public ImportItems(List<ImportItem> items)
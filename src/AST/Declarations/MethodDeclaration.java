@@ -1,12 +1,13 @@
 package AST.Declarations;
 
+import AST.SourceNode;
 import AST.Statement.BlockStatement;
 import AST.Types.Block;
 import AST.Types.TypeAnnotation;
 
 import java.util.List;
 
-public class MethodDeclaration implements ClassMember
+public class MethodDeclaration extends SourceNode implements ClassMember
 {
     private final String _methodName;
     private final TypeAnnotation _returnType;
@@ -1,9 +1,9 @@
 package AST.Declarations;
 
-import AST.ASTNode;
+import AST.SourceNode;
 import AST.Types.TypeAnnotation;
 
-public class Parameter implements ASTNode
+public class Parameter extends SourceNode
 {
     private final String _name;
     private final TypeAnnotation _type;
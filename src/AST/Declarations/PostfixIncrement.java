@@ -1,8 +1,9 @@
 package AST.Declarations;
 
 import AST.Expression.PostfixPart;
+import AST.SourceNode;
 
-public class PostfixIncrement implements PostfixPart
+public class PostfixIncrement extends SourceNode implements PostfixPart
 {
     public PostfixIncrement() {}
     @Override
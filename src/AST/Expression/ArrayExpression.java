@@ -2,9 +2,10 @@ package AST.Expression;
 
 import AST.Expression.Expression;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ArrayExpression implements Expression
+public class ArrayExpression extends SourceNode implements Expression
 {
     private final List<Expression> _elements;
     public ArrayExpression(List<Expression> elements)
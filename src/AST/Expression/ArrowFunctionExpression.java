@@ -2,9 +2,10 @@ package AST.Expression;
 
 import AST.Expression.Expression;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ArrowFunctionExpression implements Expression {
+public class ArrowFunctionExpression extends SourceNode implements Expression {
     private final List<String> _params;
     private final Expression _body;
     public ArrowFunctionExpression(List<String> params, Expression body)
@@ -1,8 +1,9 @@
 package AST.Expression;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class AssignmentExpression implements Expression
+public class AssignmentExpression extends SourceNode implements Expression
 {
     private final Expression _target;
     private final Expression _value;
@@ -11,6 +12,14 @@ public class AssignmentExpression implements Expression
         _target = target;
         _value = value;
     }
+    public Expression getTarget()
+    {
+        return _target;
+    }
+    public Expression getValue()
+    {
+        return _value;
+    }
     @Override
     public String toString()
     {
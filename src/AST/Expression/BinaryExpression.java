@@ -1,8 +1,9 @@
 package AST.Expression;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class BinaryExpression implements Expression
+public class BinaryExpression extends SourceNode implements Expression
 {
     private final Expression _left;
     private final String _operator;
@@ -1,8 +1,9 @@
 package AST.Expression;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ConditionalExpression implements Expression
+public class ConditionalExpression extends SourceNode implements Expression
 {
     private final Expression _condition;
     private final Expression _trueExpr;
@@ -13,6 +14,18 @@ public class ConditionalExpression implements Expression
         _trueExpr = trueExpr;
         _falseExpr = falseExpr;
     }
+    public Expression getCondition()
+    {
+        return _condition;
+    }
+    public Expression getTrueExpr()
+    {
+        return _trueExpr;
+    }
+    public Expression getFalseExpr()
+    {
+        return _falseExpr;
+    }
     @Override
     public String toString()
     {
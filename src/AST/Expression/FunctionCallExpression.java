@@ -2,16 +2,21 @@ package AST.Expression;
 
 import AST.Expression.Expression;
 
+import AST.SourceNode;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class FunctionCallExpression implements Expression
+public class FunctionCallExpression extends SourceNode implements Expression
 {
     private final List<Expression> _arguments;
     public FunctionCallExpression(List<Expression> arguments)
     {
         _arguments = arguments;
     }
+    public List<Expression> getArguments()
+    {
+        return _arguments;
+    }
     @Override
     public String toString()
     {
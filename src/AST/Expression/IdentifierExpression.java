@@ -1,6 +1,8 @@
 package AST.Expression;
 
-public class IdentifierExpression implements Expression
+import AST.SourceNode;
+
+public class IdentifierExpression extends SourceNode implements Expression
 {
     private final String _name;
     public IdentifierExpression(String name)
@@ -0,0 +1,24 @@
+package AST.Expression;
+
+import AST.SourceNode;
+
+/**
+ * A [key] read from a template expression, such as items[0] or map[name].
+ */
+public class KeyedAccess extends SourceNode implements PostfixPart, Expression
+{
+    private final Expression _key;
+    public KeyedAccess(Expression key)
+    {
+        _key = key;
+    }
+    public Expression getKey()
+    {
+        return _key;
+    }
+    @Override
+    public String toString()
+    {
+        return "[" + _key + "]";
+    }
+}
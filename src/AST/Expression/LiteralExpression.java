@@ -1,6 +1,8 @@
 package AST.Expression;
 
-public class LiteralExpression implements Expression
+import AST.SourceNode;
+
+public class LiteralExpression extends SourceNode implements Expression
 {
     private final String _value;
     public LiteralExpression(String value)
@@ -2,10 +2,11 @@ package AST.Expression;
 
 import AST.Expression.Expression;
 
+import AST.SourceNode;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class NewExpression implements Expression
+public class NewExpression extends SourceNode implements Expression
 {
     private final String _className;
     private final List<Expression> _arguments;
@@ -14,6 +15,14 @@ public class NewExpression implements Expression
         _className = className;
         _arguments = arguments;
     }
+    public String getClassName()
+    {
+        return _className;
+    }
+    public List<Expression> getArguments()
+    {
+        return _arguments;
+    }
     @Override
     public String toString()
     {
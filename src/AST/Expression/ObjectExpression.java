@@ -2,10 +2,11 @@ package AST.Expression;
 
 import AST.Properties.ObjectProperty;
 
+import AST.SourceNode;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class ObjectExpression implements Expression {
+public class ObjectExpression extends SourceNode implements Expression {
     private final List<ObjectProperty> _properties;
     public ObjectExpression(List<ObjectProperty> properties)
     {
@@ -0,0 +1,40 @@
+package AST.Expression;
+
+import AST.SourceNode;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A template pipe, input | name:argument:...; the pipe is looked up by name, not in the component.
+ */
+public class PipeExpression extends SourceNode implements Expression
+{
+    private final Expression _input;
+    private final String _name;
+    private final List<Expression> _arguments;
+    public PipeExpression(Expression input, String name, List<Expression> arguments)
+    {
+        _input = input;
+        _name = name;
+        _arguments = arguments;
+    }
+    public Expression getInput()
+    {
+        return _input;
+    }
+    public String getName()
+    {
+        return _name;
+    }
+    public List<Expression> getArguments()
+    {
+        return _arguments;
+    }
+    @Override
+    public String toString()
+    {
+        return "Pipe( " + _input + " | " + _name + _arguments.stream()
+                .map(argument -> ":" + argument)
+                .collect(Collectors.joining()) + " )";
+    }
+}
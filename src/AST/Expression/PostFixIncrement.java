@@ -1,6 +1,8 @@
 package AST.Expression;
 
-public class PostFixIncrement implements PostfixPart
+import AST.SourceNode;
+
+public class PostFixIncrement extends SourceNode implements PostfixPart
 {
     @Override
     public String toString() {
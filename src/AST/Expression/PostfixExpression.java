@@ -1,8 +1,9 @@
 package AST.Expression;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class PostfixExpression implements Expression {
+public class PostfixExpression extends SourceNode implements Expression {
     private final Expression _base;
     private final List<Object> _parts;
     public PostfixExpression(Expression base, List<Object> parts)
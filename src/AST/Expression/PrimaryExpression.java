@@ -2,8 +2,9 @@ package AST.Expression;
 
 import AST.ASTNode;
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class PrimaryExpression implements Expression
+public class PrimaryExpression extends SourceNode implements Expression
 {
     private final ASTNode _value;
     public PrimaryExpression(ASTNode value)
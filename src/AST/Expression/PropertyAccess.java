@@ -2,9 +2,10 @@ package AST.Expression;
 
 import AST.Expression.Expression;
 import AST.Expression.PostfixPart;
+import AST.SourceNode;
 import AST.Statement.Statement;
 
-public class PropertyAccess implements PostfixPart, Expression
+public class PropertyAccess extends SourceNode implements PostfixPart, Expression
 {
     private final String _property;
     public PropertyAccess(String property)
@@ -0,0 +1,17 @@
+package AST.Expression;
+
+/**
+ * A ?. member read from a template expression, which yields undefined instead of failing on a null receiver.
+ */
+public class SafePropertyAccess extends PropertyAccess
+{
+    public SafePropertyAccess(String property)
+    {
+        super(property);
+    }
+    @Override
+    public String toString()
+    {
+        return "?." + getProperty();
+    }
+}
@@ -0,0 +1,28 @@
+package AST.Expression;
+
+import AST.SourceNode;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The ;-separated statements of an event binding, as in (click)="select(item); close()", run in order.
+ */
+public class SequenceExpression extends SourceNode implements Expression
+{
+    private final List<Expression> _expressions;
+    public SequenceExpression(List<Expression> expressions)
+    {
+        _expressions = expressions;
+    }
+    public List<Expression> getExpressions()
+    {
+        return _expressions;
+    }
+    @Override
+    public String toString()
+    {
+        return "Sequence( " + _expressions.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining("; ")) + " )";
+    }
+}
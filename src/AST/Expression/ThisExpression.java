@@ -1,8 +1,9 @@
 package AST.Expression;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ThisExpression implements Expression
+public class ThisExpression extends SourceNode implements Expression
 {
     public String toString()
     {
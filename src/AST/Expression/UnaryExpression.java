@@ -1,8 +1,9 @@
 package AST.Expression;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class UnaryExpression implements Expression
+public class UnaryExpression extends SourceNode implements Expression
 {
     private final String _operator;
     private final Expression _expression;
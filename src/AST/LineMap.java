@@ -0,0 +1,64 @@
+package AST;
+
+import java.util.Arrays;
+
+/**
+ * Offsets at which each line of a source file starts, for turning SourceSpan offsets into the 1-based lines
+ * and 0-based columns ANTLR reports. Lines end at '\n'.
+ */
+public class LineMap {
+    private final int[] _lineStarts;
+
+    public LineMap(int[] lineStarts) {
+        _lineStarts = lineStarts;
+    }
+
+    public int getLineCount() {
+        return _lineStarts.length;
+    }
+
+    public int getLineStart(int line) {
+        return _lineStarts[line - 1];
+    }
+
+    public int line(int offset) {
+        int index = Arrays.binarySearch(_lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public int column(int offset) {
+        return offset - _lineStarts[line(offset) - 1];
+    }
+
+    /**
+     * Collects line starts while the source is read one code point at a time.
+     */
+    public static class Builder {
+        private int[] _lineStarts = new int[64];
+        private int _lines = 1;
+        private int _offset;
+
+        public void add(int codePoint) {
+            _offset++;
+            if (codePoint == '\n') {
+                addLineStart(_offset);
+            }
+        }
+
+        /**
+         * Records a line starting at offset, for sources that find their '\n's without going through add().
+         * Offsets have to be passed in increasing order.
+         */
+        public void addLineStart(int offset) {
+            if (_lines == _lineStarts.length) {
+                _lineStarts = Arrays.copyOf(_lineStarts, _lines * 2);
+            }
+            _lineStarts[_lines++] = offset;
+            _offset = offset;
+        }
+
+        public LineMap build() {
+            return new LineMap(Arrays.copyOf(_lineStarts, _lines));
+        }
+    }
+}
@@ -5,9 +5,10 @@ import AST.Statement.ImportStatement;
 
 import java.util.List;
 
-public class Program implements ASTNode {
+public class Program extends SourceNode {
     private final List<ImportStatement> _importStatements;
     private final List<ComponentDefinition> _components;
+    private LineMap _lineMap;
 
     public Program(List<ImportStatement> importStatements, List<ComponentDefinition> components) {
         _importStatements = importStatements;
@@ -22,6 +23,17 @@ public class Program implements ASTNode {
         return _components;
     }
 
+    /**
+     * Line starts of the source file the program was parsed from, or null if they were not recorded.
+     */
+    public LineMap getLineMap() {
+        return _lineMap;
+    }
+
+    public void setLineMap(LineMap lineMap) {
+        _lineMap = lineMap;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
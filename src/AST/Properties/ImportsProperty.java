@@ -3,9 +3,10 @@ package AST.Properties;
 import AST.ASTNode;
 import AST.Properties.ComponentProperty;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ImportsProperty implements ComponentProperty
+public class ImportsProperty extends SourceNode implements ComponentProperty
 {
     private final List<ASTNode> _imports;
     public ImportsProperty(List<ASTNode> imports)
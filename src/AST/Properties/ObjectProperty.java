@@ -1,9 +1,9 @@
 package AST.Properties;
 
-import AST.ASTNode;
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ObjectProperty implements ASTNode
+public class ObjectProperty extends SourceNode
 {
     private final String _key;
     private final Expression _value;
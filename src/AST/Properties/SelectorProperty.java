@@ -1,8 +1,9 @@
 package AST.Properties;
 
 import AST.Properties.ComponentProperty;
+import AST.SourceNode;
 
-public class SelectorProperty implements ComponentProperty
+public class SelectorProperty extends SourceNode implements ComponentProperty
 {
     private final String _value;
     public SelectorProperty(String value)
@@ -1,8 +1,9 @@
 package AST.Properties;
 
 import AST.Properties.ComponentProperty;
+import AST.SourceNode;
 
-public class StandaloneProperty implements ComponentProperty
+public class StandaloneProperty extends SourceNode implements ComponentProperty
 {
     private final boolean _value;
     public StandaloneProperty(boolean value)
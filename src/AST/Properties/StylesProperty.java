@@ -2,8 +2,9 @@ package AST.Properties;
 
 import AST.Properties.ComponentProperty;
 
+import AST.SourceNode;
 import java.util.List;
-public class StylesProperty implements ComponentProperty
+public class StylesProperty extends SourceNode implements ComponentProperty
 {
     private final List<String> _styles;
     public StylesProperty(List<String> styles) {
@@ -1,16 +1,24 @@
 package AST.Properties;
 
 import AST.Properties.ComponentProperty;
+import AST.SourceNode;
+import AST.Template.TemplateNode;
 
-public class TemplateProperty implements ComponentProperty
+import java.util.List;
+
+/**
+ * The template of a component as the node tree built while parsing it; the source text is only reachable
+ * through the node spans.
+ */
+public class TemplateProperty extends SourceNode implements ComponentProperty
 {
-    private final String _template;
-    public TemplateProperty(String template)
+    private final List<TemplateNode> _nodes;
+    public TemplateProperty(List<TemplateNode> nodes)
     {
-        _template = template;
+        _nodes = nodes;
     }
-    public String getTemplate() {
-        return _template;
+    public List<TemplateNode> getNodes() {
+        return _nodes;
     }
     @Override
     public String toString()
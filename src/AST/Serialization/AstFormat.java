@@ -0,0 +1,25 @@
+package AST.Serialization;
+
+/**
+ * Layout of the binary AST encoding shared by AstWriter and AstReader:
+ * <pre>
+ *   int    MAGIC
+ *   short  VERSION
+ *   varint string count, then per string: varint UTF-8 length, bytes
+ *   value  root (tag byte from NodeTag followed by the fields of that node, then its span)
+ * </pre>
+ * String fields are written as varint references into the string table (0 is null, n is entry n - 1),
+ * so every distinct identifier, operator or literal is stored once per file.
+ * A span is varint start + 1 followed by varint length, or a single 0 for a node without a span.
+ * A Program's last field is its line map: varint line count (0 for none), then the varint distance of each
+ * line start from the previous one.
+ * Template bindings and interpolations also carry the span of their expression, encoded the same way and
+ * followed by the parsed expression, and a binding's kind is one byte holding the BindingKind ordinal.
+ */
+public final class AstFormat {
+    public static final int MAGIC = 0x4E474153;
+    public static final short VERSION = 6;
+
+    private AstFormat() {
+    }
+}
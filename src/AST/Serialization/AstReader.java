@@ -0,0 +1,330 @@
+package AST.Serialization;
+
+import AST.ASTNode;
+import AST.LineMap;
+import AST.Declarations.*;
+import AST.Expression.*;
+import AST.Program;
+import AST.Properties.*;
+import AST.SourceSpan;
+import AST.Statement.*;
+import AST.Template.*;
+import AST.Types.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the format written by AstWriter directly from a ByteBuffer, which may be a memory-mapped file.
+ * Only the string table offsets are read eagerly; each string is decoded from the buffer the first time a node refers to it.
+ */
+public class AstReader {
+    private static final BindingKind[] BINDING_KINDS = BindingKind.values();
+
+    private final ByteBuffer _buffer;
+    private final int[] _stringOffsets;
+    private final int[] _stringLengths;
+    private final String[] _strings;
+
+    public AstReader(ByteBuffer buffer) {
+        _buffer = buffer.duplicate();
+
+        if (_buffer.remaining() < 6 || _buffer.getInt() != AstFormat.MAGIC) {
+            throw new IllegalArgumentException("Not an encoded AST");
+        }
+        short version = _buffer.getShort();
+        if (version != AstFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported AST format version " + version + ", expected " + AstFormat.VERSION);
+        }
+
+        int count = readVarInt();
+        _stringOffsets = new int[count];
+        _stringLengths = new int[count];
+        _strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = readVarInt();
+            _stringOffsets[i] = _buffer.position();
+            _stringLengths[i] = length;
+            _buffer.position(_buffer.position() + length);
+        }
+    }
+
+    public static Object read(byte[] bytes) {
+        return new AstReader(ByteBuffer.wrap(bytes)).readValue();
+    }
+
+    public static Program readProgram(ByteBuffer buffer) {
+        Object root = new AstReader(buffer).readValue();
+        if (!(root instanceof Program)) {
+            throw new IllegalArgumentException("Encoded AST does not contain a Program");
+        }
+        return (Program) root;
+    }
+
+    public static Program readProgram(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readProgram(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Object readValue() {
+        byte tag = _buffer.get();
+        switch (tag) {
+            case NodeTag.NULL:
+                return null;
+            case NodeTag.STRING:
+                return readString();
+            case NodeTag.LIST:
+                return readListBody();
+            case NodeTag.TRUE:
+                return Boolean.TRUE;
+            case NodeTag.FALSE:
+                return Boolean.FALSE;
+            default:
+                ASTNode node = readNode(tag);
+                node.setSpan(readSpan());
+                return node;
+        }
+    }
+
+    private long readSpan() {
+        int start = readVarInt();
+        return start == 0 ? SourceSpan.NONE : SourceSpan.of(start - 1, start - 1 + readVarInt());
+    }
+
+    private LineMap readLineMap() {
+        int count = readVarInt();
+        if (count == 0) {
+            return null;
+        }
+        int[] lineStarts = new int[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readVarInt();
+            lineStarts[i] = previous;
+        }
+        return new LineMap(lineStarts);
+    }
+
+    private ASTNode readNode(byte tag) {
+        switch (tag) {
+            case NodeTag.PROGRAM:
+                Program program = new Program(readList(), readList());
+                program.setLineMap(readLineMap());
+                return program;
+
+            // AST.Declarations
+            case NodeTag.CLASS_DECLARATION:
+                return new ClassDeclaration(readBoolean(), readString(), (ClassBody) readValue());
+            case NodeTag.COMPONENT_CONFIG:
+                return new ComponentConfig(readList());
+            case NodeTag.COMPONENT_DEFINITION:
+                return new ComponentDefinition((ComponentConfig) readValue(), (ClassDeclaration) readValue());
+            case NodeTag.FIELD_DECLARATION:
+                return new FieldDeclaration(readString(), (TypeAnnotation) readValue(), (Expression) readValue());
+            case NodeTag.IMPORT_ITEM:
+                return new ImportItem(readString());
+            case NodeTag.IMPORT_ITEMS:
+                return new ImportItems(readList());
+            case NodeTag.METHOD_DECLARATION:
+                return new MethodDeclaration(readString(), (TypeAnnotation) readValue(), (BlockStatement) readValue(), readList());
+            case NodeTag.PARAMETER:
+                return new Parameter(readString(), (TypeAnnotation) readValue());
+            case NodeTag.POSTFIX_INCREMENT:
+                return new PostfixIncrement();
+
+            // AST.Expression
+            case NodeTag.ARRAY_EXPRESSION:
+                return new ArrayExpression(readList());
+            case NodeTag.ARROW_FUNCTION_EXPRESSION:
+                return new ArrowFunctionExpression(readList(), (Expression) readValue());
+            case NodeTag.ASSIGNMENT_EXPRESSION:
+                return new AssignmentExpression((Expression) readValue(), (Expression) readValue());
+            case NodeTag.BINARY_EXPRESSION:
+                return new BinaryExpression((Expression) readValue(), readString(), (Expression) readValue());
+            case NodeTag.CONDITIONAL_EXPRESSION:
+                return new ConditionalExpression((Expression) readValue(), (Expression) readValue(), (Expression) readValue());
+            case NodeTag.FUNCTION_CALL_EXPRESSION:
+                return new FunctionCallExpression(readList());
+            case NodeTag.IDENTIFIER_EXPRESSION:
+                return new IdentifierExpression(readString());
+            case NodeTag.LITERAL_EXPRESSION:
+                return new LiteralExpression(readString());
+            case NodeTag.NEW_EXPRESSION:
+                return new NewExpression(readString(), readList());
+            case NodeTag.OBJECT_EXPRESSION:
+                return new ObjectExpression(readList());
+            case NodeTag.POSTFIX_INCREMENT_EXPRESSION:
+                return new PostFixIncrement();
+            case NodeTag.POSTFIX_EXPRESSION:
+                return new PostfixExpression((Expression) readValue(), readList());
+            case NodeTag.PRIMARY_EXPRESSION:
+                return new PrimaryExpression((ASTNode) readValue());
+            case NodeTag.SAFE_PROPERTY_ACCESS:
+                return new SafePropertyAccess(readString());
+            case NodeTag.KEYED_ACCESS:
+                return new KeyedAccess((Expression) readValue());
+            case NodeTag.PIPE_EXPRESSION:
+                return new PipeExpression((Expression) readValue(), readString(), readList());
+            case NodeTag.SEQUENCE_EXPRESSION:
+                return new SequenceExpression(readList());
+            case NodeTag.PROPERTY_ACCESS:
+                return new PropertyAccess(readString());
+            case NodeTag.THIS_EXPRESSION:
+                return new ThisExpression();
+            case NodeTag.UNARY_EXPRESSION:
+                return new UnaryExpression(readString(), (Expression) readValue());
+
+            // AST.Statement
+            case NodeTag.BLOCK_STATEMENT:
+                return new BlockStatement(readList());
+            case NodeTag.BREAK_STATEMENT:
+                return new BreakStatement();
+            case NodeTag.EMPTY_STATEMENT:
+                return new EmptyStatement();
+            case NodeTag.EXPRESSION_STATEMENT:
+                return new ExpressionStatement((Expression) readValue());
+            case NodeTag.FOR_STATEMENT:
+                return new ForStatement((Statement) readValue(), (Expression) readValue(), (Expression) readValue(), (Statement) readValue());
+            case NodeTag.IF_STATEMENT:
+                return new IfStatement((Expression) readValue(), (BlockStatement) readValue(), (BlockStatement) readValue());
+            case NodeTag.IMPORT_STATEMENT:
+                return new ImportStatement(readList(), readString());
+            case NodeTag.RETURN_STATEMENT:
+                return new ReturnStatement((Expression) readValue());
+            case NodeTag.VARIABLE_DECLARATION_STATEMENT:
+                return new VariableDeclarationStatement(readString(), (TypeAnnotation) readValue(), (Expression) readValue());
+            case NodeTag.WHILE_STATEMENT:
+                return new WhileStatement((Expression) readValue(), (Statement) readValue());
+
+            // AST.Types
+            case NodeTag.ANY_TYPE:
+                return new AnyType();
+            case NodeTag.BLOCK:
+                return new Block(readList());
+            case NodeTag.BOOLEAN_LITERAL:
+                return new BooleanLiteral(readBoolean());
+            case NodeTag.CLASS_BODY:
+                return new ClassBody(readList());
+            case NodeTag.FUNCTION_CALL:
+                return new FunctionCall(readList());
+            case NodeTag.IDENTIFIER_TYPE:
+                return new IdentifierType(readString());
+            case NodeTag.INLINE_OBJECT_TYPE:
+                return new InlineObjectType(readList());
+            case NodeTag.NUMERIC_LITERAL:
+                return new NumericLiteral(Double.longBitsToDouble(_buffer.getLong()));
+            case NodeTag.OBJECT_TYPE_MEMBER:
+                return new ObjectTypeMember(readString(), (TypeAnnotation) readValue());
+            case NodeTag.QUALIFIED_NAME:
+                return new QualifiedName(readList());
+            case NodeTag.STRING_LITERAL:
+                return new StringLiteral(readString());
+            case NodeTag.TYPE_ANNOTATION:
+                return new TypeAnnotation((TypePrimary) readValue(), readBoolean());
+
+            // AST.Properties
+            case NodeTag.IMPORTS_PROPERTY:
+                return new ImportsProperty(readList());
+            case NodeTag.OBJECT_PROPERTY:
+                return new ObjectProperty(readString(), (Expression) readValue());
+            case NodeTag.SELECTOR_PROPERTY:
+                return new SelectorProperty(readString());
+            case NodeTag.STANDALONE_PROPERTY:
+                return new StandaloneProperty(readBoolean());
+            case NodeTag.STYLES_PROPERTY:
+                return new StylesProperty(readList());
+            case NodeTag.TEMPLATE_PROPERTY:
+                return new TemplateProperty(readList());
+
+            // AST.Template
+            case NodeTag.TEMPLATE_ELEMENT:
+                return new TemplateElement(readString(), readList(), readList(), readList(), readBoolean());
+            case NodeTag.TEMPLATE_ATTRIBUTE:
+                return new TemplateAttribute(readString(), readString());
+            case NodeTag.TEMPLATE_BINDING:
+                return new TemplateBinding(BINDING_KINDS[_buffer.get()], readString(), readString(), readSpan(),
+                        (Expression) readValue());
+            case NodeTag.INTERPOLATION:
+                return new Interpolation(readString(), readSpan(), (Expression) readValue());
+            case NodeTag.TEMPLATE_TEXT:
+                return new TemplateText(readString());
+            case NodeTag.FOR_OF_EXPRESSION:
+                return new ForOfExpression(readString(), (Expression) readValue(), readList(), (Expression) readValue());
+            case NodeTag.TEMPLATE_VARIABLE:
+                return new TemplateVariable(readString(), readString());
+            case NodeTag.IF_EXPRESSION:
+                return new IfExpression((Expression) readValue(), readString(), readString(), readString());
+
+            default:
+                throw new IllegalArgumentException("Unknown AST node tag " + tag + " at offset " + (_buffer.position() - 1));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> readList() {
+        byte tag = _buffer.get();
+        if (tag == NodeTag.NULL) {
+            return null;
+        }
+        if (tag != NodeTag.LIST) {
+            throw new IllegalArgumentException("Expected a list at offset " + (_buffer.position() - 1));
+        }
+        return (List<T>) readListBody();
+    }
+
+    private List<Object> readListBody() {
+        int size = readVarInt();
+        List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readValue());
+        }
+        return values;
+    }
+
+    private boolean readBoolean() {
+        return _buffer.get() != 0;
+    }
+
+    private String readString() {
+        int reference = readVarInt();
+        if (reference == 0) {
+            return null;
+        }
+
+        int index = reference - 1;
+        String value = _strings[index];
+        if (value == null) {
+            value = decode(_stringOffsets[index], _stringLengths[index]);
+            _strings[index] = value;
+        }
+        return value;
+    }
+
+    private String decode(int offset, int length) {
+        if (_buffer.hasArray()) {
+            return new String(_buffer.array(), _buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        _buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = _buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,442 @@
+package AST.Serialization;
+
+import AST.ASTNode;
+import AST.LineMap;
+import AST.Declarations.*;
+import AST.Expression.*;
+import AST.Program;
+import AST.Properties.*;
+import AST.SourceSpan;
+import AST.Statement.*;
+import AST.Template.*;
+import AST.Types.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes an AST (or any value list/string/boolean tree that contains AST nodes) into the format described by AstFormat.
+ */
+public class AstWriter {
+    private final Map<String, Integer> _stringIndex = new HashMap<>();
+    private final List<String> _strings = new ArrayList<>();
+    private final ByteSink _nodes = new ByteSink(256);
+
+    public static byte[] toBytes(Object root) {
+        AstWriter writer = new AstWriter();
+        writer.writeValue(root);
+        return writer.finish();
+    }
+
+    public static void write(Object root, OutputStream out) throws IOException {
+        out.write(toBytes(root));
+    }
+
+    private byte[] finish() {
+        ByteSink header = new ByteSink(64 + _nodes.size());
+        header.writeInt(AstFormat.MAGIC);
+        header.writeShort(AstFormat.VERSION);
+        header.writeVarInt(_strings.size());
+        for (String value : _strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            header.writeVarInt(bytes.length);
+            header.writeBytes(bytes, bytes.length);
+        }
+        header.writeBytes(_nodes.array(), _nodes.size());
+        return header.toByteArray();
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            _nodes.writeVarInt(0);
+            return;
+        }
+        Integer index = _stringIndex.get(value);
+        if (index == null) {
+            index = _strings.size();
+            _strings.add(value);
+            _stringIndex.put(value, index);
+        }
+        _nodes.writeVarInt(index + 1);
+    }
+
+    private void writeBoolean(boolean value) {
+        _nodes.writeByte(value ? 1 : 0);
+    }
+
+    private void writeList(List<?> values) {
+        if (values == null) {
+            _nodes.writeByte(NodeTag.NULL);
+            return;
+        }
+        _nodes.writeByte(NodeTag.LIST);
+        _nodes.writeVarInt(values.size());
+        for (Object value : values) {
+            writeValue(value);
+        }
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            _nodes.writeByte(NodeTag.NULL);
+        } else if (value instanceof String) {
+            _nodes.writeByte(NodeTag.STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            _nodes.writeByte((Boolean) value ? NodeTag.TRUE : NodeTag.FALSE);
+        } else if (value instanceof List) {
+            writeList((List<?>) value);
+        } else if (value instanceof ASTNode) {
+            writeNode((ASTNode) value);
+            writeSpan(((ASTNode) value).getSpan());
+        } else {
+            throw new IllegalArgumentException("Cannot encode value of type " + value.getClass().getName());
+        }
+    }
+
+    private void writeSpan(long span) {
+        if (!SourceSpan.isKnown(span)) {
+            _nodes.writeVarInt(0);
+            return;
+        }
+        _nodes.writeVarInt(SourceSpan.start(span) + 1);
+        _nodes.writeVarInt(SourceSpan.length(span));
+    }
+
+    private void writeLineMap(LineMap lineMap) {
+        if (lineMap == null) {
+            _nodes.writeVarInt(0);
+            return;
+        }
+        _nodes.writeVarInt(lineMap.getLineCount());
+        int previous = 0;
+        for (int line = 1; line <= lineMap.getLineCount(); line++) {
+            _nodes.writeVarInt(lineMap.getLineStart(line) - previous);
+            previous = lineMap.getLineStart(line);
+        }
+    }
+
+    private void writeNode(ASTNode node) {
+        if (node instanceof Program n) {
+            _nodes.writeByte(NodeTag.PROGRAM);
+            writeList(n.getImportStatements());
+            writeList(n.getComponents());
+            writeLineMap(n.getLineMap());
+        }
+        // AST.Declarations
+        else if (node instanceof ClassDeclaration n) {
+            _nodes.writeByte(NodeTag.CLASS_DECLARATION);
+            writeBoolean(n.isExported());
+            writeString(n.getClassName());
+            writeValue(n.getClassBody());
+        } else if (node instanceof ComponentConfig n) {
+            _nodes.writeByte(NodeTag.COMPONENT_CONFIG);
+            writeList(n.getComponentProperties());
+        } else if (node instanceof ComponentDefinition n) {
+            _nodes.writeByte(NodeTag.COMPONENT_DEFINITION);
+            writeValue(n.getComponentConfig());
+            writeValue(n.getClassDeclaration());
+        } else if (node instanceof FieldDeclaration n) {
+            _nodes.writeByte(NodeTag.FIELD_DECLARATION);
+            writeString(n.getName());
+            writeValue(n.getType());
+            writeValue(n.getInitializer());
+        } else if (node instanceof ImportItem n) {
+            _nodes.writeByte(NodeTag.IMPORT_ITEM);
+            writeString(n.getIdentifier());
+        } else if (node instanceof ImportItems n) {
+            _nodes.writeByte(NodeTag.IMPORT_ITEMS);
+            writeList(n.getItems());
+        } else if (node instanceof MethodDeclaration n) {
+            _nodes.writeByte(NodeTag.METHOD_DECLARATION);
+            writeString(n.getMethodName());
+            writeValue(n.getReturnType());
+            writeValue(n.getBlock());
+            writeList(n.getParameters());
+        } else if (node instanceof Parameter n) {
+            _nodes.writeByte(NodeTag.PARAMETER);
+            writeString(n.getName());
+            writeValue(n.getType());
+        } else if (node instanceof PostfixIncrement) {
+            _nodes.writeByte(NodeTag.POSTFIX_INCREMENT);
+        }
+        // AST.Expression
+        else if (node instanceof ArrayExpression n) {
+            _nodes.writeByte(NodeTag.ARRAY_EXPRESSION);
+            writeList(n.getElements());
+        } else if (node instanceof ArrowFunctionExpression n) {
+            _nodes.writeByte(NodeTag.ARROW_FUNCTION_EXPRESSION);
+            writeList(n.getParams());
+            writeValue(n.getBody());
+        } else if (node instanceof AssignmentExpression n) {
+            _nodes.writeByte(NodeTag.ASSIGNMENT_EXPRESSION);
+            writeValue(n.getTarget());
+            writeValue(n.getValue());
+        } else if (node instanceof BinaryExpression n) {
+            _nodes.writeByte(NodeTag.BINARY_EXPRESSION);
+            writeValue(n.getLeft());
+            writeString(n.getOperator());
+            writeValue(n.getRight());
+        } else if (node instanceof ConditionalExpression n) {
+            _nodes.writeByte(NodeTag.CONDITIONAL_EXPRESSION);
+            writeValue(n.getCondition());
+            writeValue(n.getTrueExpr());
+            writeValue(n.getFalseExpr());
+        } else if (node instanceof FunctionCallExpression n) {
+            _nodes.writeByte(NodeTag.FUNCTION_CALL_EXPRESSION);
+            writeList(n.getArguments());
+        } else if (node instanceof KeyedAccess n) {
+            _nodes.writeByte(NodeTag.KEYED_ACCESS);
+            writeValue(n.getKey());
+        } else if (node instanceof PipeExpression n) {
+            _nodes.writeByte(NodeTag.PIPE_EXPRESSION);
+            writeValue(n.getInput());
+            writeString(n.getName());
+            writeList(n.getArguments());
+        } else if (node instanceof SequenceExpression n) {
+            _nodes.writeByte(NodeTag.SEQUENCE_EXPRESSION);
+            writeList(n.getExpressions());
+        } else if (node instanceof IdentifierExpression n) {
+            _nodes.writeByte(NodeTag.IDENTIFIER_EXPRESSION);
+            writeString(n.getName());
+        } else if (node instanceof LiteralExpression n) {
+            _nodes.writeByte(NodeTag.LITERAL_EXPRESSION);
+            writeString(n.getValue());
+        } else if (node instanceof NewExpression n) {
+            _nodes.writeByte(NodeTag.NEW_EXPRESSION);
+            writeString(n.getClassName());
+            writeList(n.getArguments());
+        } else if (node instanceof ObjectExpression n) {
+            _nodes.writeByte(NodeTag.OBJECT_EXPRESSION);
+            writeList(n.getProperties());
+        } else if (node instanceof PostFixIncrement) {
+            _nodes.writeByte(NodeTag.POSTFIX_INCREMENT_EXPRESSION);
+        } else if (node instanceof PostfixExpression n) {
+            _nodes.writeByte(NodeTag.POSTFIX_EXPRESSION);
+            writeValue(n.getBase());
+            writeList(n.getParts());
+        } else if (node instanceof PrimaryExpression n) {
+            _nodes.writeByte(NodeTag.PRIMARY_EXPRESSION);
+            writeValue(n.getValue());
+        } else if (node instanceof SafePropertyAccess n) {
+            _nodes.writeByte(NodeTag.SAFE_PROPERTY_ACCESS);
+            writeString(n.getProperty());
+        } else if (node instanceof PropertyAccess n) {
+            _nodes.writeByte(NodeTag.PROPERTY_ACCESS);
+            writeString(n.getProperty());
+        } else if (node instanceof ThisExpression) {
+            _nodes.writeByte(NodeTag.THIS_EXPRESSION);
+        } else if (node instanceof UnaryExpression n) {
+            _nodes.writeByte(NodeTag.UNARY_EXPRESSION);
+            writeString(n.getOperator());
+            writeValue(n.getExpression());
+        }
+        // AST.Statement
+        else if (node instanceof BlockStatement n) {
+            _nodes.writeByte(NodeTag.BLOCK_STATEMENT);
+            writeList(n.getStatements());
+        } else if (node instanceof BreakStatement) {
+            _nodes.writeByte(NodeTag.BREAK_STATEMENT);
+        } else if (node instanceof EmptyStatement) {
+            _nodes.writeByte(NodeTag.EMPTY_STATEMENT);
+        } else if (node instanceof ExpressionStatement n) {
+            _nodes.writeByte(NodeTag.EXPRESSION_STATEMENT);
+            writeValue(n.getExpression());
+        } else if (node instanceof ForStatement n) {
+            _nodes.writeByte(NodeTag.FOR_STATEMENT);
+            writeValue(n.getInitializer());
+            writeValue(n.getCondition());
+            writeValue(n.getUpdate());
+            writeValue(n.getBody());
+        } else if (node instanceof IfStatement n) {
+            _nodes.writeByte(NodeTag.IF_STATEMENT);
+            writeValue(n.getCondition());
+            writeValue(n.getThenBranch());
+            writeValue(n.getElseBranch());
+        } else if (node instanceof ImportStatement n) {
+            _nodes.writeByte(NodeTag.IMPORT_STATEMENT);
+            writeList(n.getImportItems());
+            writeString(n.getModulePath());
+        } else if (node instanceof ReturnStatement n) {
+            _nodes.writeByte(NodeTag.RETURN_STATEMENT);
+            writeValue(n.getExpression());
+        } else if (node instanceof VariableDeclarationStatement n) {
+            _nodes.writeByte(NodeTag.VARIABLE_DECLARATION_STATEMENT);
+            writeString(n.getName());
+            writeValue(n.getType());
+            writeValue(n.getInitializer());
+        } else if (node instanceof WhileStatement n) {
+            _nodes.writeByte(NodeTag.WHILE_STATEMENT);
+            writeValue(n.getCondition());
+            writeValue(n.getBody());
+        }
+        // AST.Types
+        else if (node instanceof AnyType) {
+            _nodes.writeByte(NodeTag.ANY_TYPE);
+        } else if (node instanceof Block n) {
+            _nodes.writeByte(NodeTag.BLOCK);
+            writeList(n.getStatements());
+        } else if (node instanceof BooleanLiteral n) {
+            _nodes.writeByte(NodeTag.BOOLEAN_LITERAL);
+            writeBoolean(n.getValue());
+        } else if (node instanceof ClassBody n) {
+            _nodes.writeByte(NodeTag.CLASS_BODY);
+            writeList(n.getClassMembers());
+        } else if (node instanceof FunctionCall n) {
+            _nodes.writeByte(NodeTag.FUNCTION_CALL);
+            writeList(n.getArguments());
+        } else if (node instanceof IdentifierType n) {
+            _nodes.writeByte(NodeTag.IDENTIFIER_TYPE);
+            writeString(n.getName());
+        } else if (node instanceof InlineObjectType n) {
+            _nodes.writeByte(NodeTag.INLINE_OBJECT_TYPE);
+            writeList(n.getMembers());
+        } else if (node instanceof NumericLiteral n) {
+            _nodes.writeByte(NodeTag.NUMERIC_LITERAL);
+            _nodes.writeLong(Double.doubleToRawLongBits(n.getValue()));
+        } else if (node instanceof ObjectTypeMember n) {
+            _nodes.writeByte(NodeTag.OBJECT_TYPE_MEMBER);
+            writeString(n.getName());
+            writeValue(n.getType());
+        } else if (node instanceof QualifiedName n) {
+            _nodes.writeByte(NodeTag.QUALIFIED_NAME);
+            writeList(n.getParts());
+        } else if (node instanceof StringLiteral n) {
+            _nodes.writeByte(NodeTag.STRING_LITERAL);
+            writeString(n.getValue());
+        } else if (node instanceof TypeAnnotation n) {
+            _nodes.writeByte(NodeTag.TYPE_ANNOTATION);
+            writeValue(n.getPrimaryType());
+            writeBoolean(n.isArray());
+        }
+        // AST.Properties
+        else if (node instanceof ImportsProperty n) {
+            _nodes.writeByte(NodeTag.IMPORTS_PROPERTY);
+            writeList(n.getImports());
+        } else if (node instanceof ObjectProperty n) {
+            _nodes.writeByte(NodeTag.OBJECT_PROPERTY);
+            writeString(n.getKey());
+            writeValue(n.getValue());
+        } else if (node instanceof SelectorProperty n) {
+            _nodes.writeByte(NodeTag.SELECTOR_PROPERTY);
+            writeString(n.getValue());
+        } else if (node instanceof StandaloneProperty n) {
+            _nodes.writeByte(NodeTag.STANDALONE_PROPERTY);
+            writeBoolean(n.getValue());
+        } else if (node instanceof StylesProperty n) {
+            _nodes.writeByte(NodeTag.STYLES_PROPERTY);
+            writeList(n.getStyles());
+        } else if (node instanceof TemplateProperty n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_PROPERTY);
+            writeList(n.getNodes());
+        }
+        // AST.Template
+        else if (node instanceof TemplateElement n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_ELEMENT);
+            writeString(n.getTagName());
+            writeList(n.getAttributes());
+            writeList(n.getBindings());
+            writeList(n.getChildren());
+            writeBoolean(n.isSelfClosing());
+        } else if (node instanceof TemplateAttribute n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_ATTRIBUTE);
+            writeString(n.getName());
+            writeString(n.getValue());
+        } else if (node instanceof TemplateBinding n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_BINDING);
+            _nodes.writeByte(n.getKind().ordinal());
+            writeString(n.getName());
+            writeString(n.getExpression());
+            writeSpan(n.getExpressionSpan());
+            writeValue(n.getValue());
+        } else if (node instanceof Interpolation n) {
+            _nodes.writeByte(NodeTag.INTERPOLATION);
+            writeString(n.getExpression());
+            writeSpan(n.getExpressionSpan());
+            writeValue(n.getValue());
+        } else if (node instanceof TemplateText n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_TEXT);
+            writeString(n.getText());
+        } else if (node instanceof ForOfExpression n) {
+            _nodes.writeByte(NodeTag.FOR_OF_EXPRESSION);
+            writeString(n.getItemName());
+            writeValue(n.getIterable());
+            writeList(n.getVariables());
+            writeValue(n.getTrackBy());
+        } else if (node instanceof TemplateVariable n) {
+            _nodes.writeByte(NodeTag.TEMPLATE_VARIABLE);
+            writeString(n.getName());
+            writeString(n.getContextName());
+        } else if (node instanceof IfExpression n) {
+            _nodes.writeByte(NodeTag.IF_EXPRESSION);
+            writeValue(n.getCondition());
+            writeString(n.getAlias());
+            writeString(n.getThenReference());
+            writeString(n.getElseReference());
+        } else {
+            throw new IllegalArgumentException("Cannot encode AST node " + node.getClass().getName());
+        }
+    }
+
+    private static class ByteSink {
+        private byte[] _bytes;
+        private int _size;
+
+        ByteSink(int capacity) {
+            _bytes = new byte[capacity];
+        }
+
+        byte[] array() { return _bytes; }
+        int size() { return _size; }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(_bytes, _size);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            _bytes[_size++] = (byte) value;
+        }
+
+        void writeShort(int value) {
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        void writeInt(int value) {
+            writeShort(value >>> 16);
+            writeShort(value);
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void writeBytes(byte[] bytes, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, 0, _bytes, _size, length);
+            _size += length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (_size + extra > _bytes.length) {
+                _bytes = Arrays.copyOf(_bytes, Math.max(_bytes.length * 2, _size + extra));
+            }
+        }
+    }
+}
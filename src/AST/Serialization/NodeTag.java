@@ -0,0 +1,89 @@
+package AST.Serialization;
+
+/**
+ * One-byte tags of the binary AST format. Every value in the node stream starts with one of these.
+ * Tags are part of the format: never renumber them, append new ones and bump AstFormat.VERSION instead.
+ */
+final class NodeTag {
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte LIST = 2;
+    static final byte TRUE = 3;
+    static final byte FALSE = 4;
+
+    static final byte PROGRAM = 10;
+
+    static final byte CLASS_DECLARATION = 20;
+    static final byte COMPONENT_CONFIG = 21;
+    static final byte COMPONENT_DEFINITION = 22;
+    static final byte FIELD_DECLARATION = 23;
+    static final byte IMPORT_ITEM = 24;
+    static final byte IMPORT_ITEMS = 25;
+    static final byte METHOD_DECLARATION = 26;
+    static final byte PARAMETER = 27;
+    static final byte POSTFIX_INCREMENT = 28;
+
+    static final byte ARRAY_EXPRESSION = 40;
+    static final byte ARROW_FUNCTION_EXPRESSION = 41;
+    static final byte ASSIGNMENT_EXPRESSION = 42;
+    static final byte BINARY_EXPRESSION = 43;
+    static final byte CONDITIONAL_EXPRESSION = 44;
+    static final byte FUNCTION_CALL_EXPRESSION = 45;
+    static final byte IDENTIFIER_EXPRESSION = 46;
+    static final byte LITERAL_EXPRESSION = 47;
+    static final byte NEW_EXPRESSION = 48;
+    static final byte OBJECT_EXPRESSION = 49;
+    static final byte POSTFIX_INCREMENT_EXPRESSION = 50;
+    static final byte POSTFIX_EXPRESSION = 51;
+    static final byte PRIMARY_EXPRESSION = 52;
+    static final byte PROPERTY_ACCESS = 53;
+    static final byte THIS_EXPRESSION = 54;
+    static final byte UNARY_EXPRESSION = 55;
+    static final byte SAFE_PROPERTY_ACCESS = 56;
+    static final byte KEYED_ACCESS = 57;
+    static final byte PIPE_EXPRESSION = 58;
+    static final byte SEQUENCE_EXPRESSION = 59;
+
+    static final byte BLOCK_STATEMENT = 70;
+    static final byte BREAK_STATEMENT = 71;
+    static final byte EMPTY_STATEMENT = 72;
+    static final byte EXPRESSION_STATEMENT = 73;
+    static final byte FOR_STATEMENT = 74;
+    static final byte IF_STATEMENT = 75;
+    static final byte IMPORT_STATEMENT = 76;
+    static final byte RETURN_STATEMENT = 77;
+    static final byte VARIABLE_DECLARATION_STATEMENT = 78;
+    static final byte WHILE_STATEMENT = 79;
+
+    static final byte ANY_TYPE = 90;
+    static final byte BLOCK = 91;
+    static final byte BOOLEAN_LITERAL = 92;
+    static final byte CLASS_BODY = 93;
+    static final byte FUNCTION_CALL = 94;
+    static final byte IDENTIFIER_TYPE = 95;
+    static final byte INLINE_OBJECT_TYPE = 96;
+    static final byte NUMERIC_LITERAL = 97;
+    static final byte OBJECT_TYPE_MEMBER = 98;
+    static final byte QUALIFIED_NAME = 99;
+    static final byte STRING_LITERAL = 100;
+    static final byte TYPE_ANNOTATION = 101;
+
+    static final byte IMPORTS_PROPERTY = 110;
+    static final byte OBJECT_PROPERTY = 111;
+    static final byte SELECTOR_PROPERTY = 112;
+    static final byte STANDALONE_PROPERTY = 113;
+    static final byte STYLES_PROPERTY = 114;
+    static final byte TEMPLATE_PROPERTY = 115;
+
+    static final byte TEMPLATE_ELEMENT = 120;
+    static final byte TEMPLATE_ATTRIBUTE = 121;
+    static final byte TEMPLATE_BINDING = 122;
+    static final byte INTERPOLATION = 123;
+    static final byte TEMPLATE_TEXT = 124;
+    static final byte FOR_OF_EXPRESSION = 125;
+    static final byte TEMPLATE_VARIABLE = 126;
+    static final byte IF_EXPRESSION = 127;
+
+    private NodeTag() {
+    }
+}
@@ -0,0 +1,19 @@
+package AST;
+
+/**
+ * Base class of every AST node; holds the node's source span so later passes need neither the parse tree
+ * nor the token stream to locate it.
+ */
+public abstract class SourceNode implements ASTNode {
+    private long _span = SourceSpan.NONE;
+
+    @Override
+    public long getSpan() {
+        return _span;
+    }
+
+    @Override
+    public void setSpan(long span) {
+        _span = span;
+    }
+}
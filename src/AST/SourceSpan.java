@@ -0,0 +1,50 @@
+package AST;
+
+/**
+ * Start and end offset of a node packed into one long: the start in the high 32 bits and the exclusive end in
+ * the low 32 bits. Offsets count code points from the start of the file, like ANTLR token indexes; a LineMap
+ * turns them into lines and columns.
+ */
+public final class SourceSpan {
+    public static final long NONE = -1L;
+
+    private SourceSpan() {
+    }
+
+    public static long of(int start, int end) {
+        return (long) start << 32 | (end & 0xFFFFFFFFL);
+    }
+
+    public static int start(long span) {
+        return (int) (span >>> 32);
+    }
+
+    public static int end(long span) {
+        return (int) span;
+    }
+
+    public static int length(long span) {
+        return end(span) - start(span);
+    }
+
+    public static boolean isKnown(long span) {
+        return span != NONE;
+    }
+
+    /**
+     * The smallest span containing both spans; an unknown span is ignored.
+     */
+    public static long cover(long first, long second) {
+        if (!isKnown(first)) {
+            return second;
+        }
+        if (!isKnown(second)) {
+            return first;
+        }
+        return of(Math.min(start(first), start(second)), Math.max(end(first), end(second)));
+    }
+
+    public static String toString(long span) {
+        return isKnown(span) ? "[" + start(span) + ", " + end(span) + ")" : "[unknown]";
+    }
+}
@@ -1,7 +1,8 @@
 package AST.Statement;
 
+import AST.SourceNode;
 import java.util.List;
-public class BlockStatement implements Statement
+public class BlockStatement extends SourceNode implements Statement
 {
     private final List<Statement> _statements;
     public BlockStatement(List<Statement> statements)
@@ -1,6 +1,8 @@
 package AST.Statement;
 
-public class BreakStatement implements Statement {
+import AST.SourceNode;
+
+public class BreakStatement extends SourceNode implements Statement {
     @Override
     public String toString()
     {
@@ -1,5 +1,8 @@
 package AST.Statement;
-public class EmptyStatement implements Statement
+
+import AST.SourceNode;
+
+public class EmptyStatement extends SourceNode implements Statement
 {
     @Override
     public String toString()
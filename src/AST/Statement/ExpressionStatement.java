@@ -1,8 +1,9 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ExpressionStatement implements Statement
+public class ExpressionStatement extends SourceNode implements Statement
 {
     private final Expression _expression;
     public ExpressionStatement(Expression expression)
@@ -1,8 +1,9 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ForStatement implements Statement
+public class ForStatement extends SourceNode implements Statement
 {
     private final Statement _initializer;
     private final Expression _condition;
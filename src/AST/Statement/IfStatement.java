@@ -1,8 +1,9 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class IfStatement implements Statement
+public class IfStatement extends SourceNode implements Statement
 {
     private final Expression _condition;
     private final BlockStatement _thenBranch;
@@ -1,11 +1,11 @@
 package AST.Statement;
 
-import AST.ASTNode;
 import AST.Declarations.ImportItem;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class ImportStatement implements ASTNode
+public class ImportStatement extends SourceNode
 {
     private final List<ImportItem> _importItems;
     private final String _modulePath;
@@ -1,8 +1,9 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class ReturnStatement implements Statement
+public class ReturnStatement extends SourceNode implements Statement
 {
     private final Expression _expression; // can be null
     public ReturnStatement(Expression expression)
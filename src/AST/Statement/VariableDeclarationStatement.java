@@ -1,9 +1,10 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 import AST.Types.TypeAnnotation;
 
-public class VariableDeclarationStatement implements Statement
+public class VariableDeclarationStatement extends SourceNode implements Statement
 {
     private final String _name;
     private final TypeAnnotation _type; // can be null
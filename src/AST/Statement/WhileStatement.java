@@ -1,8 +1,9 @@
 package AST.Statement;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class WhileStatement implements Statement
+public class WhileStatement extends SourceNode implements Statement
 {
     private final Expression _condition;
     private final Statement _body;
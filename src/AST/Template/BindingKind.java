@@ -0,0 +1,26 @@
+package AST.Template;
+
+/**
+ * The attribute syntaxes that bind a template expression: [name], (name), [(name)] and *name.
+ */
+public enum BindingKind
+{
+    PROPERTY("[", "]"),
+    EVENT("(", ")"),
+    TWO_WAY("[(", ")]"),
+    STRUCTURAL("*", "");
+
+    private final String _prefix;
+    private final String _suffix;
+
+    BindingKind(String prefix, String suffix)
+    {
+        _prefix = prefix;
+        _suffix = suffix;
+    }
+
+    public String format(String name)
+    {
+        return _prefix + name + _suffix;
+    }
+}
@@ -0,0 +1,52 @@
+package AST.Template;
+
+import AST.Expression.Expression;
+import AST.SourceNode;
+
+import java.util.List;
+
+/**
+ * The value of a repeater directive such as *ngFor="let item of items; let i = index; trackBy: byId".
+ */
+public class ForOfExpression extends SourceNode implements Expression
+{
+    private final String _itemName;
+    private final Expression _iterable;
+    private final List<TemplateVariable> _variables;
+    private final Expression _trackBy;
+    public ForOfExpression(String itemName, Expression iterable, List<TemplateVariable> variables, Expression trackBy)
+    {
+        _itemName = itemName;
+        _iterable = iterable;
+        _variables = variables;
+        _trackBy = trackBy;
+    }
+    public String getItemName()
+    {
+        return _itemName;
+    }
+    public Expression getIterable()
+    {
+        return _iterable;
+    }
+    public List<TemplateVariable> getVariables()
+    {
+        return _variables;
+    }
+    public Expression getTrackBy()
+    {
+        return _trackBy;
+    }
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("let " + _itemName + " of " + _iterable);
+        for (TemplateVariable variable : _variables) {
+            builder.append("; ").append(variable);
+        }
+        if (_trackBy != null) {
+            builder.append("; trackBy: ").append(_trackBy);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package AST.Template;
+
+import AST.Expression.Expression;
+import AST.SourceNode;
+
+/**
+ * The value of a conditional directive written with microsyntax, such as *ngIf="user | async as user; else loading".
+ * The alias, then and else references are null when absent; the references name ng-template elements.
+ */
+public class IfExpression extends SourceNode implements Expression
+{
+    private final Expression _condition;
+    private final String _alias;
+    private final String _thenReference;
+    private final String _elseReference;
+    public IfExpression(Expression condition, String alias, String thenReference, String elseReference)
+    {
+        _condition = condition;
+        _alias = alias;
+        _thenReference = thenReference;
+        _elseReference = elseReference;
+    }
+    public Expression getCondition()
+    {
+        return _condition;
+    }
+    public String getAlias()
+    {
+        return _alias;
+    }
+    public String getThenReference()
+    {
+        return _thenReference;
+    }
+    public String getElseReference()
+    {
+        return _elseReference;
+    }
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder(String.valueOf(_condition));
+        if (_alias != null) {
+            builder.append(" as ").append(_alias);
+        }
+        if (_thenReference != null) {
+            builder.append("; then ").append(_thenReference);
+        }
+        if (_elseReference != null) {
+            builder.append("; else ").append(_elseReference);
+        }
+        return builder.toString();
+    }
+}
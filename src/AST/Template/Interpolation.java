@@ -0,0 +1,38 @@
+package AST.Template;
+
+import AST.Expression.Expression;
+import AST.SourceNode;
+
+/**
+ * A {{ expression }} in template text. The expression is stored without the braces and surrounding blanks,
+ * and parsed into the value as for TemplateBinding.
+ */
+public class Interpolation extends SourceNode implements TemplateNode
+{
+    private final String _expression;
+    private final long _expressionSpan;
+    private final Expression _value;
+    public Interpolation(String expression, long expressionSpan, Expression value)
+    {
+        _expression = expression;
+        _expressionSpan = expressionSpan;
+        _value = value;
+    }
+    public String getExpression()
+    {
+        return _expression;
+    }
+    public long getExpressionSpan()
+    {
+        return _expressionSpan;
+    }
+    public Expression getValue()
+    {
+        return _value;
+    }
+    @Override
+    public String toString()
+    {
+        return "{{ " + _expression + " }}";
+    }
+}
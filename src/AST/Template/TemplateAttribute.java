@@ -0,0 +1,30 @@
+package AST.Template;
+
+import AST.SourceNode;
+
+/**
+ * A static attribute such as class="card" or a bare required; the value is unquoted and null when absent.
+ */
+public class TemplateAttribute extends SourceNode
+{
+    private final String _name;
+    private final String _value;
+    public TemplateAttribute(String name, String value)
+    {
+        _name = name;
+        _value = value;
+    }
+    public String getName()
+    {
+        return _name;
+    }
+    public String getValue()
+    {
+        return _value;
+    }
+    @Override
+    public String toString()
+    {
+        return _value == null ? _name : _name + "=\"" + _value + "\"";
+    }
+}
@@ -0,0 +1,52 @@
+package AST.Template;
+
+import AST.Expression.Expression;
+import AST.SourceNode;
+
+/**
+ * A bound attribute. The expression is the unquoted attribute value; its span locates it in the source,
+ * separately from the span of the whole attribute. The value is the parsed expression, or null if it has
+ * syntax errors; it may be shared with other bindings of the same text, and its spans count from the start
+ * of the expression span.
+ */
+public class TemplateBinding extends SourceNode
+{
+    private final BindingKind _kind;
+    private final String _name;
+    private final String _expression;
+    private final long _expressionSpan;
+    private final Expression _value;
+    public TemplateBinding(BindingKind kind, String name, String expression, long expressionSpan, Expression value)
+    {
+        _kind = kind;
+        _name = name;
+        _expression = expression;
+        _expressionSpan = expressionSpan;
+        _value = value;
+    }
+    public BindingKind getKind()
+    {
+        return _kind;
+    }
+    public String getName()
+    {
+        return _name;
+    }
+    public String getExpression()
+    {
+        return _expression;
+    }
+    public long getExpressionSpan()
+    {
+        return _expressionSpan;
+    }
+    public Expression getValue()
+    {
+        return _value;
+    }
+    @Override
+    public String toString()
+    {
+        return _kind.format(_name) + "=\"" + _expression + "\"";
+    }
+}
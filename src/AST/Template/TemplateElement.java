@@ -0,0 +1,62 @@
+package AST.Template;
+
+import AST.SourceNode;
+
+import java.util.List;
+
+public class TemplateElement extends SourceNode implements TemplateNode
+{
+    private final String _tagName;
+    private final List<TemplateAttribute> _attributes;
+    private final List<TemplateBinding> _bindings;
+    private final List<TemplateNode> _children;
+    private final boolean _selfClosing;
+    public TemplateElement(String tagName, List<TemplateAttribute> attributes, List<TemplateBinding> bindings,
+                           List<TemplateNode> children, boolean selfClosing)
+    {
+        _tagName = tagName;
+        _attributes = attributes;
+        _bindings = bindings;
+        _children = children;
+        _selfClosing = selfClosing;
+    }
+    public String getTagName()
+    {
+        return _tagName;
+    }
+    public List<TemplateAttribute> getAttributes()
+    {
+        return _attributes;
+    }
+    public List<TemplateBinding> getBindings()
+    {
+        return _bindings;
+    }
+    public List<TemplateNode> getChildren()
+    {
+        return _children;
+    }
+    public boolean isSelfClosing()
+    {
+        return _selfClosing;
+    }
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("<" + _tagName);
+        for (TemplateAttribute attribute : _attributes) {
+            builder.append(' ').append(attribute);
+        }
+        for (TemplateBinding binding : _bindings) {
+            builder.append(' ').append(binding);
+        }
+        if (_selfClosing) {
+            return builder.append(" />").toString();
+        }
+        builder.append('>');
+        for (TemplateNode child : _children) {
+            builder.append(child);
+        }
+        return builder.append("</").append(_tagName).append('>').toString();
+    }
+}
@@ -0,0 +1,11 @@
+package AST.Template;
+
+import AST.ASTNode;
+
+/**
+ * A node of a component template: an element, a run of text or an interpolation.
+ */
+public interface TemplateNode extends ASTNode
+{
+
+}
@@ -0,0 +1,21 @@
+package AST.Template;
+
+import AST.SourceNode;
+
+public class TemplateText extends SourceNode implements TemplateNode
+{
+    private final String _text;
+    public TemplateText(String text)
+    {
+        _text = text;
+    }
+    public String getText()
+    {
+        return _text;
+    }
+    @Override
+    public String toString()
+    {
+        return _text;
+    }
+}
@@ -0,0 +1,31 @@
+package AST.Template;
+
+import AST.SourceNode;
+
+/**
+ * A local declared by directive microsyntax, such as i in let i = index or in index as i; the context name
+ * is the directive's exported value it refers to.
+ */
+public class TemplateVariable extends SourceNode
+{
+    private final String _name;
+    private final String _contextName;
+    public TemplateVariable(String name, String contextName)
+    {
+        _name = name;
+        _contextName = contextName;
+    }
+    public String getName()
+    {
+        return _name;
+    }
+    public String getContextName()
+    {
+        return _contextName;
+    }
+    @Override
+    public String toString()
+    {
+        return "let " + _name + " = " + _contextName;
+    }
+}
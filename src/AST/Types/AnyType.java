@@ -1,8 +1,8 @@
 package AST.Types;
 
-import AST.ASTNode;
+import AST.SourceNode;
 
-public class AnyType implements ASTNode
+public class AnyType extends SourceNode
 {
     @Override
     public String toString()
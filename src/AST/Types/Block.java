@@ -1,11 +1,12 @@
 package AST.Types;
 
 import AST.ASTNode;
+import AST.SourceNode;
 import AST.Statement.Statement;
 
 import java.util.List;
 
-public class Block implements Statement
+public class Block extends SourceNode implements Statement
 {
     private final List<Statement> _statements;
     public Block(List<Statement> statements)
@@ -1,8 +1,9 @@
 package AST.Types;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class BooleanLiteral implements Expression
+public class BooleanLiteral extends SourceNode implements Expression
 {
     private final boolean _value;
     public BooleanLiteral(boolean value)
@@ -1,11 +1,11 @@
 package AST.Types;
 
-import AST.ASTNode;
 import AST.Declarations.ClassDeclaration;
 import AST.Declarations.ClassMember;
 
+import AST.SourceNode;
 import java.util.List;
-public class ClassBody implements ASTNode
+public class ClassBody extends SourceNode
 {
     private final List<ClassMember> _classMembers;
 
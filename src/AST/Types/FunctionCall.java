@@ -3,11 +3,12 @@ package AST.Types;
 import AST.Expression.Expression;
 import AST.Expression.PostfixPart;
 
+import AST.SourceNode;
 import java.util.List;
 import java.util.stream.Collectors;
 
 
-public class FunctionCall implements PostfixPart
+public class FunctionCall extends SourceNode implements PostfixPart
 {
     private final List<Expression> _arguments;
     public FunctionCall(List<Expression> arguments)
@@ -1,6 +1,8 @@
 package AST.Types;
 
-public class IdentifierType implements TypePrimary
+import AST.SourceNode;
+
+public class IdentifierType extends SourceNode implements TypePrimary
 {
     private final String _name;
     public IdentifierType(String name)
@@ -1,8 +1,9 @@
 package AST.Types;
 
+import AST.SourceNode;
 import java.util.List;
 
-public class InlineObjectType implements TypePrimary
+public class InlineObjectType extends SourceNode implements TypePrimary
 {
     private final List<ObjectTypeMember> _members;
     public InlineObjectType(List<ObjectTypeMember> members)
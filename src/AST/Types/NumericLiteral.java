@@ -1,8 +1,9 @@
 package AST.Types;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class NumericLiteral implements Expression
+public class NumericLiteral extends SourceNode implements Expression
 {
     private final double _value;
     public NumericLiteral(double value)
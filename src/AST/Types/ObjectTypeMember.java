@@ -1,8 +1,8 @@
 package AST.Types;
 
-import AST.ASTNode;
+import AST.SourceNode;
 
-public class ObjectTypeMember implements ASTNode
+public class ObjectTypeMember extends SourceNode
 {
     private final String _name;
     private final TypeAnnotation _type;
@@ -1,11 +1,11 @@
 package AST.Types;
 
-import AST.ASTNode;
 
+import AST.SourceNode;
 import java.util.List;
 import java.util.StringJoiner;
 
-public class QualifiedName implements ASTNode
+public class QualifiedName extends SourceNode
 {
     private final List<String> _parts;
     public QualifiedName(List<String> parts) {
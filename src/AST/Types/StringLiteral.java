@@ -1,8 +1,9 @@
 package AST.Types;
 
 import AST.Expression.Expression;
+import AST.SourceNode;
 
-public class StringLiteral implements Expression
+public class StringLiteral extends SourceNode implements Expression
 {
     private final String _value;
     public StringLiteral(String value)
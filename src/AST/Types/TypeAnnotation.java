@@ -1,8 +1,8 @@
 package AST.Types;
 
-import AST.ASTNode;
+import AST.SourceNode;
 
-public class TypeAnnotation implements ASTNode
+public class TypeAnnotation extends SourceNode
 {
     private final TypePrimary _primaryType;
     private final boolean _isArray;
@@ -0,0 +1,105 @@
+package App;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Compiles many files on a bounded worker pool inside one JVM.
+ * Every file runs its own lexer/parser/visitor pipeline; results are handed to the sink in input order.
+ * The pool is a fork/join pool, so the components of a file that the visitor analyzes concurrently share
+ * the same workers and jobs bounds the parallelism of both.
+ */
+public class BatchCompiler implements AutoCloseable {
+    private final Compiler _compiler;
+    private final ForkJoinPool _workers;
+
+    public BatchCompiler(Compiler compiler, int jobs) {
+        _compiler = compiler;
+        _workers = new ForkJoinPool(Math.max(1, jobs), new WorkerThreadFactory(), null, false);
+    }
+
+    public BatchSummary compileAll(List<Path> files, Consumer<CompilationResult> sink) throws InterruptedException {
+        long start = System.nanoTime();
+
+        List<Future<CompilationResult>> pending = new ArrayList<>(files.size());
+        for (Path file : files) {
+            pending.add(_workers.submit(() -> _compiler.compile(file)));
+        }
+
+        BatchSummary summary = new BatchSummary();
+        for (int i = 0; i < pending.size(); i++) {
+            CompilationResult result;
+            try {
+                result = pending.get(i).get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                result = CompilationResult.failure(files.get(i),
+                        cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+            }
+            pending.set(i, null);
+            summary.record(result);
+            sink.accept(result);
+        }
+
+        summary.setElapsedNanos(System.nanoTime() - start);
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        _workers.shutdownNow();
+    }
+
+    private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger _counter = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) { };
+            thread.setName("compile-worker-" + _counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    public static class BatchSummary {
+        private int _files;
+        private int _filesWithErrors;
+        private int _failedFiles;
+        private int _errorCount;
+        private long _elapsedNanos;
+
+        private void record(CompilationResult result) {
+            _files++;
+            if (result.isFailed()) {
+                _failedFiles++;
+            } else if (result.hasErrors()) {
+                _filesWithErrors++;
+                _errorCount += result.getErrors().size();
+            }
+        }
+
+        private void setElapsedNanos(long elapsedNanos) {
+            _elapsedNanos = elapsedNanos;
+        }
+
+        public int getFiles() { return _files; }
+        public int getFilesWithErrors() { return _filesWithErrors; }
+        public int getFailedFiles() { return _failedFiles; }
+        public int getErrorCount() { return _errorCount; }
+        public long getElapsedNanos() { return _elapsedNanos; }
+
+        @Override
+        public String toString() {
+            return String.format("Compiled %d file(s) in %d ms: %d with semantic errors (%d errors), %d failed",
+                    _files, _elapsedNanos / 1_000_000, _filesWithErrors, _errorCount, _failedFiles);
+        }
+    }
+}
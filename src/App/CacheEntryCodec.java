@@ -0,0 +1,200 @@
+package App;
+
+import AST.Program;
+import AST.Serialization.AstReader;
+import AST.Serialization.AstWriter;
+import Semantic.*;
+import SymbolTable.Scope;
+import SymbolTable.ScopeKind;
+import SymbolTable.SymbolTable;
+import SymbolTable.SymbolTableInfo;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Encodes a CompilationResult as a compile cache entry:
+ * <pre>
+ *   int    AST length, then the AstWriter encoding of a list holding the Program followed by the value of
+ *          every symbol, global scope first and each scope before its children
+ *   scope  global scope: UTF name, byte ScopeKind ordinal, int symbol count, then per symbol UTF name and
+ *          nullable UTF type, then int child count and the child scopes in the same layout
+ *   int    semantic error count, then per error UTF type and the fields that type is rebuilt from
+ *   int    syntax error count, then per error int line, int column, UTF message
+ * </pre>
+ * A nullable string is a boolean presence flag followed by the UTF string when present.
+ */
+final class CacheEntryCodec {
+    private static final ScopeKind[] SCOPE_KINDS = ScopeKind.values();
+
+    private CacheEntryCodec() {
+    }
+
+    static void write(CompilationResult result, OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        Scope global = result.getSymbolTable().getGlobalScope();
+
+        List<Object> values = new ArrayList<>();
+        values.add(result.getProgram());
+        collectValues(global, values);
+        byte[] ast = AstWriter.toBytes(values);
+        out.writeInt(ast.length);
+        out.write(ast);
+
+        writeScope(out, global);
+
+        out.writeInt(result.getErrors().size());
+        for (SemanticError error : result.getErrors()) {
+            writeError(out, error);
+        }
+
+        out.writeInt(result.getSyntaxErrors().size());
+        for (SyntaxError error : result.getSyntaxErrors()) {
+            out.writeInt(error.line());
+            out.writeInt(error.column());
+            out.writeUTF(error.message());
+        }
+        out.flush();
+    }
+
+    static CompilationResult read(InputStream stream, Path file) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        byte[] ast = new byte[in.readInt()];
+        in.readFully(ast);
+        Object root = AstReader.read(ast);
+        if (!(root instanceof List<?> values) || values.isEmpty() || !(values.get(0) instanceof Program program)) {
+            throw new IOException("Cache entry does not start with a Program");
+        }
+        Iterator<?> symbolValues = values.subList(1, values.size()).iterator();
+
+        SymbolTable symbolTable = new SymbolTable();
+        Scope global = symbolTable.getGlobalScope();
+        in.readUTF();
+        in.readByte();
+        readScopeContents(in, symbolTable, global, symbolValues);
+
+        int errorCount = in.readInt();
+        List<SemanticError> errors = new ArrayList<>(errorCount);
+        for (int i = 0; i < errorCount; i++) {
+            errors.add(readError(in));
+        }
+
+        int syntaxErrorCount = in.readInt();
+        List<SyntaxError> syntaxErrors = new ArrayList<>(syntaxErrorCount);
+        for (int i = 0; i < syntaxErrorCount; i++) {
+            syntaxErrors.add(new SyntaxError(in.readInt(), in.readInt(), in.readUTF()));
+        }
+        return CompilationResult.fromCache(file, program, symbolTable, errors, syntaxErrors);
+    }
+
+    private static void collectValues(Scope scope, List<Object> values) {
+        for (SymbolTableInfo symbol : scope.getSymbols()) {
+            values.add(symbol.getValue());
+        }
+        for (Scope child : scope.getChildren()) {
+            collectValues(child, values);
+        }
+    }
+
+    private static void writeScope(DataOutputStream out, Scope scope) throws IOException {
+        out.writeUTF(scope.getName());
+        out.writeByte(scope.getKind().ordinal());
+        out.writeInt(scope.getSymbols().size());
+        for (SymbolTableInfo symbol : scope.getSymbols()) {
+            out.writeUTF(symbol.getName());
+            writeNullable(out, symbol.getType());
+        }
+        out.writeInt(scope.getChildren().size());
+        for (Scope child : scope.getChildren()) {
+            writeScope(out, child);
+        }
+    }
+
+    private static void readScopeContents(DataInputStream in, SymbolTable symbolTable, Scope scope, Iterator<?> values) throws IOException {
+        int symbolCount = in.readInt();
+        for (int i = 0; i < symbolCount; i++) {
+            String name = in.readUTF();
+            String type = readNullable(in);
+            if (!values.hasNext()) {
+                throw new IOException("Cache entry has fewer symbol values than symbols");
+            }
+            symbolTable.addVariable(name, type, values.next(), scope);
+        }
+        int childCount = in.readInt();
+        for (int i = 0; i < childCount; i++) {
+            String name = in.readUTF();
+            int kind = in.readByte();
+            if (kind < 0 || kind >= SCOPE_KINDS.length) {
+                throw new IOException("Unknown scope kind " + kind);
+            }
+            readScopeContents(in, symbolTable, symbolTable.createScope(scope, name, SCOPE_KINDS[kind]), values);
+        }
+    }
+
+    private static void writeError(DataOutputStream out, SemanticError error) throws IOException {
+        out.writeUTF(error.getType());
+        if (error instanceof CircularDependencyError cycle) {
+            out.writeInt(cycle.getMembers().size());
+            for (String member : cycle.getMembers()) {
+                out.writeUTF(member);
+            }
+            return;
+        }
+        if (error instanceof ComponentImportMissingError missing) {
+            out.writeUTF(missing.getName());
+        } else if (error instanceof DivisionByZeroError division) {
+            out.writeUTF(division.getName());
+        } else if (error instanceof DuplicateDeclarationError duplicate) {
+            out.writeUTF(duplicate.getName());
+        } else if (error instanceof MissingComponentPropertyError property) {
+            out.writeUTF(property.getProperty());
+        } else if (error instanceof UndeclaredVariableError undeclared) {
+            out.writeUTF(undeclared.getVariableName());
+        } else {
+            throw new IllegalArgumentException("Cannot encode semantic error " + error.getType());
+        }
+        out.writeInt(error.getLine());
+        out.writeInt(error.getColumn());
+    }
+
+    private static SemanticError readError(DataInputStream in) throws IOException {
+        String type = in.readUTF();
+        if (type.equals("CircularDependencyError")) {
+            int count = in.readInt();
+            List<String> members = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                members.add(in.readUTF());
+            }
+            return new CircularDependencyError(members);
+        }
+        String name = in.readUTF();
+        int line = in.readInt();
+        int column = in.readInt();
+        return switch (type) {
+            case "ComponentImportMissingError" -> new ComponentImportMissingError(name, line, column);
+            case "DivisionByZeroError" -> new DivisionByZeroError(name, line, column);
+            case "DuplicateDeclarationError" -> new DuplicateDeclarationError(name, line, column);
+            case "MissingComponentPropertyError" -> new MissingComponentPropertyError(name, line, column);
+            case "UndeclaredVariableError" -> new UndeclaredVariableError(name, line, column);
+            default -> throw new IOException("Unknown semantic error type " + type);
+        };
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
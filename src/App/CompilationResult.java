@@ -0,0 +1,69 @@
+package App;
+
+import AST.Program;
+import Semantic.SemanticError;
+import SymbolTable.SymbolTable;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything a compiled file produces: the AST, its symbol table and the syntax and semantic diagnostics.
+ * No ANTLR structure is reachable from a result, so holding results for many files does not keep their
+ * parse trees, token streams or source text alive.
+ */
+public class CompilationResult {
+    private final Path _file;
+    private final Program _program;
+    private final SymbolTable _symbolTable;
+    private final List<SemanticError> _errors;
+    private final List<SyntaxError> _syntaxErrors;
+    private final Exception _failure;
+    private final boolean _cached;
+
+    private CompilationResult(Path file, Program program, SymbolTable symbolTable, List<SemanticError> errors,
+                              List<SyntaxError> syntaxErrors, Exception failure, boolean cached) {
+        _file = file;
+        _program = program;
+        _symbolTable = symbolTable;
+        _errors = errors;
+        _syntaxErrors = syntaxErrors;
+        _failure = failure;
+        _cached = cached;
+    }
+
+    public static CompilationResult success(Path file, Program program, SymbolTable symbolTable, List<SemanticError> errors,
+                                            List<SyntaxError> syntaxErrors) {
+        return new CompilationResult(file, program, symbolTable, errors, syntaxErrors, null, false);
+    }
+
+    public static CompilationResult fromCache(Path file, Program program, SymbolTable symbolTable, List<SemanticError> errors,
+                                              List<SyntaxError> syntaxErrors) {
+        return new CompilationResult(file, program, symbolTable, errors, syntaxErrors, null, true);
+    }
+
+    public static CompilationResult failure(Path file, Exception failure) {
+        return failure(file, failure, Collections.emptyList());
+    }
+
+    public static CompilationResult failure(Path file, Exception failure, List<SyntaxError> syntaxErrors) {
+        return new CompilationResult(file, null, null, Collections.emptyList(), syntaxErrors, failure, false);
+    }
+
+    public Path getFile() { return _file; }
+    public Program getProgram() { return _program; }
+    public SymbolTable getSymbolTable() { return _symbolTable; }
+    public List<SemanticError> getErrors() { return _errors; }
+    public List<SyntaxError> getSyntaxErrors() { return _syntaxErrors; }
+    public Exception getFailure() { return _failure; }
+    public boolean isCached() { return _cached; }
+
+    public boolean isFailed() {
+        return _failure != null;
+    }
+
+    public boolean hasErrors() {
+        return !_errors.isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package App;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of compilation results keyed by the SHA-256 of the compiler, analysis and entry format versions
+ * and the file contents. Entries are written by CacheEntryCodec, with the AST in the AstWriter encoding.
+ * A hit restores the Program, SymbolTable, syntax and semantic errors without lexing, parsing or visiting the file.
+ * Unreadable or incompatible entries are treated as misses and overwritten on the next store.
+ */
+public class CompileCache {
+    private static final int FORMAT_VERSION = 8;
+
+    private final Path _directory;
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+
+    public CompileCache(Path directory) throws IOException {
+        _directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    public String key(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((Compiler.VERSION + "/" + Compiler.ANALYSIS_VERSION + "/" + FORMAT_VERSION + "\0").getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest(content);
+
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public CompilationResult load(String key, Path file) {
+        Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            _misses.incrementAndGet();
+            return null;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(entry))) {
+            CompilationResult cached = CacheEntryCodec.read(in, file);
+            _hits.incrementAndGet();
+            return cached;
+        } catch (IOException | RuntimeException e) {
+            _misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    public void store(String key, CompilationResult result) {
+        if (result.isFailed()) {
+            return;
+        }
+
+        Path entry = entryPath(key);
+        try {
+            Files.createDirectories(entry.getParent());
+            Path temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                    CacheEntryCodec.write(result, out);
+                }
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to write cache entry for " + result.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    private Path entryPath(String key) {
+        return _directory.resolve(key.substring(0, 2)).resolve(key + ".bin");
+    }
+
+    public long getHits() { return _hits.get(); }
+    public long getMisses() { return _misses.get(); }
+
+    @Override
+    public String toString() {
+        return String.format("Compile cache: %d hit(s), %d miss(es) in %s", getHits(), getMisses(), _directory);
+    }
+}
@@ -0,0 +1,207 @@
+package App;
+
+import AST.LineMap;
+import AST.Program;
+import Profiling.FileCompiledEvent;
+import Profiling.Phase;
+import Profiling.PhaseProfiler;
+import Semantic.TemplateBindingChecker;
+import Visitor.AngularCompVisitor;
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the lexer, parser and semantic visitor for a single source file.
+ * Instances hold no per-file state, so one compiler can be shared by all worker threads.
+ */
+public class Compiler {
+    public static final String VERSION = "1.0.0";
+    // Part of every compile cache key. Bump it whenever a semantic pass reports different errors or symbols
+    // for the same source, so results of the previous analysis are not served from the cache.
+    public static final int ANALYSIS_VERSION = 7;
+
+    private final ParseStrategy _parseStrategy;
+    private final ParseStatistics _parseStatistics = new ParseStatistics();
+    private final CompileCache _cache;
+    private final PhaseProfiler _profiler;
+    private final InputMode _inputMode;
+
+    public Compiler() {
+        this(ParseStrategy.TWO_STAGE);
+    }
+
+    public Compiler(ParseStrategy parseStrategy) {
+        this(parseStrategy, null);
+    }
+
+    public Compiler(ParseStrategy parseStrategy, CompileCache cache) {
+        this(parseStrategy, cache, PhaseProfiler.disabled());
+    }
+
+    public Compiler(ParseStrategy parseStrategy, CompileCache cache, PhaseProfiler profiler) {
+        this(parseStrategy, cache, profiler, InputMode.BUFFERED);
+    }
+
+    public Compiler(ParseStrategy parseStrategy, CompileCache cache, PhaseProfiler profiler, InputMode inputMode) {
+        _parseStrategy = parseStrategy;
+        _cache = cache;
+        _profiler = profiler;
+        _inputMode = inputMode;
+    }
+
+    public ParseStrategy getParseStrategy() {
+        return _parseStrategy;
+    }
+
+    public ParseStatistics getParseStatistics() {
+        return _parseStatistics;
+    }
+
+    public CompileCache getCache() {
+        return _cache;
+    }
+
+    public PhaseProfiler getProfiler() {
+        return _profiler;
+    }
+
+    public InputMode getInputMode() {
+        return _inputMode;
+    }
+
+    public CompilationResult compile(Path file) {
+        FileCompiledEvent event = new FileCompiledEvent();
+        event.begin();
+        CompilationResult result = compile(file, event);
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = file.toString();
+            event.semanticErrors = result.isFailed() ? 0 : result.getErrors().size();
+            event.cached = result.isCached();
+            event.failed = result.isFailed();
+            event.commit();
+        }
+        return result;
+    }
+
+    private CompilationResult compile(Path file, FileCompiledEvent event) {
+        try {
+            if (_cache == null && _inputMode == InputMode.STREAMING) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    return compileStreaming(file, reader, event);
+                }
+            }
+            if (_cache == null) {
+                CharStream input = _profiler.call(file, Phase.READ,
+                        () -> _inputMode == InputMode.MAPPED ? MappedCharStream.open(file) : CharStreams.fromPath(file));
+                return compile(file, input, event);
+            }
+
+            byte[] content = _profiler.call(file, Phase.READ, () -> Files.readAllBytes(file));
+            String key = _cache.key(content);
+            CompilationResult cached = _cache.load(key, file);
+            if (cached != null) {
+                return cached;
+            }
+
+            CompilationResult result = switch (_inputMode) {
+                case STREAMING -> compileStreaming(file, new StringReader(new String(content, StandardCharsets.UTF_8)), event);
+                case MAPPED -> compile(file, new MappedCharStream(ByteBuffer.wrap(content), file.toString()), event);
+                default -> compile(file, CharStreams.fromString(new String(content, StandardCharsets.UTF_8), file.toString()), event);
+            };
+            _cache.store(key, result);
+            return result;
+        } catch (IOException e) {
+            return CompilationResult.failure(file, e);
+        }
+    }
+
+    // The char stream, tokens and parse tree are confined to this call; the result keeps only the AST, the
+    // symbol table and copied diagnostics, so they become garbage as soon as it returns.
+    private CompilationResult compile(Path file, CharStream input, FileCompiledEvent event) {
+        event.characters = input.size();
+        SyntaxErrorCollector syntaxErrors = new SyntaxErrorCollector();
+        try {
+            // Mapped input records its line starts while counting code points, so only buffered input is scanned here.
+            LineMap lineMap = input instanceof MappedCharStream mapped ? mapped.getLineMap()
+                    : _profiler.call(file, Phase.LEX, () -> lineMap(input));
+            CommonTokenStream tokens = _profiler.call(file, Phase.LEX, () -> {
+                AngularLexer lexer = new AngularLexer(input);
+                lexer.removeErrorListeners();
+                lexer.addErrorListener(syntaxErrors);
+                return new CommonTokenStream(lexer);
+            });
+
+            _profiler.run(file, Phase.TOKEN_FILL, tokens::fill);
+            event.tokens = tokens.size();
+
+            ParseTree tree = _profiler.call(file, Phase.PARSE, () -> {
+                AngularParser parser = new AngularParser(tokens);
+                parser.removeErrorListeners();
+                parser.addErrorListener(syntaxErrors);
+                return _parseStrategy.parse(parser, _parseStatistics);
+            });
+
+            AngularCompVisitor visitor = new AngularCompVisitor(!_profiler.isEnabled());
+            Program program = _profiler.call(file, Phase.VISIT, () -> (Program) visitor.visit(tree));
+            addTemplateSyntaxErrors(visitor, syntaxErrors);
+            program.setLineMap(lineMap);
+            checkTemplates(file, program, visitor);
+
+            return CompilationResult.success(file, program, visitor.s, visitor.errorReporter.getErrors(), syntaxErrors.getErrors());
+        } catch (RuntimeException e) {
+            return CompilationResult.failure(file, e, syntaxErrors.getErrors());
+        }
+    }
+
+    // Added once the visit is done, after the parser's errors, in the order of the templates in the file.
+    private static void addTemplateSyntaxErrors(AngularCompVisitor visitor, SyntaxErrorCollector syntaxErrors) {
+        for (AngularCompVisitor.TemplateSyntaxError error : visitor.getTemplateSyntaxErrors()) {
+            syntaxErrors.add(new SyntaxError(error.line(), error.column(), error.message()));
+        }
+    }
+
+    // Template bindings are checked against the finished symbol table, so this runs after the whole file is visited.
+    private void checkTemplates(Path file, Program program, AngularCompVisitor visitor) {
+        _profiler.run(file, Phase.TEMPLATE_CHECK, () -> new TemplateBindingChecker(visitor.s, visitor.errorReporter).check(program));
+    }
+
+    private static LineMap lineMap(CharStream input) {
+        LineMap.Builder lines = new LineMap.Builder();
+        for (int c = input.LA(1); c != IntStream.EOF; c = input.LA(1)) {
+            lines.add(c);
+            input.consume();
+        }
+        input.seek(0);
+        return lines.build();
+    }
+
+    private CompilationResult compileStreaming(Path file, Reader reader, FileCompiledEvent event) {
+        SyntaxErrorCollector syntaxErrors = new SyntaxErrorCollector();
+        try {
+            StreamingParser parser = new StreamingParser(file, reader, _parseStrategy, _profiler, syntaxErrors);
+            AngularCompVisitor visitor = new AngularCompVisitor(!_profiler.isEnabled());
+            Program program = parser.parse(visitor, _parseStatistics);
+            addTemplateSyntaxErrors(visitor, syntaxErrors);
+            checkTemplates(file, program, visitor);
+            event.characters = parser.getCharactersRead();
+            event.tokens = parser.getTokensRead();
+            return CompilationResult.success(file, program, visitor.s, visitor.errorReporter.getErrors(), syntaxErrors.getErrors());
+        } catch (RuntimeException e) {
+            return CompilationResult.failure(file, e, syntaxErrors.getErrors());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package App;
+
+import Profiling.PhaseProfiler;
+import SymbolTable.SymbolTableRenderer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompilerOptions {
+    public static final String DEFAULT_INPUT = "test/test_main.txt";
+
+    private final List<String> _inputs = new ArrayList<>();
+    private int _jobs = Runtime.getRuntime().availableProcessors();
+    private boolean _dump;
+    private ParseStrategy _parseStrategy = ParseStrategy.TWO_STAGE;
+    private boolean _parseStats;
+    private boolean _warmup;
+    private final List<String> _warmupCorpus = new ArrayList<>();
+    private boolean _dfaStats;
+    private boolean _watch;
+    private String _cacheDirectory;
+    private String _emitAstDirectory;
+    private String _emitJsDirectory;
+    private SymbolTableRenderer.Format _symbolFormat;
+    private int _symbolLimit = SymbolTableRenderer.NO_LIMIT;
+    private PhaseProfiler.Format _profileFormat;
+    private InputMode _inputMode = InputMode.BUFFERED;
+
+    public static CompilerOptions parse(String[] args) {
+        CompilerOptions options = new CompilerOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-j", "--jobs" -> options._jobs = parsePositive(arg, requireValue(args, ++i, arg));
+                case "--dump" -> options._dump = true;
+                case "--prediction" -> options._parseStrategy = ParseStrategy.fromOption(requireValue(args, ++i, arg));
+                case "--parse-stats" -> options._parseStats = true;
+                case "--warmup" -> options._warmup = true;
+                case "--warmup-corpus" -> {
+                    options._warmup = true;
+                    options._warmupCorpus.add(requireValue(args, ++i, arg));
+                }
+                case "--dfa-stats" -> options._dfaStats = true;
+                case "--watch" -> options._watch = true;
+                case "--cache-dir" -> options._cacheDirectory = requireValue(args, ++i, arg);
+                case "--emit-ast" -> options._emitAstDirectory = requireValue(args, ++i, arg);
+                case "--emit-js" -> options._emitJsDirectory = requireValue(args, ++i, arg);
+                case "--symbols" -> options._symbolFormat = SymbolTableRenderer.parseFormat(requireValue(args, ++i, arg));
+                case "--symbol-limit" -> options._symbolLimit = parsePositive(arg, requireValue(args, ++i, arg));
+                case "--profile" -> options._profileFormat = PhaseProfiler.Format.TABLE;
+                case "--profile=table" -> options._profileFormat = PhaseProfiler.Format.TABLE;
+                case "--profile=json" -> options._profileFormat = PhaseProfiler.Format.JSON;
+                case "--input-mode" -> options._inputMode = InputMode.fromOption(requireValue(args, ++i, arg));
+                case "--streaming" -> options._inputMode = InputMode.STREAMING;
+                case "--mmap" -> options._inputMode = InputMode.MAPPED;
+                default -> {
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    options._inputs.add(arg);
+                }
+            }
+        }
+
+        if (options._watch) {
+            // Watch mode prints error diffs only and never finishes, so per-file output and end-of-run reports
+            // would be dropped; emitted files are rewritten on every recompilation.
+            rejectWithWatch(options._dump, "--dump");
+            rejectWithWatch(options._symbolFormat != null, "--symbols");
+            rejectWithWatch(options._profileFormat != null, "--profile");
+            rejectWithWatch(options._parseStats, "--parse-stats");
+            rejectWithWatch(options._dfaStats, "--dfa-stats");
+            options._warmup = true;
+        }
+        if (options._inputs.isEmpty()) {
+            options._inputs.add(DEFAULT_INPUT);
+            options._dump = true;
+        }
+        return options;
+    }
+
+    public static String usage() {
+        return String.join("\n",
+                "Usage: Main [options] <file|directory|glob>...",
+                "  -j, --jobs <n>   number of worker threads (default: available processors)",
+                "      --dump       print the AST and symbol table of every compiled file",
+                "      --prediction <ll|sll|two-stage>",
+                "                   parser prediction mode (default: two-stage, SLL with LL fallback)",
+                "      --parse-stats",
+                "                   print how many files needed the LL fallback",
+                "      --warmup     parse the bundled corpus (test/) before compiling to populate the DFA cache",
+                "      --warmup-corpus <file|directory|glob>",
+                "                   additional warm-up input, may be repeated (implies --warmup)",
+                "      --dfa-stats  print the number of cached lexer and parser DFA states",
+                "      --watch      stay resident and recompile inputs when they change (implies --warmup); re-emits",
+                "                   changed files with --emit-ast and --emit-js, not combinable with --dump, --symbols,",
+                "                   --profile, --parse-stats or --dfa-stats",
+                "      --cache-dir <directory>",
+                "                   reuse results of unchanged files from an on-disk cache",
+                "      --emit-ast <directory>",
+                "                   write the binary encoded AST of every file as <path>.ast, <path> being its path below its input",
+                "      --emit-js <directory>",
+                "                   write the compiled component templates of every file as an ES module <path>.js",
+                "      --symbols <table|json|csv>",
+                "                   print the symbol table of every file in the given format (default with --dump: table)",
+                "      --symbol-limit <n>",
+                "                   print at most n symbol table rows per file",
+                "      --profile[=table|json]",
+                "                   print wall time, CPU time and allocated bytes of every phase per file",
+                "      --input-mode <buffered|streaming|mapped>",
+                "                   how source files are read (default: buffered); streaming parses and visits one",
+                "                   top-level rule at a time over unbuffered streams to bound memory on very large files,",
+                "                   mapped lexes memory-mapped files without copying them into a decoded buffer",
+                "      --streaming  same as --input-mode streaming",
+                "      --mmap       same as --input-mode mapped");
+    }
+
+    private static void rejectWithWatch(boolean given, String option) {
+        if (given) {
+            throw new IllegalArgumentException(option + " cannot be combined with --watch");
+        }
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int parsePositive(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Expected a positive number for " + option + " but got '" + value + "'");
+    }
+
+    public List<String> getInputs() { return _inputs; }
+    public int getJobs() { return _jobs; }
+    public boolean isDump() { return _dump; }
+    public ParseStrategy getParseStrategy() { return _parseStrategy; }
+    public boolean isParseStats() { return _parseStats; }
+    public boolean isWarmup() { return _warmup; }
+    public List<String> getWarmupCorpus() { return _warmupCorpus; }
+    public boolean isDfaStats() { return _dfaStats; }
+    public boolean isWatch() { return _watch; }
+    public String getCacheDirectory() { return _cacheDirectory; }
+    public String getEmitAstDirectory() { return _emitAstDirectory; }
+    public String getEmitJsDirectory() { return _emitJsDirectory; }
+    public SymbolTableRenderer.Format getSymbolFormat() { return _symbolFormat; }
+    public int getSymbolLimit() { return _symbolLimit; }
+    public PhaseProfiler.Format getProfileFormat() { return _profileFormat; }
+    public InputMode getInputMode() { return _inputMode; }
+
+    public SymbolTableRenderer getSymbolRenderer() {
+        if (_symbolFormat == null && !_dump) {
+            return null;
+        }
+        return new SymbolTableRenderer(_symbolFormat != null ? _symbolFormat : SymbolTableRenderer.Format.TABLE, _symbolLimit);
+    }
+}
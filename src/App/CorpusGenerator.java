@@ -0,0 +1,237 @@
+package App;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates input for AngularParser at a configurable scale: components with many fields and methods,
+ * deeply nested expressions, templates full of bindings, large styles arrays and interface declarations.
+ * Every identifier the generated code uses is declared, so the output is free of semantic errors.
+ * With several files, each file imports the first component of the previous one.
+ */
+public class CorpusGenerator {
+    private static final String[] OPERATORS = { "+", "-", "*" };
+    private static final String[] FIELD_TYPES = { "number", "string", "boolean" };
+
+    private int _files = 1;
+    private int _components = 10;
+    private int _members = 5;
+    private int _expressionDepth = 3;
+    private int _bindings = 5;
+    private int _styles = 3;
+    private int _interfaces = 1;
+    private long _seed = 42;
+
+    public CorpusGenerator files(int files) { _files = files; return this; }
+    public CorpusGenerator components(int components) { _components = components; return this; }
+    public CorpusGenerator members(int members) { _members = members; return this; }
+    public CorpusGenerator expressionDepth(int depth) { _expressionDepth = depth; return this; }
+    public CorpusGenerator bindings(int bindings) { _bindings = bindings; return this; }
+    public CorpusGenerator styles(int styles) { _styles = styles; return this; }
+    public CorpusGenerator interfaces(int interfaces) { _interfaces = interfaces; return this; }
+    public CorpusGenerator seed(long seed) { _seed = seed; return this; }
+
+    public static void main(String[] args) throws IOException {
+        CorpusGenerator generator = new CorpusGenerator();
+        Path output = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--files" -> generator._files = count(args, ++i, arg);
+                    case "--components" -> generator._components = count(args, ++i, arg);
+                    case "--members" -> generator._members = count(args, ++i, arg);
+                    case "--depth" -> generator._expressionDepth = count(args, ++i, arg);
+                    case "--bindings" -> generator._bindings = count(args, ++i, arg);
+                    case "--styles" -> generator._styles = count(args, ++i, arg);
+                    case "--interfaces" -> generator._interfaces = count(args, ++i, arg);
+                    case "--seed" -> generator._seed = Long.parseLong(value(args, ++i, arg));
+                    case "--out" -> output = Path.of(value(args, ++i, arg));
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (output == null && generator._files > 1) {
+                throw new IllegalArgumentException("--files requires --out <directory>");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(usage());
+            System.exit(2);
+            return;
+        }
+
+        if (output == null) {
+            System.out.print(generator.generate(0));
+            return;
+        }
+        Files.createDirectories(output);
+        for (int file = 0; file < generator._files; file++) {
+            Files.writeString(output.resolve(fileName(file)), generator.generate(file), StandardCharsets.UTF_8);
+        }
+        System.out.println("Generated " + generator._files + " file(s) in " + output);
+    }
+
+    public static String usage() {
+        return String.join("\n",
+                "Usage: CorpusGenerator [options]",
+                "      --files <n>        number of files, requires --out (default: 1)",
+                "      --components <n>   components per file (default: 10)",
+                "      --members <n>      fields and methods per class (default: 5)",
+                "      --depth <n>        nesting depth of generated expressions (default: 3)",
+                "      --bindings <n>     template elements with bindings per component (default: 5)",
+                "      --styles <n>       entries in each styles array (default: 3)",
+                "      --interfaces <n>   interface declarations per file (default: 1)",
+                "      --seed <n>         random seed (default: 42)",
+                "      --out <directory>  write gen<i>.ts files instead of printing one file");
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int count(String[] args, int index, String option) {
+        String value = value(args, index, option);
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Expected a non-negative number for " + option + " but got '" + value + "'");
+    }
+
+    public static String fileName(int file) {
+        return "gen" + file + ".ts";
+    }
+
+    public String generate() {
+        return generate(0);
+    }
+
+    /**
+     * Source of one corpus file. The same settings, seed and file index always produce the same text.
+     */
+    public String generate(int file) {
+        Random random = new Random(_seed * 31 + file);
+        StringBuilder out = new StringBuilder();
+
+        out.append("import { Component } from '@angular/core';\n");
+        out.append("import { CommonModule } from '@angular/common';\n");
+        if (file > 0 && _components > 0) {
+            out.append("import { ").append(className(file - 1, 0)).append(" } from './gen").append(file - 1).append("';\n");
+        }
+        out.append('\n');
+
+        for (int i = 0; i < _interfaces; i++) {
+            out.append("interface Gen").append(file).append("Model").append(i).append(" {\n")
+                    .append("  id: number;\n")
+                    .append("  name: string;\n")
+                    .append("  tags: string[];\n")
+                    .append("  owner: { id: number; name: string };\n")
+                    .append("}\n\n");
+        }
+
+        for (int c = 0; c < _components; c++) {
+            appendComponent(out, file, c, random);
+        }
+        return out.toString();
+    }
+
+    private static String className(int file, int component) {
+        return "Gen" + file + "x" + component + "Component";
+    }
+
+    private void appendComponent(StringBuilder out, int file, int component, Random random) {
+        out.append("@Component({\n")
+                .append("  selector: 'gen-").append(file).append('-').append(component).append("',\n")
+                .append("  standalone: true,\n")
+                .append("  imports: [CommonModule],\n")
+                .append("  template: `");
+        appendTemplate(out, random);
+        out.append("`,\n  styles: [");
+        for (int s = 0; s < _styles; s++) {
+            out.append(s == 0 ? "\n    " : ",\n    ")
+                    .append("'.gen-").append(component).append('-').append(s)
+                    .append(" { margin: ").append(s).append("px; color: #").append(String.format("%06x", random.nextInt(0x1000000))).append("; }'");
+        }
+        out.append(_styles > 0 ? "\n  ]\n" : "]\n").append("})\n\n");
+
+        out.append("export class ").append(className(file, component)).append(" {\n")
+                .append("  count: number = 0;\n")
+                .append("  visible: boolean = true;\n")
+                .append("  items: string[];\n");
+        if (file > 0 && component == 0) {
+            out.append("  previous: ").append(className(file - 1, 0)).append(";\n");
+        }
+        for (int m = 0; m < _members; m++) {
+            String type = FIELD_TYPES[m % FIELD_TYPES.length];
+            out.append("  field").append(m).append(": ").append(type).append(" = ");
+            switch (type) {
+                case "number" -> out.append(expression(_expressionDepth, "this.count", random));
+                case "string" -> out.append("'value").append(m).append('\'');
+                default -> out.append(random.nextBoolean());
+            }
+            out.append(";\n");
+        }
+
+        for (int m = 0; m < _members; m++) {
+            appendMethod(out, m, random);
+        }
+        out.append("}\n\n");
+    }
+
+    private void appendMethod(StringBuilder out, int index, Random random) {
+        out.append("\n  method").append(index).append("(limit: number, step: number): number {\n")
+                .append("    let total : number = ").append(expression(_expressionDepth, "limit", random)).append(";\n")
+                .append("    let i : number = 0;\n")
+                .append("    while (i < limit) {\n")
+                .append("      if (i % ").append(index + 2).append(" == 0 && this.visible) {\n")
+                .append("        total = ").append(expression(_expressionDepth, "total", random)).append(";\n")
+                .append("      } else {\n")
+                .append("        total = total + step;\n")
+                .append("      }\n")
+                .append("      i = i + 1;\n")
+                .append("    }\n")
+                .append("    this.count = this.count + 1;\n")
+                .append("    return total > limit ? total : limit;\n")
+                .append("  }\n");
+    }
+
+    // A left-nested chain such as ((limit + 3) * step), depth levels deep; the operand count grows
+    // linearly with the depth so deep nesting stays cheap to generate.
+    private static String expression(int depth, String seed, Random random) {
+        String expression = seed;
+        for (int d = 0; d < depth; d++) {
+            String operand = random.nextBoolean() ? String.valueOf(random.nextInt(9) + 1) : seed;
+            expression = "(" + expression + " " + OPERATORS[random.nextInt(OPERATORS.length)] + " " + operand + ")";
+        }
+        return expression;
+    }
+
+    private void appendTemplate(StringBuilder out, Random random) {
+        if (_bindings == 0) {
+            out.append("Generated {{ count }}");
+            return;
+        }
+        out.append("<section class=\"gen\">");
+        for (int b = 0; b < _bindings; b++) {
+            String field = _members > 0 ? "field" + random.nextInt(_members) : "count";
+            switch (b % 5) {
+                case 0 -> out.append("<p [title]=\"").append(field).append("\">{{ ").append(field).append(" }}</p>");
+                case 1 -> out.append("<button (click)=\"").append(_members > 0 ? "method" + random.nextInt(_members) + "(1, 2)" : "count = count + 1")
+                        .append("\">Run {{ count }}</button>");
+                case 2 -> out.append("<input [(ngModel)]=\"count\" />");
+                case 3 -> out.append("<div *ngIf=\"visible\">Visible {{ count }}</div>");
+                default -> out.append("<li *ngFor=\"let item of items\">{{ item }}</li>");
+            }
+        }
+        out.append("</section>");
+    }
+}
@@ -0,0 +1,75 @@
+package App;
+
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.dfa.DFA;
+
+/**
+ * Point-in-time counts of the DFA states cached in the static decisionToDFA tables of AngularParser and AngularLexer.
+ * The tables are shared by every parser and lexer instance in the process, so a snapshot describes the whole JVM.
+ */
+public class DfaSnapshot {
+    private final int _parserDecisions;
+    private final int _parserDecisionsVisited;
+    private final long _parserStates;
+    private final int _lexerModes;
+    private final long _lexerStates;
+
+    private DfaSnapshot(int parserDecisions, int parserDecisionsVisited, long parserStates, int lexerModes, long lexerStates) {
+        _parserDecisions = parserDecisions;
+        _parserDecisionsVisited = parserDecisionsVisited;
+        _parserStates = parserStates;
+        _lexerModes = lexerModes;
+        _lexerStates = lexerStates;
+    }
+
+    public static DfaSnapshot capture() {
+        DFA[] parserDfa = new AngularParser(null).getInterpreter().decisionToDFA;
+        DFA[] lexerDfa = new AngularLexer(null).getInterpreter().decisionToDFA;
+
+        int visited = 0;
+        long parserStates = 0;
+        for (DFA dfa : parserDfa) {
+            int states = stateCount(dfa);
+            if (states > 0) {
+                visited++;
+            }
+            parserStates += states;
+        }
+
+        // The lexer simulator keeps one DFA per mode at the front of its table.
+        int lexerModes = Math.min(AngularLexer.modeNames.length, lexerDfa.length);
+        long lexerStates = 0;
+        for (int mode = 0; mode < lexerModes; mode++) {
+            lexerStates += stateCount(lexerDfa[mode]);
+        }
+
+        return new DfaSnapshot(parserDfa.length, visited, parserStates, lexerModes, lexerStates);
+    }
+
+    private static int stateCount(DFA dfa) {
+        synchronized (dfa.states) {
+            return dfa.states.size();
+        }
+    }
+
+    public int getParserDecisions() { return _parserDecisions; }
+    public int getParserDecisionsVisited() { return _parserDecisionsVisited; }
+    public long getParserStates() { return _parserStates; }
+    public int getLexerModes() { return _lexerModes; }
+    public long getLexerStates() { return _lexerStates; }
+
+    public DfaSnapshot since(DfaSnapshot earlier) {
+        return new DfaSnapshot(_parserDecisions,
+                _parserDecisionsVisited - earlier._parserDecisionsVisited,
+                _parserStates - earlier._parserStates,
+                _lexerModes,
+                _lexerStates - earlier._lexerStates);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DFA cache: parser %d states (%d/%d decisions visited), lexer %d states (%d modes)",
+                _parserStates, _parserDecisionsVisited, _parserDecisions, _lexerStates, _lexerModes);
+    }
+}
@@ -0,0 +1,33 @@
+package App;
+
+/**
+ * How the Compiler feeds a source file to the lexer and parser.
+ * BUFFERED reads the whole file, buffers every token and builds the complete parse tree before visiting it.
+ * STREAMING reads through unbuffered char and token streams and visits each top-level rule as soon as it is
+ * parsed, so only the lookahead window and the finished AST stay in memory.
+ * MAPPED memory-maps the file and lexes it through MappedCharStream without decoding it into a copy first.
+ */
+public enum InputMode {
+    BUFFERED("buffered"),
+    STREAMING("streaming"),
+    MAPPED("mapped");
+
+    private final String _optionName;
+
+    InputMode(String optionName) {
+        _optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return _optionName;
+    }
+
+    public static InputMode fromOption(String value) {
+        for (InputMode mode : values()) {
+            if (mode._optionName.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown input mode: " + value);
+    }
+}
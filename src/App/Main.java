@@ -1,55 +1,219 @@
 package App;
 
-import AST.ASTNode;
+import AST.Serialization.AstWriter;
+import CodeGen.TemplateCodeGenerator;
+import Helpers.ProjectDependencyGraph;
+import Profiling.Phase;
+import Profiling.PhaseProfiler;
+import Semantic.CircularDependencyError;
 import Semantic.SemanticError;
-import Visitor.AngularCompVisitor;
-import antlr.AngularLexer;
-import antlr.AngularParser;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.tree.ParseTree;
+import SymbolTable.SymbolTableRenderer;
+
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class Main {
     public static void main(String[] args)
     {
+        CompilerOptions options;
         try {
-            String inputFile = "test/test_main.txt";
+            options = CompilerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(CompilerOptions.usage());
+            System.exit(2);
+            return;
+        }
 
-            CharStream input = CharStreams.fromFileName(inputFile);
+        try {
+            Map<Path, Path> relativePaths = SourceCollector.collectRelative(options.getInputs());
+            List<Path> files = new ArrayList<>(relativePaths.keySet());
+            if ((options.getEmitAstDirectory() != null || options.getEmitJsDirectory() != null) && hasOutputClash(relativePaths)) {
+                System.exit(2);
+                return;
+            }
+            boolean batch = files.size() > 1;
 
-            AngularLexer lexer = new AngularLexer(input);
+            if (options.isWarmup()) {
+                List<Path> corpus = ParserWarmup.bundledCorpus();
+                corpus.addAll(SourceCollector.collect(options.getWarmupCorpus()));
+                System.out.println(ParserWarmup.warmUp(corpus, options.getParseStrategy()));
+            }
 
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            CompileCache cache = options.getCacheDirectory() != null ? new CompileCache(Paths.get(options.getCacheDirectory())) : null;
+            PhaseProfiler profiler = options.getProfileFormat() != null ? new PhaseProfiler() : PhaseProfiler.disabled();
+            Compiler compiler = new Compiler(options.getParseStrategy(), cache, profiler, options.getInputMode());
+            if (options.isWatch()) {
+                try (BatchCompiler batchCompiler = new BatchCompiler(compiler, options.getJobs());
+                     WatchDaemon daemon = new WatchDaemon(batchCompiler, System.out,
+                             (result, relativePath) -> emit(result, options, relativePath))) {
+                    daemon.watch(options.getInputs());
+                    daemon.run();
+                }
+                return;
+            }
 
-            AngularParser parser = new AngularParser(tokens);
+            SymbolTableRenderer symbolRenderer = options.getSymbolRenderer();
+            ProjectDependencyGraph dependencyGraph = new ProjectDependencyGraph();
+            try (BatchCompiler batchCompiler = new BatchCompiler(compiler, Math.min(options.getJobs(), Math.max(1, files.size())))) {
+                BatchCompiler.BatchSummary summary = batchCompiler.compileAll(files, result -> {
+                    print(result, options.isDump(), symbolRenderer, profiler, batch);
+                    if (!result.isFailed()) {
+                        dependencyGraph.updateFile(result.getFile(), ProjectDependencyGraph.moduleDependencies(result.getProgram()));
+                    }
+                    emit(result, options, relativePaths.get(result.getFile()));
+                });
+                if (batch) {
+                    printProjectCycles(dependencyGraph);
+                    System.out.println(summary);
+                }
+            }
+            if (options.isParseStats()) {
+                System.out.println(compiler.getParseStatistics());
+            }
+            if (cache != null) {
+                System.out.println(cache);
+            }
+            if (profiler.isEnabled()) {
+                System.out.println(profiler.report(options.getProfileFormat()));
+            }
+            if (options.isDfaStats()) {
+                System.out.println(DfaSnapshot.capture());
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read input file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Compilation interrupted.");
+        }
+    }
+
+    private static void printProjectCycles(ProjectDependencyGraph dependencyGraph)
+    {
+        List<List<String>> cycles = dependencyGraph.getCrossFileCycles();
+        if (cycles.isEmpty()) {
+            return;
+        }
+        System.out.println("Cross-file dependency cycles:");
+        for (List<String> cycle : cycles) {
+            System.out.println(new CircularDependencyError(cycle));
+        }
+    }
 
-            ParseTree tree = parser.program();
+    // Emitted files mirror each input's path below its root, so equal file names in different directories
+    // get different outputs; inputs whose relative paths are still equal are refused up front.
+    private static boolean hasOutputClash(Map<Path, Path> relativePaths)
+    {
+        Map<Path, Path> owners = new HashMap<>();
+        boolean clash = false;
+        for (Map.Entry<Path, Path> entry : relativePaths.entrySet()) {
+            Path owner = owners.putIfAbsent(entry.getValue(), entry.getKey());
+            if (owner != null) {
+                System.err.println("Cannot emit both " + owner + " and " + entry.getKey() + " as " + entry.getValue());
+                clash = true;
+            }
+        }
+        return clash;
+    }
+
+    private static void emit(CompilationResult result, CompilerOptions options, Path relativePath)
+    {
+        if (options.getEmitAstDirectory() != null) {
+            emitAst(result, Paths.get(options.getEmitAstDirectory()), relativePath);
+        }
+        if (options.getEmitJsDirectory() != null) {
+            emitJs(result, Paths.get(options.getEmitJsDirectory()), relativePath);
+        }
+    }
 
-            AngularCompVisitor visitor = new AngularCompVisitor();
+    private static void emitAst(CompilationResult result, Path directory, Path relativePath)
+    {
+        if (result.isFailed()) {
+            return;
+        }
+        Path target = directory.resolve(relativePath + ".ast");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, AstWriter.toBytes(result.getProgram()));
+        } catch (IOException e) {
+            System.err.println("Failed to write " + target + ": " + e.getMessage());
+        }
+    }
 
-            ASTNode ast = (ASTNode) visitor.visit(tree);
+    private static void emitJs(CompilationResult result, Path directory, Path relativePath)
+    {
+        if (result.isFailed()) {
+            return;
+        }
+        Path target = directory.resolve(relativePath + ".js");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.writeString(target, TemplateCodeGenerator.generate(result.getProgram(), relativePath.toString()));
+        } catch (IOException e) {
+            System.err.println("Failed to write " + target + ": " + e.getMessage());
+        }
+    }
 
-            System.out.println(ast);
-            System.out.println();
+    private static void print(CompilationResult result, boolean dump, SymbolTableRenderer symbolRenderer, PhaseProfiler profiler, boolean batch)
+    {
+        if (batch) {
+            System.out.println("=== " + result.getFile() + " ===");
+        }
 
-            System.out.println(visitor.s.toString());
+        for (SyntaxError error : result.getSyntaxErrors()) {
+            System.err.println(error);
+        }
 
-            if (!visitor.errorReporter.getErrors().isEmpty()) {
-                System.out.println("Semantic Errors found:");
-                for (SemanticError error : visitor.errorReporter.getErrors()) {
-                    System.out.println(error);
-                }
+        if (result.isFailed()) {
+            Exception e = result.getFailure();
+            if (e instanceof IOException) {
+                System.err.println("Failed to read input file: " + e.getMessage());
             } else {
-                System.out.println("No Semantic Errors detected.");
+                System.err.println("Parsing error: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        profiler.run(result.getFile(), Phase.DUMP, () -> {
+            if (dump) {
+                System.out.println(result.getProgram());
+                System.out.println();
+            }
+            if (symbolRenderer != null) {
+                printSymbols(result, symbolRenderer);
             }
+        });
 
+        if (!result.getErrors().isEmpty()) {
+            System.out.println("Semantic Errors found:");
+            for (SemanticError error : result.getErrors()) {
+                System.out.println(error);
+            }
+        } else {
+            System.out.println("No Semantic Errors detected.");
+        }
+    }
+
+    private static void printSymbols(CompilationResult result, SymbolTableRenderer symbolRenderer)
+    {
+        // Rows are streamed straight to stdout instead of building the whole table as one string first.
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        try {
+            symbolRenderer.render(result.getSymbolTable(), out);
+            out.append('\n');
+            out.flush();
         } catch (IOException e) {
-            System.err.println("Failed to read input file: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Parsing error: " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("Failed to write the symbol table: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
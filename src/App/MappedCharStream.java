@@ -0,0 +1,294 @@
+package App;
+
+import AST.LineMap;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A CharStream that decodes UTF-8 straight out of a ByteBuffer, usually a memory-mapped file, instead of
+ * copying the whole input into a code point array first. Stream indexes are code points, as with
+ * CharStreams.fromPath, and malformed bytes decode to the same U+FFFD replacements.
+ * Pure ASCII input is detected while counting code points and then indexes bytes directly. Otherwise the
+ * byte offset of every CHECKPOINT_INTERVAL-th code point is kept, and seeks step from the preceding
+ * checkpoint or from the current position, whichever is closer. The same pass records where lines start,
+ * since a '\n' byte is always a code point of its own.
+ */
+public class MappedCharStream implements CharStream {
+    private static final int CHECKPOINT_SHIFT = 8;
+    private static final int CHECKPOINT_INTERVAL = 1 << CHECKPOINT_SHIFT;
+    private static final int REPLACEMENT = 0xFFFD;
+
+    private final ByteBuffer _bytes;
+    private final String _sourceName;
+    private final int _size;
+    private final int[] _checkpoints;
+    private final LineMap _lineMap;
+
+    private int _index;
+    private int _offset;
+
+    public MappedCharStream(ByteBuffer bytes, String sourceName) {
+        _bytes = bytes.slice();
+        _sourceName = sourceName;
+
+        LineMap.Builder lines = new LineMap.Builder();
+        int limit = _bytes.limit();
+        int offset = 0;
+        for (byte b; offset < limit && (b = _bytes.get(offset)) >= 0; offset++) {
+            if (b == '\n') {
+                lines.addLineStart(offset + 1);
+            }
+        }
+        if (offset == limit) {
+            _size = limit;
+            _checkpoints = null;
+            _lineMap = lines.build();
+            return;
+        }
+
+        // Non-ASCII input: count code points from the first multi-byte sequence on, recording checkpoints.
+        int[] checkpoints = new int[(limit >> CHECKPOINT_SHIFT) + 1];
+        for (int i = 0; i << CHECKPOINT_SHIFT < offset; i++) {
+            checkpoints[i] = i << CHECKPOINT_SHIFT;
+        }
+        int count = offset;
+        while (offset < limit) {
+            if ((count & (CHECKPOINT_INTERVAL - 1)) == 0) {
+                checkpoints[count >> CHECKPOINT_SHIFT] = offset;
+            }
+            if (_bytes.get(offset) == '\n') {
+                lines.addLineStart(count + 1);
+            }
+            offset += sequenceLength(offset);
+            count++;
+        }
+        _size = count;
+        _checkpoints = checkpoints;
+        _lineMap = lines.build();
+    }
+
+    public static MappedCharStream open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + file + " (" + size + " bytes)");
+            }
+            // The mapping stays valid after the channel is closed.
+            return new MappedCharStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), file.toString());
+        }
+    }
+
+    public boolean isAscii() {
+        return _checkpoints == null;
+    }
+
+    public LineMap getLineMap() {
+        return _lineMap;
+    }
+
+    @Override
+    public void consume() {
+        if (_index >= _size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        _offset += _checkpoints == null ? 1 : sequenceLength(_offset);
+        _index++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) {
+            return 0;
+        }
+        if (_checkpoints == null) {
+            int index = i > 0 ? _index + i - 1 : _index + i;
+            return index < 0 || index >= _size ? IntStream.EOF : _bytes.get(index);
+        }
+        if (i > 0) {
+            if (_index + i - 1 >= _size) {
+                return IntStream.EOF;
+            }
+            int offset = _offset;
+            for (int step = 1; step < i; step++) {
+                offset += sequenceLength(offset);
+            }
+            return decode(offset);
+        }
+        if (_index + i < 0) {
+            return IntStream.EOF;
+        }
+        int offset = _offset;
+        for (int step = 0; step > i; step--) {
+            offset = previousOffset(offset);
+        }
+        return decode(offset);
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return _index;
+    }
+
+    @Override
+    public void seek(int index) {
+        index = Math.max(0, Math.min(index, _size));
+        _offset = offsetOf(index);
+        _index = index;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return _sourceName == null || _sourceName.isEmpty() ? UNKNOWN_SOURCE_NAME : _sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.max(0, interval.a);
+        int stop = Math.min(interval.b, _size - 1);
+        if (start > stop) {
+            return "";
+        }
+        if (_checkpoints == null) {
+            byte[] text = new byte[stop - start + 1];
+            _bytes.get(start, text);
+            return new String(text, StandardCharsets.ISO_8859_1);
+        }
+        StringBuilder text = new StringBuilder(stop - start + 1);
+        int offset = offsetOf(start);
+        for (int i = start; i <= stop; i++) {
+            text.appendCodePoint(decode(offset));
+            offset += sequenceLength(offset);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, _size - 1));
+    }
+
+    private int offsetOf(int index) {
+        if (_checkpoints == null) {
+            return index;
+        }
+        int checkpoint = index >> CHECKPOINT_SHIFT;
+        int fromCheckpoint = index - (checkpoint << CHECKPOINT_SHIFT);
+        int fromCurrent = Math.abs(index - _index);
+
+        int offset;
+        int position;
+        if (fromCurrent < fromCheckpoint) {
+            offset = _offset;
+            position = _index;
+        } else {
+            offset = _checkpoints[checkpoint];
+            position = checkpoint << CHECKPOINT_SHIFT;
+        }
+        for (; position < index; position++) {
+            offset += sequenceLength(offset);
+        }
+        for (; position > index; position--) {
+            offset = previousOffset(offset);
+        }
+        return offset;
+    }
+
+    // Byte length of the code point starting at offset. A malformed sequence is as long as its longest
+    // valid prefix, at least one byte, which is how the JDK decoder splits input into U+FFFD replacements;
+    // counting, decoding and stepping all go through here so they agree on code point boundaries.
+    private int sequenceLength(int offset) {
+        int lead = _bytes.get(offset) & 0xFF;
+        int length = expectedLength(lead);
+        if (length <= 1) {
+            return 1;
+        }
+        for (int i = 1; i < length; i++) {
+            if (offset + i >= _bytes.limit()) {
+                return i;
+            }
+            int next = _bytes.get(offset + i) & 0xFF;
+            int low = 0x80;
+            int high = 0xBF;
+            if (i == 1) {
+                // Excludes overlong forms and values past U+10FFFF; encoded surrogates are left to decode().
+                switch (lead) {
+                    case 0xE0 -> low = 0xA0;
+                    case 0xF0 -> low = 0x90;
+                    case 0xF4 -> high = 0x8F;
+                    default -> { }
+                }
+            }
+            if (next < low || next > high) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int expectedLength(int lead) {
+        if (lead < 0x80) {
+            return 1;
+        } else if (lead >= 0xC2 && lead <= 0xDF) {
+            return 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            return 3;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private int decode(int offset) {
+        int lead = _bytes.get(offset) & 0xFF;
+        if (lead < 0x80) {
+            return lead;
+        }
+        int length = expectedLength(lead);
+        if (length == 0 || sequenceLength(offset) != length) {
+            return REPLACEMENT;
+        }
+        int codePoint = switch (length) {
+            case 2 -> (lead & 0x1F) << 6 | (_bytes.get(offset + 1) & 0x3F);
+            case 3 -> (lead & 0x0F) << 12 | (_bytes.get(offset + 1) & 0x3F) << 6 | (_bytes.get(offset + 2) & 0x3F);
+            default -> (lead & 0x07) << 18 | (_bytes.get(offset + 1) & 0x3F) << 12
+                    | (_bytes.get(offset + 2) & 0x3F) << 6 | (_bytes.get(offset + 3) & 0x3F);
+        };
+        return codePoint >= 0xD800 && codePoint <= 0xDFFF ? REPLACEMENT : codePoint;
+    }
+
+    private int previousOffset(int offset) {
+        // Step back over up to three continuation bytes, then check the candidate sequence really ends at offset.
+        for (int length = 2; length <= 4 && offset - length >= 0; length++) {
+            int start = offset - length;
+            if ((_bytes.get(start + 1) & 0xC0) != 0x80) {
+                break;
+            }
+            if ((_bytes.get(start) & 0xC0) != 0x80) {
+                return sequenceLength(start) == length ? start : offset - 1;
+            }
+        }
+        return offset - 1;
+    }
+}
@@ -0,0 +1,39 @@
+package App;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counters for how each file was parsed, shared by all workers of a Compiler.
+ */
+public class ParseStatistics {
+    private final AtomicLong _sllParses = new AtomicLong();
+    private final AtomicLong _llParses = new AtomicLong();
+    private final AtomicLong _llFallbacks = new AtomicLong();
+
+    void recordSLL() {
+        _sllParses.incrementAndGet();
+    }
+
+    void recordLL() {
+        _llParses.incrementAndGet();
+    }
+
+    void recordFallback() {
+        _llFallbacks.incrementAndGet();
+    }
+
+    public long getSllParses() { return _sllParses.get(); }
+    public long getLlParses() { return _llParses.get(); }
+    public long getLlFallbacks() { return _llFallbacks.get(); }
+
+    public double getFallbackRatio() {
+        long attempts = _sllParses.get() + _llFallbacks.get();
+        return attempts == 0 ? 0.0 : (double) _llFallbacks.get() / attempts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Parse statistics: %d SLL, %d LL fallback (%.1f%%), %d LL only",
+                getSllParses(), getLlFallbacks(), getFallbackRatio() * 100, getLlParses());
+    }
+}
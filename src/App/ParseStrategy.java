@@ -0,0 +1,77 @@
+package App;
+
+import antlr.AngularParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How AngularParser.program() resolves its adaptive predictions.
+ * TWO_STAGE first parses with the cheaper SLL prediction and bails out on the first syntax error;
+ * only then is the input rewound and parsed again with full LL, which gives the same tree and diagnostics as LL alone.
+ * Errors of the LL pass go to the error listeners the parser had when parse() was called.
+ */
+public enum ParseStrategy {
+    LL("ll"),
+    SLL("sll"),
+    TWO_STAGE("two-stage");
+
+    private final String _optionName;
+
+    ParseStrategy(String optionName) {
+        _optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return _optionName;
+    }
+
+    public static ParseStrategy fromOption(String value) {
+        for (ParseStrategy strategy : values()) {
+            if (strategy._optionName.equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown prediction mode: " + value);
+    }
+
+    public ParseTree parse(AngularParser parser, ParseStatistics statistics) {
+        switch (this) {
+            case LL:
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                statistics.recordLL();
+                return parser.program();
+            case SLL:
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                statistics.recordSLL();
+                return parser.program();
+            default:
+                return parseTwoStage(parser, statistics);
+        }
+    }
+
+    private static ParseTree parseTwoStage(AngularParser parser, ParseStatistics statistics) {
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            ParseTree tree = parser.program();
+            statistics.recordSLL();
+            return tree;
+        } catch (ParseCancellationException e) {
+            parser.reset();
+            listeners.forEach(parser::addErrorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            statistics.recordFallback();
+            return parser.program();
+        }
+    }
+}
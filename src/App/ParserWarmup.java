@@ -0,0 +1,77 @@
+package App;
+
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Populates the process-wide lexer and parser DFA caches before the first real compilation.
+ * The corpus is only lexed and parsed; no visitor runs and nothing is reported, syntax errors included.
+ */
+public class ParserWarmup {
+    public static final String BUNDLED_CORPUS = "test";
+
+    public static List<Path> bundledCorpus() throws IOException {
+        Path directory = Paths.get(BUNDLED_CORPUS);
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        return SourceCollector.collect(List.of(BUNDLED_CORPUS));
+    }
+
+    public static WarmupReport warmUp(List<Path> corpus, ParseStrategy strategy) {
+        DfaSnapshot before = DfaSnapshot.capture();
+        long start = System.nanoTime();
+        int parsed = 0;
+
+        for (Path file : corpus) {
+            try {
+                AngularLexer lexer = new AngularLexer(CharStreams.fromPath(file));
+                lexer.removeErrorListeners();
+
+                AngularParser parser = new AngularParser(new CommonTokenStream(lexer));
+                parser.removeErrorListeners();
+
+                strategy.parse(parser, new ParseStatistics());
+                parsed++;
+            } catch (IOException | RuntimeException ignored) {
+            }
+        }
+
+        DfaSnapshot after = DfaSnapshot.capture();
+        return new WarmupReport(parsed, System.nanoTime() - start, after.since(before), after);
+    }
+
+    public static class WarmupReport {
+        private final int _files;
+        private final long _elapsedNanos;
+        private final DfaSnapshot _added;
+        private final DfaSnapshot _total;
+
+        private WarmupReport(int files, long elapsedNanos, DfaSnapshot added, DfaSnapshot total) {
+            _files = files;
+            _elapsedNanos = elapsedNanos;
+            _added = added;
+            _total = total;
+        }
+
+        public int getFiles() { return _files; }
+        public long getElapsedNanos() { return _elapsedNanos; }
+        public DfaSnapshot getAdded() { return _added; }
+        public DfaSnapshot getTotal() { return _total; }
+
+        @Override
+        public String toString() {
+            return String.format("Warm-up parsed %d file(s) in %d ms, added %d parser and %d lexer DFA states",
+                    _files, _elapsedNanos / 1_000_000, _added.getParserStates(), _added.getLexerStates());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package App;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Expands command line inputs (files, directories, glob patterns) into an ordered list of source files.
+ * Directories are walked recursively and contribute every file ending in one of the source extensions.
+ * Each file also has a path relative to the root of its input: the directory, the directory before the first
+ * wildcard of a glob, or for a single file the working directory (its parent when it lies outside).
+ */
+public class SourceCollector {
+    private static final List<String> SOURCE_EXTENSIONS = List.of(".ts", ".txt");
+
+    public static List<Path> collect(List<String> inputs) throws IOException {
+        return new ArrayList<>(collectRelative(inputs).keySet());
+    }
+
+    /**
+     * Returns the same files as collect, in the same order, each mapped to its path relative to its input's root.
+     */
+    public static Map<Path, Path> collectRelative(List<String> inputs) throws IOException {
+        Map<Path, Path> files = new LinkedHashMap<>();
+        for (String input : inputs) {
+            if (isGlob(input)) {
+                Path base = globBase(input);
+                for (Path file : expandGlob(input)) {
+                    files.putIfAbsent(file, base.normalize().relativize(file));
+                }
+            } else {
+                Path path = Paths.get(input);
+                if (Files.isDirectory(path)) {
+                    for (Path file : walk(path)) {
+                        files.putIfAbsent(file, path.normalize().relativize(file));
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    files.putIfAbsent(path.normalize(), relativeToWorkingDirectory(path));
+                } else {
+                    throw new IOException("No such file or directory: " + input);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static Path relativeToWorkingDirectory(Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path workingDirectory = Paths.get("").toAbsolutePath();
+        return absolute.startsWith(workingDirectory) ? workingDirectory.relativize(absolute) : absolute.getFileName();
+    }
+
+    public static boolean isSourceFile(Path path) {
+        String name = path.getFileName().toString();
+        for (String extension : SOURCE_EXTENSIONS) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGlob(String input) {
+        return input.indexOf('*') >= 0 || input.indexOf('?') >= 0
+                || input.indexOf('[') >= 0 || input.indexOf('{') >= 0;
+    }
+
+    static List<Path> walk(Path directory) throws IOException {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            return stream.filter(Files::isRegularFile)
+                    .filter(SourceCollector::isSourceFile)
+                    .map(Path::normalize)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static Path globBase(String pattern) {
+        String normalized = pattern.replace('\\', '/');
+        int baseEnd = normalized.lastIndexOf('/', firstWildcardIndex(normalized));
+        return baseEnd < 0 ? Paths.get(".") : Paths.get(normalized.substring(0, Math.max(baseEnd, 1)));
+    }
+
+    private static List<Path> expandGlob(String pattern) throws IOException {
+        String normalized = pattern.replace('\\', '/');
+        int baseEnd = normalized.lastIndexOf('/', firstWildcardIndex(normalized));
+        Path base = globBase(pattern);
+        String relativePattern = normalized.substring(baseEnd + 1);
+
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + relativePattern);
+        try (Stream<Path> stream = Files.walk(base)) {
+            return stream.filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(base.relativize(path)))
+                    .map(Path::normalize)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int firstWildcardIndex(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+}
@@ -0,0 +1,246 @@
+package App;
+
+import AST.Declarations.ComponentDefinition;
+import AST.LineMap;
+import AST.Program;
+import AST.SourceSpan;
+import AST.Statement.ImportStatement;
+import Profiling.Phase;
+import Profiling.PhaseProfiler;
+import Visitor.AngularCompVisitor;
+import antlr.AngularLexer;
+import antlr.AngularParser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Parses a program one top-level rule at a time over unbuffered char and token streams. Each import and
+ * component is handed to the visitor as soon as it is parsed and its parse tree dropped, so memory stays
+ * bounded by the lookahead window and the AST instead of growing with the token count of the file.
+ * TWO_STAGE works per rule: the rule's tokens stay marked in the token stream until the SLL attempt
+ * succeeds, so a failed attempt is rewound to the start of the rule and parsed again with LL.
+ * One instance parses one file.
+ */
+public class StreamingParser {
+    private static final int CHAR_BUFFER_SIZE = 4096;
+
+    private final Path _file;
+    private final ParseStrategy _parseStrategy;
+    private final PhaseProfiler _profiler;
+    private final ANTLRErrorListener _errorListener;
+    private final UnbufferedCharStream _input;
+    private final UnbufferedTokenStream<Token> _tokens;
+    private final LineMap.Builder _lines = new LineMap.Builder();
+    private AngularParser _parser;
+    private boolean _fellBack;
+
+    public StreamingParser(Path file, Reader reader, ParseStrategy parseStrategy, PhaseProfiler profiler,
+                           ANTLRErrorListener errorListener) {
+        _file = file;
+        _parseStrategy = parseStrategy;
+        _profiler = profiler;
+        _errorListener = errorListener;
+        _input = profiler.call(file, Phase.LEX, () -> new UnbufferedCharStream(new LineRecordingReader(reader, _lines), CHAR_BUFFER_SIZE));
+        _input.name = file.toString();
+        _tokens = profiler.call(file, Phase.LEX, () -> {
+            AngularLexer lexer = new AngularLexer(_input);
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(errorListener);
+            // Token text has to be copied out of the char window before the window slides past it.
+            lexer.setTokenFactory(new CommonTokenFactory(true));
+            return new UnbufferedTokenStream<>(lexer);
+        });
+        _parser = newParser();
+    }
+
+    public Program parse(AngularCompVisitor visitor, ParseStatistics statistics) {
+        List<ImportStatement> importStatements = new ArrayList<>();
+        List<ComponentDefinition> components = new ArrayList<>();
+        Token programStart = _tokens.LT(1);
+        boolean inComponents = false;
+
+        boolean recovering = false;
+        while (_tokens.LA(1) != Token.EOF) {
+            int type = _tokens.LA(1);
+            boolean expected = type == AngularParser.COMPONENT || type == AngularParser.INTERFACE
+                    || (!inComponents && type == AngularParser.IMPORT);
+            if (!expected) {
+                // What program() reports and skips between its top-level rules; a run of tokens is reported once.
+                if (!recovering) {
+                    reportExtraneous(_tokens.LT(1), inComponents);
+                    recovering = true;
+                }
+                _tokens.consume();
+                continue;
+            }
+            recovering = false;
+
+            int start = _tokens.index();
+            if (type == AngularParser.IMPORT) {
+                AngularParser.ImportStatementContext ctx = parseRule(AngularParser::importStatement);
+                importStatements.add((ImportStatement) visit(() -> visitor.visit(ctx)));
+            } else {
+                if (!inComponents) {
+                    visitor.checkComponentImport(programStart);
+                    inComponents = true;
+                }
+                if (type == AngularParser.INTERFACE) {
+                    // Interfaces are not part of the AST; parsing them only reports their syntax errors.
+                    parseRule(AngularParser::interfaceDeclaration);
+                } else {
+                    AngularParser.ComponentDefinitionContext ctx = parseRule(AngularParser::componentDefinition);
+                    components.add((ComponentDefinition) visit(() -> visitor.visitComponent(ctx)));
+                }
+            }
+            if (_tokens.index() == start) {
+                // Error recovery consumed nothing; skip the offending token so the loop always advances.
+                _tokens.consume();
+            }
+        }
+
+        if (!inComponents) {
+            visitor.checkComponentImport(programStart);
+            reportExtraneous(_tokens.LT(1), false);
+        }
+
+        switch (_parseStrategy) {
+            case LL -> statistics.recordLL();
+            case SLL -> statistics.recordSLL();
+            default -> {
+                if (_fellBack) {
+                    statistics.recordFallback();
+                } else {
+                    statistics.recordSLL();
+                }
+            }
+        }
+
+        Program program = (Program) visit(() -> visitor.finishProgram(importStatements, components));
+        program.setSpan(SourceSpan.of(programStart.getStartIndex(), _input.index()));
+        program.setLineMap(_lines.build());
+        return program;
+    }
+
+    public int getCharactersRead() {
+        return _input.index();
+    }
+
+    public int getTokensRead() {
+        return _tokens.index();
+    }
+
+    private void reportExtraneous(Token token, boolean inComponents) {
+        IntervalSet expected = IntervalSet.of(AngularParser.COMPONENT);
+        expected.add(AngularParser.INTERFACE);
+        expected.add(inComponents ? Token.EOF : AngularParser.IMPORT);
+        String text = token.getType() == Token.EOF ? "<EOF>"
+                : token.getText().replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+        String message = "extraneous input '" + text + "' expecting " + expected.toString(AngularParser.VOCABULARY);
+        _errorListener.syntaxError(_parser, token, token.getLine(), token.getCharPositionInLine(), message, null);
+    }
+
+    private Object visit(Supplier<Object> visit) {
+        return _profiler.call(_file, Phase.VISIT, visit::get);
+    }
+
+    private <T extends ParserRuleContext> T parseRule(Function<AngularParser, T> rule) {
+        return _profiler.call(_file, Phase.PARSE, () -> {
+            if (_parseStrategy != ParseStrategy.TWO_STAGE) {
+                return rule.apply(_parser);
+            }
+
+            int marker = _tokens.mark();
+            int start = _tokens.index();
+            try {
+                return rule.apply(_parser);
+            } catch (ParseCancellationException e) {
+                _tokens.seek(start);
+                _fellBack = true;
+                // A bailed-out parser is left inside the failed rule and cannot be reset without
+                // rewinding to the start of the file, so both attempts continue on fresh parsers.
+                _parser = newParser();
+                AngularParser fallback = new AngularParser(_tokens);
+                fallback.removeErrorListeners();
+                fallback.addErrorListener(_errorListener);
+                fallback.getInterpreter().setPredictionMode(PredictionMode.LL);
+                return rule.apply(fallback);
+            } finally {
+                _tokens.release(marker);
+            }
+        });
+    }
+
+    /**
+     * Passes the source through while recording its line starts, since the unbuffered char stream forgets
+     * everything behind its window. Offsets are counted in code points to match token indexes.
+     */
+    private static class LineRecordingReader extends FilterReader {
+        private final LineMap.Builder _lines;
+        private boolean _afterHighSurrogate;
+
+        LineRecordingReader(Reader in, LineMap.Builder lines) {
+            super(in);
+            _lines = lines;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c != -1) {
+                record((char) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            for (int i = 0; i < count; i++) {
+                record(buffer[offset + i]);
+            }
+            return count;
+        }
+
+        private void record(char c) {
+            if (_afterHighSurrogate && Character.isLowSurrogate(c)) {
+                _afterHighSurrogate = false;
+                return;
+            }
+            _afterHighSurrogate = Character.isHighSurrogate(c);
+            _lines.add(c);
+        }
+    }
+
+    private AngularParser newParser() {
+        AngularParser parser = new AngularParser(_tokens);
+        parser.removeErrorListeners();
+        parser.addErrorListener(_errorListener);
+        switch (_parseStrategy) {
+            case LL -> parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            case SLL -> parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            default -> {
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                parser.removeErrorListeners();
+                parser.setErrorHandler(new BailErrorStrategy());
+            }
+        }
+        return parser;
+    }
+}
@@ -0,0 +1,12 @@
+package App;
+
+/**
+ * A lexer or parser error, copied out of ANTLR's callback so a CompilationResult keeps no reference to the
+ * recognizer, its input or the offending token.
+ */
+public record SyntaxError(int line, int column, String message) {
+    @Override
+    public String toString() {
+        return "line " + line + ":" + column + " " + message;
+    }
+}
@@ -0,0 +1,30 @@
+package App;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Error listener for the lexer and parser of one file; records each error as a SyntaxError instead of
+ * printing it, so diagnostics travel with the CompilationResult.
+ */
+public class SyntaxErrorCollector extends BaseErrorListener {
+    private final List<SyntaxError> _errors = new ArrayList<>();
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        _errors.add(new SyntaxError(line, charPositionInLine, msg));
+    }
+
+    public void add(SyntaxError error) {
+        _errors.add(error);
+    }
+
+    public List<SyntaxError> getErrors() {
+        return _errors;
+    }
+}
@@ -0,0 +1,262 @@
+package App;
+
+import Helpers.ProjectDependencyGraph;
+import Semantic.CircularDependencyError;
+import Semantic.SemanticError;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Keeps the compiler resident, watches source directories and recompiles only the files that changed.
+ * After each recompilation the difference to the previous semantic errors of that file is printed:
+ * "+" for newly reported errors and "-" for errors that disappeared. The project dependency graph is updated
+ * with the edges of the recompiled files only, and cross-file cycles that appeared or went away are printed the same way.
+ * Every compilation result is also passed to the emitter with the file's path below its input, as Main computes
+ * it for a batch; files created later in a watched directory are relative to that input directory.
+ */
+public class WatchDaemon implements AutoCloseable {
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final BatchCompiler _batchCompiler;
+    private final WatchService _watchService;
+    private final Map<WatchKey, Path> _watchedDirectories = new HashMap<>();
+    private final Set<Path> _directories = new HashSet<>();
+    private final Set<Path> _treeDirectories = new HashSet<>();
+    private final Set<Path> _watchedFiles = new LinkedHashSet<>();
+    private final List<Path> _inputDirectories = new ArrayList<>();
+    private final Map<Path, Path> _relativePaths = new HashMap<>();
+    private final BiConsumer<CompilationResult, Path> _emitter;
+    private final Map<Path, List<String>> _lastErrors = new HashMap<>();
+    private final ProjectDependencyGraph _dependencyGraph = new ProjectDependencyGraph();
+    private final PrintStream _out;
+
+    public WatchDaemon(BatchCompiler batchCompiler, PrintStream out, BiConsumer<CompilationResult, Path> emitter) throws IOException {
+        _batchCompiler = batchCompiler;
+        _watchService = FileSystems.getDefault().newWatchService();
+        _out = out;
+        _emitter = emitter;
+    }
+
+    public void watch(List<String> inputs) throws IOException {
+        for (String input : inputs) {
+            Path path = Path.of(input);
+            if (Files.isDirectory(path)) {
+                Path directory = path.toAbsolutePath().normalize();
+                _inputDirectories.add(directory);
+                registerTree(directory);
+            }
+        }
+        for (Map.Entry<Path, Path> entry : SourceCollector.collectRelative(inputs).entrySet()) {
+            Path absolute = entry.getKey().toAbsolutePath().normalize();
+            _watchedFiles.add(absolute);
+            _relativePaths.putIfAbsent(absolute, entry.getValue());
+            Path parent = absolute.getParent();
+            if (parent != null && !_directories.contains(parent)) {
+                register(parent);
+            }
+        }
+    }
+
+    public void run() throws InterruptedException {
+        recompile(new ArrayList<>(_watchedFiles));
+        printCycleDiff(List.of(), projectCycles());
+        _out.println("Watching " + _watchedFiles.size() + " file(s) for changes. Press Ctrl+C to stop.");
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collectChanges(_watchService.take(), changed);
+
+                WatchKey next;
+                while ((next = _watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collectChanges(next, changed);
+                }
+
+                List<String> cyclesBefore = projectCycles();
+                List<Path> existing = new ArrayList<>();
+                for (Path file : changed) {
+                    if (Files.isRegularFile(file)) {
+                        existing.add(file);
+                    } else if (_watchedFiles.remove(file)) {
+                        printDiff(file, List.of());
+                        _lastErrors.remove(file);
+                        _relativePaths.remove(file);
+                        _dependencyGraph.removeFile(file);
+                        _out.println(file + ": removed");
+                    }
+                }
+                recompile(existing);
+                printCycleDiff(cyclesBefore, projectCycles());
+            }
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changed) {
+        Path directory = _watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) {
+                changed.addAll(_watchedFiles);
+                continue;
+            }
+
+            Path child = directory.resolve((Path) event.context()).normalize();
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(child)) {
+                try {
+                    registerTree(child);
+                    changed.addAll(SourceCollector.walk(child));
+                } catch (IOException e) {
+                    _out.println("Failed to watch directory " + child + ": " + e.getMessage());
+                }
+            } else if (isTracked(child)) {
+                changed.add(child);
+            }
+        }
+        if (!key.reset()) {
+            Path removed = _watchedDirectories.remove(key);
+            _directories.remove(removed);
+            _treeDirectories.remove(removed);
+        }
+    }
+
+    // New files are picked up only inside directories given as inputs; the parent of an input file is
+    // watched for that file alone.
+    private boolean isTracked(Path file) {
+        return _watchedFiles.contains(file) || SourceCollector.isSourceFile(file) && isInsideWatchedTree(file);
+    }
+
+    private boolean isInsideWatchedTree(Path file) {
+        Path parent = file.getParent();
+        return parent != null && _treeDirectories.contains(parent);
+    }
+
+    private void recompile(List<Path> files) throws InterruptedException {
+        if (files.isEmpty()) {
+            return;
+        }
+        _watchedFiles.addAll(files);
+        BatchCompiler.BatchSummary summary = _batchCompiler.compileAll(files, this::report);
+        _out.println(summary);
+    }
+
+    private void report(CompilationResult result) {
+        Path file = result.getFile();
+        for (SyntaxError error : result.getSyntaxErrors()) {
+            System.err.println(file + ": " + error);
+        }
+        _emitter.accept(result, relativePath(file));
+        if (result.isFailed()) {
+            _out.println(file + ": compilation failed: " + result.getFailure());
+            return;
+        }
+        _dependencyGraph.updateFile(file, ProjectDependencyGraph.moduleDependencies(result.getProgram()));
+
+        List<String> errors = new ArrayList<>();
+        for (SemanticError error : result.getErrors()) {
+            errors.add(error.toString());
+        }
+        printDiff(file, errors);
+        _lastErrors.put(file, errors);
+    }
+
+    private Path relativePath(Path file) {
+        return _relativePaths.computeIfAbsent(file, key -> {
+            for (Path directory : _inputDirectories) {
+                if (key.startsWith(directory)) {
+                    return directory.relativize(key);
+                }
+            }
+            return key.getFileName();
+        });
+    }
+
+    private void printDiff(Path file, List<String> errors) {
+        List<String> previous = _lastErrors.getOrDefault(file, List.of());
+        if (previous.equals(errors)) {
+            _out.println(file + ": " + (errors.isEmpty() ? "no semantic errors" : "unchanged, " + errors.size() + " semantic error(s)"));
+            return;
+        }
+
+        _out.println(file + ":");
+        Set<String> before = new LinkedHashSet<>(previous);
+        Set<String> after = new LinkedHashSet<>(errors);
+        for (String error : previous) {
+            if (!after.contains(error)) {
+                _out.println("  - " + error);
+            }
+        }
+        for (String error : errors) {
+            if (!before.contains(error)) {
+                _out.println("  + " + error);
+            }
+        }
+    }
+
+    private List<String> projectCycles() {
+        List<String> cycles = new ArrayList<>();
+        for (List<String> cycle : _dependencyGraph.getCrossFileCycles()) {
+            cycles.add(new CircularDependencyError(cycle).toString());
+        }
+        return cycles;
+    }
+
+    private void printCycleDiff(List<String> before, List<String> after) {
+        for (String cycle : before) {
+            if (!after.contains(cycle)) {
+                _out.println("project:  - " + cycle);
+            }
+        }
+        for (String cycle : after) {
+            if (!before.contains(cycle)) {
+                _out.println("project:  + " + cycle);
+            }
+        }
+    }
+
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                register(directory);
+                _treeDirectories.add(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void register(Path directory) throws IOException {
+        WatchKey key = directory.register(_watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        _watchedDirectories.put(key, directory);
+        _directories.add(directory);
+    }
+
+    @Override
+    public void close() throws IOException {
+        _watchService.close();
+    }
+}
@@ -0,0 +1,144 @@
+package CodeGen;
+
+import AST.Expression.*;
+import AST.Properties.ObjectProperty;
+import AST.Types.BooleanLiteral;
+import AST.Types.StringLiteral;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Translates a parsed template expression into a JavaScript expression. Names resolve to template locals
+ * first and to members of the component instance, ctx, otherwise. Every compound expression is fully
+ * parenthesized, since the binding parser does not keep the source's grouping. A pipe translates to a call
+ * of the module's pipe() helper, which runs the transform registered under the pipe's name.
+ */
+final class ExpressionTranslator {
+    private final Function<String, String> _locals;
+    private final StringBuilder _out = new StringBuilder();
+
+    private ExpressionTranslator(Function<String, String> locals) {
+        _locals = locals;
+    }
+
+    /**
+     * @param locals maps a template local to the JavaScript that reads it, or returns null for other names
+     */
+    static String translate(Expression expression, Function<String, String> locals) {
+        ExpressionTranslator translator = new ExpressionTranslator(locals);
+        translator.emit(expression);
+        return translator._out.toString();
+    }
+
+    private void emit(Object node) {
+        if (node instanceof IdentifierExpression identifier) {
+            String local = _locals.apply(identifier.getName());
+            _out.append(local != null ? local : "ctx." + identifier.getName());
+        } else if (node instanceof ThisExpression) {
+            _out.append("ctx");
+        } else if (node instanceof PostfixExpression postfix) {
+            emit(postfix.getBase());
+            for (Object part : postfix.getParts()) {
+                emit(part);
+            }
+        } else if (node instanceof SafePropertyAccess access) {
+            _out.append("?.").append(access.getProperty());
+        } else if (node instanceof PropertyAccess access) {
+            _out.append('.').append(access.getProperty());
+        } else if (node instanceof KeyedAccess keyed) {
+            _out.append('[');
+            emit(keyed.getKey());
+            _out.append(']');
+        } else if (node instanceof FunctionCallExpression call) {
+            _out.append('(');
+            emitList(call.getArguments());
+            _out.append(')');
+        } else if (node instanceof PipeExpression pipe) {
+            _out.append("pipe(").append(JsWriter.quote(pipe.getName())).append(", ");
+            emit(pipe.getInput());
+            for (Expression argument : pipe.getArguments()) {
+                _out.append(", ");
+                emit(argument);
+            }
+            _out.append(')');
+        } else if (node instanceof SequenceExpression sequence) {
+            if (sequence.getExpressions().isEmpty()) {
+                _out.append("undefined");
+            } else {
+                _out.append('(');
+                emitList(sequence.getExpressions());
+                _out.append(')');
+            }
+        } else if (node instanceof BinaryExpression binary) {
+            boolean assignment = binary.getOperator().equals("=");
+            _out.append(assignment ? "" : "(");
+            emit(binary.getLeft());
+            _out.append(' ').append(binary.getOperator()).append(' ');
+            emit(binary.getRight());
+            _out.append(assignment ? "" : ")");
+        } else if (node instanceof UnaryExpression unary) {
+            _out.append('(').append(unary.getOperator());
+            emit(unary.getExpression());
+            _out.append(')');
+        } else if (node instanceof ConditionalExpression conditional) {
+            _out.append('(');
+            emit(conditional.getCondition());
+            _out.append(" ? ");
+            emit(conditional.getTrueExpr());
+            _out.append(" : ");
+            emit(conditional.getFalseExpr());
+            _out.append(')');
+        } else if (node instanceof StringLiteral string) {
+            _out.append(JsWriter.quote(unescape(string.getValue())));
+        } else if (node instanceof BooleanLiteral bool) {
+            _out.append(bool.getValue());
+        } else if (node instanceof LiteralExpression literal) {
+            _out.append(literal.getValue());
+        } else if (node instanceof ArrayExpression array) {
+            _out.append('[');
+            emitList(array.getElements());
+            _out.append(']');
+        } else if (node instanceof ObjectExpression object) {
+            _out.append('{');
+            List<ObjectProperty> properties = object.getProperties();
+            for (int i = 0; i < properties.size(); i++) {
+                _out.append(i == 0 ? "" : ", ").append(JsWriter.quote(properties.get(i).getKey())).append(": ");
+                emit(properties.get(i).getValue());
+            }
+            _out.append('}');
+        } else {
+            _out.append("undefined");
+        }
+    }
+
+    private void emitList(List<Expression> expressions) {
+        for (int i = 0; i < expressions.size(); i++) {
+            _out.append(i == 0 ? "" : ", ");
+            emit(expressions.get(i));
+        }
+    }
+
+    // String literals keep their source escapes; quote() escapes again, so resolve them first.
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                builder.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            builder.append(switch (escaped) {
+                case 'n' -> '\n';
+                case 't' -> '\t';
+                case 'r' -> '\r';
+                default -> escaped;
+            });
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package CodeGen;
+
+/**
+ * Accumulates indented lines of generated JavaScript.
+ */
+final class JsWriter {
+    private static final String INDENT = "    ";
+
+    private final StringBuilder _out = new StringBuilder();
+    private int _depth;
+
+    JsWriter(int depth) {
+        _depth = depth;
+    }
+
+    JsWriter line(String text) {
+        _out.append(INDENT.repeat(_depth)).append(text).append('\n');
+        return this;
+    }
+
+    JsWriter blank() {
+        _out.append('\n');
+        return this;
+    }
+
+    /** Writes text followed by an opening brace and indents the lines after it. */
+    JsWriter open(String text) {
+        line(text.isEmpty() ? "{" : text + " {");
+        _depth++;
+        return this;
+    }
+
+    JsWriter close() {
+        return close("");
+    }
+
+    /** Closes the innermost brace, followed by text such as ");" or " else {". */
+    JsWriter close(String text) {
+        _depth--;
+        return line("}" + text);
+    }
+
+    /** Closes the innermost brace and opens the next block of the same statement, such as "else". */
+    JsWriter next(String text) {
+        _depth--;
+        line("} " + text + " {");
+        _depth++;
+        return this;
+    }
+
+    JsWriter append(JsWriter other) {
+        _out.append(other._out);
+        return this;
+    }
+
+    boolean isEmpty() {
+        return _out.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return _out.toString();
+    }
+
+    /** Quotes a string as a JavaScript literal; the result is ASCII. */
+    static String quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
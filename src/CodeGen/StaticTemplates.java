@@ -0,0 +1,108 @@
+package CodeGen;
+
+import AST.Template.TemplateAttribute;
+import AST.Template.TemplateElement;
+import AST.Template.TemplateNode;
+import AST.Template.TemplateText;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The DOM prototypes hoisted out of the view classes of one module. A prototype holds the fixed structure
+ * of a top-level element of a view: its static subtrees and plain attributes, empty text nodes where
+ * interpolations go and comments where embedded views are inserted. Each distinct prototype becomes a
+ * factory that builds it once per document and returns deep clones of it afterwards, so a view creates the
+ * element with one cloneNode call and only visits its dynamic nodes. Identical prototypes, even from
+ * different components, share a factory.
+ */
+final class StaticTemplates {
+    private final Map<String, String> _factories = new HashMap<>();
+    private final JsWriter _out = new JsWriter(0);
+
+    /**
+     * Returns the name of the factory function, taking a document, that creates a copy of the prototype.
+     */
+    String hoist(Prototype prototype) {
+        String code = prototype._code.toString();
+        String name = _factories.get(code);
+        if (name != null) {
+            return name;
+        }
+        int index = _factories.size();
+        name = "createStatic" + index;
+        _factories.put(code, name);
+
+        String cached = "static" + index;
+        _out.line("let " + cached + " = null;");
+        _out.blank();
+        _out.open("function " + name + "(d)");
+        _out.open("if (" + cached + " === null || " + cached + ".ownerDocument !== d)");
+        _out.append(prototype._code);
+        _out.line(cached + " = s0;");
+        _out.close();
+        _out.line("return " + cached + ".cloneNode(true);");
+        _out.close();
+        _out.blank();
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return _out.toString();
+    }
+
+    /**
+     * The code that builds one prototype; its nodes are named s0, s1, ... in creation order, s0 being the root.
+     */
+    static final class Prototype {
+        private final JsWriter _code = new JsWriter(2);
+        private int _nextNode;
+
+        /** Creates element with its plain attributes; interpolated ones are left to the view. */
+        String element(TemplateElement element) {
+            String name = newNode();
+            _code.line("const " + name + " = d.createElement(" + JsWriter.quote(element.getTagName()) + ");");
+            for (TemplateAttribute attribute : element.getAttributes()) {
+                if (ViewGenerator.AttributeInterpolation.parse(attribute.getValue()) == null) {
+                    String value = attribute.getValue() == null ? "" : ViewGenerator.cook(attribute.getValue());
+                    _code.line(name + ".setAttribute(" + JsWriter.quote(attribute.getName()) + ", " + JsWriter.quote(value) + ");");
+                }
+            }
+            return name;
+        }
+
+        String text(String text) {
+            String name = newNode();
+            _code.line("const " + name + " = d.createTextNode(" + JsWriter.quote(text) + ");");
+            return name;
+        }
+
+        String comment(String text) {
+            String name = newNode();
+            _code.line("const " + name + " = d.createComment(" + JsWriter.quote(text) + ");");
+            return name;
+        }
+
+        void append(String parent, String child) {
+            _code.line(parent + ".appendChild(" + child + ");");
+        }
+
+        /** Creates a node that the partitioner found static, with all its descendants. */
+        String staticSubtree(TemplateNode node) {
+            if (node instanceof TemplateText text) {
+                return text(ViewGenerator.cook(text.getText()));
+            }
+            TemplateElement element = (TemplateElement) node;
+            String name = element(element);
+            for (TemplateNode child : element.getChildren()) {
+                append(name, staticSubtree(child));
+            }
+            return name;
+        }
+
+        private String newNode() {
+            return "s" + _nextNode++;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package CodeGen;
+
+import AST.Declarations.ClassDeclaration;
+import AST.Declarations.ComponentDefinition;
+import AST.Program;
+import AST.Properties.ComponentProperty;
+import AST.Properties.TemplateProperty;
+
+import java.util.List;
+
+/**
+ * Compiles the templates of a program ahead of time into an ES module with one view class per component,
+ * named after the component class with a View suffix. new FooView(component, host) renders the template into
+ * the host element and update() brings the DOM up to date with the component: it checks only the bound
+ * expressions, each against its own cached value, with no per-update allocation for views whose *ngFor lists
+ * and *ngIf conditions did not change. Event listeners run their handler and then update the whole component.
+ * The fixed DOM structure of the templates is hoisted into module-level prototypes that views clone.
+ * Pipes are not compiled: the module exports a pipes registry, and rendering a piped binding fails until
+ * a transform of that name is registered there.
+ */
+public class TemplateCodeGenerator {
+    private static final String RUNTIME = String.join("\n",
+            "// Marks a slot that has not been written yet, so the first update() writes every binding.",
+            "const UNSET = {};",
+            "",
+            "function text(value) {",
+            "    return value == null ? \"\" : \"\" + value;",
+            "}",
+            "",
+            "// Pipe transforms by name, such as pipes.currency = (value, code) => ...; the compiler does not provide them.",
+            "export const pipes = {};",
+            "",
+            "function pipe(name, value, ...args) {",
+            "    const transform = pipes[name];",
+            "    if (transform === undefined) {",
+            "        throw new Error(\"No pipe named '\" + name + \"' is registered in pipes\");",
+            "    }",
+            "    return transform(value, ...args);",
+            "}",
+            "");
+
+    private TemplateCodeGenerator() {
+    }
+
+    public static String generate(Program program, String sourceName) {
+        StaticTemplates statics = new StaticTemplates();
+        StringBuilder classes = new StringBuilder();
+        for (ComponentDefinition component : program.getComponents()) {
+            ClassDeclaration declaration = component.getClassDeclaration();
+            if (declaration == null || component.getComponentConfig() == null) {
+                continue;
+            }
+            for (ComponentProperty property : component.getComponentConfig().getComponentProperties()) {
+                if (property instanceof TemplateProperty template) {
+                    TemplatePartitioner partition = TemplatePartitioner.partition(template.getNodes());
+                    ViewGenerator root = new ViewGenerator(declaration.getClassName() + "View", partition, statics);
+                    root.emitNodes(template.getNodes());
+                    classes.append(classes.isEmpty() ? "" : "\n").append("// ").append(declaration.getClassName())
+                            .append(": ").append(partition.getStaticCount()).append(" of ").append(partition.getNodeCount())
+                            .append(" template nodes are static.\n");
+                    List<ViewGenerator> views = root.getViews();
+                    for (int i = 0; i < views.size(); i++) {
+                        classes.append(i == 0 ? "" : "\n").append(views.get(i).render());
+                    }
+                    break;
+                }
+            }
+        }
+        return "// Generated from " + sourceName + ". Do not edit.\n\n" + RUNTIME + "\n" + statics + classes;
+    }
+}
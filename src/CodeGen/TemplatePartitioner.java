@@ -0,0 +1,67 @@
+package CodeGen;
+
+import AST.Template.TemplateAttribute;
+import AST.Template.TemplateElement;
+import AST.Template.TemplateNode;
+import AST.Template.TemplateText;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Classifies the nodes of a template as static or dynamic in one post-order walk. A node is static when
+ * nothing can change it after creation: text, and elements without bindings, directives or interpolated
+ * attributes whose children are all static. The generator creates each maximal static subtree from a
+ * hoisted prototype and gives slots and update code only to the dynamic nodes.
+ */
+final class TemplatePartitioner {
+    private final Set<TemplateNode> _static = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int _nodeCount;
+
+    private TemplatePartitioner() {
+    }
+
+    static TemplatePartitioner partition(List<TemplateNode> nodes) {
+        TemplatePartitioner partitioner = new TemplatePartitioner();
+        for (TemplateNode node : nodes) {
+            partitioner.classify(node);
+        }
+        return partitioner;
+    }
+
+    boolean isStatic(TemplateNode node) {
+        return _static.contains(node);
+    }
+
+    int getStaticCount() {
+        return _static.size();
+    }
+
+    int getNodeCount() {
+        return _nodeCount;
+    }
+
+    private boolean classify(TemplateNode node) {
+        _nodeCount++;
+        boolean isStatic = node instanceof TemplateText;
+        if (node instanceof TemplateElement element) {
+            // ng-container and ng-template render their children, if at all, without an element of their own.
+            isStatic = element.getBindings().isEmpty() && !element.getTagName().startsWith("ng-");
+            for (TemplateAttribute attribute : element.getAttributes()) {
+                if (ViewGenerator.AttributeInterpolation.parse(attribute.getValue()) != null) {
+                    isStatic = false;
+                }
+            }
+            // Every child is classified, even below a dynamic element, since it may root a static subtree.
+            for (TemplateNode child : element.getChildren()) {
+                isStatic &= classify(child);
+            }
+        }
+        if (isStatic) {
+            _static.add(node);
+        }
+        return isStatic;
+    }
+}
@@ -0,0 +1,672 @@
+package CodeGen;
+
+import AST.Expression.Expression;
+import AST.Template.*;
+import Visitor.BindingParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the JavaScript class of one view: the component's template, or the content of one *ngIf or
+ * *ngFor inside it, which becomes an embedded view with its own class. The constructor clones each top-level
+ * element from its hoisted prototype and walks to the dynamic nodes only, to attach event listeners and keep
+ * the nodes that bindings update; static subtrees are never visited. update() reads each bound expression
+ * once, compares it with the value cached in the binding's slot field and writes to the DOM only when it
+ * changed; a view without bindings is never updated.
+ */
+final class ViewGenerator {
+    // HTML attribute names whose DOM property is spelled differently, as in Angular's property bindings.
+    private static final Map<String, String> PROPERTY_NAMES = Map.of(
+            "class", "className",
+            "for", "htmlFor",
+            "readonly", "readOnly",
+            "tabindex", "tabIndex",
+            "innerHtml", "innerHTML",
+            "colspan", "colSpan",
+            "rowspan", "rowSpan",
+            "maxlength", "maxLength");
+    private static final Map<String, String> KEY_NAMES = Map.of("space", " ", "esc", "escape", "dot", ".");
+    private static final Map<String, String> ENTITIES = Map.of(
+            "amp", "&", "lt", "<", "gt", ">", "quot", "\"", "apos", "'", "nbsp", "\u00a0");
+
+    private final List<ViewGenerator> _views;
+    private final TemplatePartitioner _partition;
+    private final StaticTemplates _statics;
+    private final ViewGenerator _parent;
+    private final String _className;
+    private final Set<String> _locals = new LinkedHashSet<>();
+    private JsWriter _create = new JsWriter(2);
+    private final JsWriter _update = new JsWriter(2);
+    private final JsWriter _destroy = new JsWriter(2);
+    private final List<String> _rootNodes = new ArrayList<>();
+    private final Set<String> _kept = new HashSet<>();
+    private int _nextNode;
+    private int _nextSlot;
+
+    /**
+     * Creates the root view of a component; its static subtrees are hoisted into statics.
+     */
+    ViewGenerator(String className, TemplatePartitioner partition, StaticTemplates statics) {
+        _views = new ArrayList<>();
+        _partition = partition;
+        _statics = statics;
+        _parent = null;
+        _className = className;
+        _views.add(this);
+    }
+
+    private ViewGenerator(ViewGenerator parent) {
+        _views = parent._views;
+        _partition = parent._partition;
+        _statics = parent._statics;
+        _parent = parent;
+        _className = _views.get(0)._className + "_" + _views.size();
+        _views.add(this);
+    }
+
+    /**
+     * Returns this root view followed by the embedded views generated so far.
+     */
+    List<ViewGenerator> getViews() {
+        return _views;
+    }
+
+    /**
+     * Emits nodes as the top-level nodes of this view.
+     */
+    void emitNodes(List<TemplateNode> nodes) {
+        for (TemplateNode node : nodes) {
+            if (node instanceof TemplateElement element) {
+                emitRootElement(element, 0);
+                continue;
+            }
+            String name = newNode();
+            String text = node instanceof TemplateText plain ? cook(plain.getText()) : "";
+            _create.line("const " + name + " = d.createTextNode(" + JsWriter.quote(text) + ");");
+            attachRoot(name);
+            if (node instanceof Interpolation interpolation) {
+                bindText(name, interpolation);
+            }
+        }
+    }
+
+    // Structural directives at index from or later wrap the element in embedded views, the first one outermost.
+    // Other top-level elements are cloned from a prototype of their whole subtree, static parts included.
+    private void emitRootElement(TemplateElement element, int from) {
+        int structural = structuralIndex(element, from);
+        if (structural >= 0) {
+            String anchor = newNode();
+            _create.line("const " + anchor + " = d.createComment(" + JsWriter.quote(element.getBindings().get(structural).getName()) + ");");
+            attachRoot(anchor);
+            emitContainer(element, structural, anchor, true);
+            return;
+        }
+        if (element.getTagName().equals("ng-template")) {
+            // Only rendered through a directive that references it, which this generator does not support.
+            return;
+        }
+        if (element.getTagName().equals("ng-container")) {
+            emitNodes(element.getChildren());
+            return;
+        }
+
+        StaticTemplates.Prototype prototype = new StaticTemplates.Prototype();
+        String name = newNode();
+        JsWriter outer = _create;
+        _create = new JsWriter(2);
+        if (_partition.isStatic(element)) {
+            prototype.staticSubtree(element);
+        } else {
+            String root = prototype.element(element);
+            emitBindings(element, name);
+            emitChildren(element.getChildren(), prototype, root, new Cursor(name));
+        }
+        JsWriter instance = _create;
+        _create = outer;
+        _create.line("const " + name + " = " + _statics.hoist(prototype) + "(d);");
+        attachRoot(name);
+        _create.append(instance);
+    }
+
+    // Adds children to the prototype under parent, and looks up the nodes that need a variable with cursor.
+    private void emitChildren(List<TemplateNode> children, StaticTemplates.Prototype prototype, String parent, Cursor cursor) {
+        for (TemplateNode child : children) {
+            if (child instanceof TemplateElement element) {
+                emitChildElement(element, prototype, parent, cursor);
+                continue;
+            }
+            if (child instanceof Interpolation interpolation) {
+                prototype.append(parent, prototype.text(""));
+                if (interpolation.getValue() != null) {
+                    bindText(cursor.reference(newNode()), interpolation);
+                }
+            } else if (child instanceof TemplateText text) {
+                prototype.append(parent, prototype.text(cook(text.getText())));
+            }
+            cursor.advance();
+        }
+    }
+
+    private void emitChildElement(TemplateElement element, StaticTemplates.Prototype prototype, String parent, Cursor cursor) {
+        int structural = structuralIndex(element, 0);
+        if (structural >= 0) {
+            prototype.append(parent, prototype.comment(element.getBindings().get(structural).getName()));
+            emitContainer(element, structural, cursor.reference(newNode()), false);
+            cursor.advance();
+            return;
+        }
+        if (element.getTagName().equals("ng-template")) {
+            return;
+        }
+        if (element.getTagName().equals("ng-container")) {
+            emitChildren(element.getChildren(), prototype, parent, cursor);
+            return;
+        }
+        if (_partition.isStatic(element)) {
+            prototype.append(parent, prototype.staticSubtree(element));
+            cursor.advance();
+            return;
+        }
+
+        String node = prototype.element(element);
+        prototype.append(parent, node);
+        // Elements without bindings of their own are only passed through on the way to their dynamic children.
+        String path;
+        if (hasBindings(element)) {
+            path = cursor.reference(newNode());
+            emitBindings(element, path);
+        } else {
+            path = cursor.path();
+        }
+        emitChildren(element.getChildren(), prototype, node, new Cursor(path));
+        cursor.advance();
+    }
+
+    private int structuralIndex(TemplateElement element, int from) {
+        List<TemplateBinding> bindings = element.getBindings();
+        for (int i = from; i < bindings.size(); i++) {
+            TemplateBinding binding = bindings.get(i);
+            if (binding.getKind() != BindingKind.STRUCTURAL || binding.getValue() == null) {
+                continue;
+            }
+            if (binding.getName().equals("ngIf") || binding.getName().equals("ngFor") && binding.getValue() instanceof ForOfExpression) {
+                return i;
+            }
+            _create.line("// *" + binding.getName() + " is not supported; the element is always rendered.");
+        }
+        return -1;
+    }
+
+    private static boolean hasBindings(TemplateElement element) {
+        for (TemplateBinding binding : element.getBindings()) {
+            if (binding.getKind() != BindingKind.STRUCTURAL && binding.getValue() != null) {
+                return true;
+            }
+        }
+        for (TemplateAttribute attribute : element.getAttributes()) {
+            if (AttributeInterpolation.parse(attribute.getValue()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Interpolated attributes and the element's own bindings; its static attributes are part of the prototype.
+    private void emitBindings(TemplateElement element, String name) {
+        for (TemplateAttribute attribute : element.getAttributes()) {
+            AttributeInterpolation interpolation = AttributeInterpolation.parse(attribute.getValue());
+            if (interpolation != null) {
+                emitAttributeInterpolation(name, attribute.getName(), interpolation);
+            }
+        }
+        for (TemplateBinding binding : element.getBindings()) {
+            if (binding.getValue() == null || binding.getKind() == BindingKind.STRUCTURAL) {
+                continue;
+            }
+            switch (binding.getKind()) {
+                case PROPERTY -> emitProperty(name, binding.getName(), binding.getValue());
+                case EVENT -> emitListener(name, binding.getName(), translate(binding.getValue(), true));
+                case TWO_WAY -> {
+                    // [(x)]="e" is [x]="e" (xChange)="e = $event"; for ngModel the form control is the element itself.
+                    String target = translate(binding.getValue(), true);
+                    if (binding.getName().equals("ngModel")) {
+                        emitProperty(name, "value", binding.getValue());
+                        emitListener(name, "input", target + " = $event.target.value");
+                    } else {
+                        emitProperty(name, binding.getName(), binding.getValue());
+                        emitListener(name, binding.getName() + "Change", target + " = $event");
+                    }
+                }
+                default -> { }
+            }
+        }
+    }
+
+    private void bindText(String node, Interpolation interpolation) {
+        if (interpolation.getValue() == null) {
+            return;
+        }
+        keep(node);
+        String slot = newSlot();
+        _update.open("");
+        _update.line("const v = " + translate(interpolation.getValue(), false) + ";");
+        _update.open("if (!Object.is(v, this." + slot + "))");
+        _update.line("this." + slot + " = v;");
+        _update.line("this._" + node + ".data = text(v);");
+        _update.close();
+        _update.close();
+    }
+
+    private void emitContainer(TemplateElement element, int index, String anchor, boolean topLevel) {
+        keep(anchor);
+        ViewGenerator view = new ViewGenerator(this);
+        TemplateBinding binding = element.getBindings().get(index);
+        if (binding.getValue() instanceof ForOfExpression forOf) {
+            view._locals.add(forOf.getItemName());
+            for (TemplateVariable variable : forOf.getVariables()) {
+                view._locals.add(variable.getName());
+            }
+            view.emitRootElement(element, index + 1);
+            emitRepeater(view, "_" + anchor, "_c" + anchor.substring(1), forOf, topLevel);
+        } else if (binding.getValue() instanceof IfExpression condition) {
+            if (condition.getAlias() != null) {
+                view._locals.add(condition.getAlias());
+            }
+            if (condition.getThenReference() != null) {
+                _create.line("// then " + condition.getThenReference() + " is not supported; the element itself is rendered.");
+            }
+            if (condition.getElseReference() != null) {
+                _create.line("// else " + condition.getElseReference() + " is not supported; nothing is rendered instead.");
+            }
+            view.emitRootElement(element, index + 1);
+            emitConditional(view, "_" + anchor, "_c" + anchor.substring(1), condition.getCondition(), condition.getAlias(), topLevel);
+        } else {
+            view.emitRootElement(element, index + 1);
+            emitConditional(view, "_" + anchor, "_c" + anchor.substring(1), binding.getValue(), null, topLevel);
+        }
+    }
+
+    // With an alias, the condition is read once and its value is also assigned to the alias local of the view.
+    private void emitConditional(ViewGenerator view, String anchor, String container, Expression condition, String alias, boolean topLevel) {
+        _create.line("this." + container + " = null;");
+        if (alias != null) {
+            _update.open("");
+            _update.line("const value = " + translate(condition, false) + ";");
+            _update.open("if (value)");
+        } else {
+            _update.open("if (" + translate(condition, false) + ")");
+        }
+        _update.open("if (this." + container + " === null)");
+        _update.line("this." + container + " = new " + view._className + "(this, this." + anchor + ");");
+        _update.close();
+        if (alias != null) {
+            _update.line("this." + container + ".$" + alias + " = value;");
+        }
+        if (view.hasUpdates()) {
+            _update.line("this." + container + ".update();");
+        }
+        _update.next("else if (this." + container + " !== null)");
+        _update.line("this." + container + ".destroy();");
+        _update.line("this." + container + " = null;");
+        _update.close();
+        if (alias != null) {
+            _update.close();
+        }
+        if (topLevel) {
+            _destroy.open("if (this." + container + " !== null)");
+            _destroy.line("this." + container + ".destroy();");
+            _destroy.close();
+        }
+    }
+
+    // Item views are reused by position: only views past the end of the list are created or destroyed.
+    private void emitRepeater(ViewGenerator view, String anchor, String container, ForOfExpression forOf, boolean topLevel) {
+        _create.line("this." + container + " = [];");
+        _update.open("");
+        _update.line("const items = " + translate(forOf.getIterable(), false) + ";");
+        _update.line("const views = this." + container + ";");
+        _update.line("const count = items == null ? 0 : items.length;");
+        _update.open("for (let i = 0; i < count; i++)");
+        _update.line("let view = views[i];");
+        _update.open("if (view === undefined)");
+        _update.line("view = new " + view._className + "(this, this." + anchor + ");");
+        _update.line("views.push(view);");
+        _update.close();
+        _update.line("view.$" + forOf.getItemName() + " = items[i];");
+        for (TemplateVariable variable : forOf.getVariables()) {
+            _update.line("view.$" + variable.getName() + " = " + contextValue(variable.getContextName()) + ";");
+        }
+        if (view.hasUpdates()) {
+            _update.line("view.update();");
+        }
+        _update.close();
+        _update.open("while (views.length > count)");
+        _update.line("views.pop().destroy();");
+        _update.close();
+        _update.close();
+        if (topLevel) {
+            _destroy.open("for (const view of this." + container + ")");
+            _destroy.line("view.destroy();");
+            _destroy.close();
+        }
+    }
+
+    private static String contextValue(String name) {
+        return switch (name) {
+            case "$implicit" -> "items[i]";
+            case "index" -> "i";
+            case "count" -> "count";
+            case "first" -> "i === 0";
+            case "last" -> "i === count - 1";
+            case "even" -> "i % 2 === 0";
+            case "odd" -> "i % 2 !== 0";
+            default -> "undefined";
+        };
+    }
+
+    private void emitProperty(String node, String name, Expression value) {
+        keep(node);
+        String slot = newSlot();
+        _update.open("");
+        _update.line("const v = " + translate(value, false) + ";");
+        _update.open("if (!Object.is(v, this." + slot + "))");
+        _update.line("this." + slot + " = v;");
+        write(_update, "this._" + node, name, "v");
+        _update.close();
+        _update.close();
+    }
+
+    // alt="{{ expression }}" binds the property like [alt], with the static text around the expressions.
+    private void emitAttributeInterpolation(String node, String name, AttributeInterpolation interpolation) {
+        List<String> strings = interpolation.strings();
+        List<Expression> expressions = interpolation.expressions();
+
+        keep(node);
+        StringBuilder changed = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        List<String> slots = new ArrayList<>();
+        _update.open("");
+        for (int i = 0; i < expressions.size(); i++) {
+            String slot = newSlot();
+            slots.add(slot);
+            _update.line("const v" + i + " = " + translate(expressions.get(i), false) + ";");
+            changed.append(i == 0 ? "" : " || ").append("!Object.is(v").append(i).append(", this.").append(slot).append(')');
+            if (!strings.get(i).isEmpty()) {
+                text.append(text.isEmpty() ? "" : " + ").append(JsWriter.quote(strings.get(i)));
+            }
+            text.append(text.isEmpty() ? "" : " + ").append("text(v").append(i).append(')');
+        }
+        if (!strings.get(expressions.size()).isEmpty()) {
+            text.append(" + ").append(JsWriter.quote(strings.get(expressions.size())));
+        }
+        _update.open("if (" + changed + ")");
+        for (int i = 0; i < slots.size(); i++) {
+            _update.line("this." + slots.get(i) + " = v" + i + ";");
+        }
+        write(_update, "this._" + node, name, text.toString());
+        _update.close();
+        _update.close();
+    }
+
+    /**
+     * The static strings around, and the parsed expressions of, an attribute value such as "a {{ x }} b";
+     * there is always one more string than expressions.
+     */
+    record AttributeInterpolation(List<String> strings, List<Expression> expressions) {
+        /** Returns null when the value is absent or has no interpolation that parses. */
+        static AttributeInterpolation parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            List<String> strings = new ArrayList<>();
+            List<Expression> expressions = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = value.indexOf("{{", position)) >= 0) {
+                int close = value.indexOf("}}", open + 2);
+                if (close < 0) {
+                    break;
+                }
+                BindingParser.Result parsed = BindingParser.parseExpression(value.substring(open + 2, close));
+                if (!parsed.isValid()) {
+                    return null;
+                }
+                strings.add(cook(value.substring(position, open)));
+                expressions.add(parsed.expression());
+                position = close + 2;
+            }
+            if (expressions.isEmpty()) {
+                return null;
+            }
+            strings.add(cook(value.substring(position)));
+            return new AttributeInterpolation(strings, expressions);
+        }
+    }
+
+    // Writes a bound value the way Angular's property binding targets do: class.x, style.x[.unit], attr.x or a DOM property.
+    private static void write(JsWriter out, String node, String target, String value) {
+        String[] parts = target.split("\\.");
+        if (parts.length > 1 && parts[0].equals("class")) {
+            out.line(node + ".classList.toggle(" + JsWriter.quote(target.substring(6)) + ", !!" + value + ");");
+        } else if (parts.length > 1 && parts[0].equals("style")) {
+            String unit = parts.length > 2 ? parts[2] : "";
+            out.line(node + ".style.setProperty(" + JsWriter.quote(kebabCase(parts[1])) + ", " + value + " == null ? null : "
+                    + (unit.isEmpty() ? "\"\" + " + value : value + " + " + JsWriter.quote(unit)) + ");");
+        } else if (parts.length > 1 && parts[0].equals("attr")) {
+            String name = JsWriter.quote(target.substring(5));
+            out.open("if (" + value + " == null)");
+            out.line(node + ".removeAttribute(" + name + ");");
+            out.next("else");
+            out.line(node + ".setAttribute(" + name + ", \"\" + " + value + ");");
+            out.close();
+        } else {
+            String property = PROPERTY_NAMES.getOrDefault(target, target);
+            boolean identifier = property.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '_' || c == '$');
+            out.line(node + (identifier ? "." + property : "[" + JsWriter.quote(property) + "]") + " = " + value + ";");
+        }
+    }
+
+    private void emitListener(String node, String event, String handler) {
+        String[] parts = event.split("\\.", 2);
+        String key = null;
+        if (parts.length == 2 && (parts[0].equals("keydown") || parts[0].equals("keyup"))) {
+            event = parts[0];
+            key = KEY_NAMES.getOrDefault(parts[1].toLowerCase(), parts[1].toLowerCase());
+        }
+        boolean submit = event.equals("ngSubmit");
+        _create.open(node + ".addEventListener(" + JsWriter.quote(submit ? "submit" : event) + ", ($event) =>");
+        if (key != null) {
+            _create.open("if ($event.key.toLowerCase() !== " + JsWriter.quote(key) + ")");
+            _create.line("return;");
+            _create.close();
+        }
+        if (submit) {
+            // NgForm emits ngSubmit from the form's submit event and keeps the browser from navigating.
+            _create.line("$event.preventDefault();");
+        }
+        _create.line("const ctx = this.ctx;");
+        _create.line(handler + ";");
+        _create.line("this.root.update();");
+        _create.close(");");
+    }
+
+    private String translate(Expression expression, boolean event) {
+        return ExpressionTranslator.translate(expression, name -> event && name.equals("$event") ? "$event" : local(name));
+    }
+
+    private String local(String name) {
+        StringBuilder path = new StringBuilder("this");
+        for (ViewGenerator view = this; view != null; view = view._parent) {
+            if (view._locals.contains(name)) {
+                return path.append(".$").append(name).toString();
+            }
+            path.append(".parent");
+        }
+        return null;
+    }
+
+    private void attachRoot(String node) {
+        _rootNodes.add(node);
+        _create.line(_parent == null ? "host.appendChild(" + node + ");" : "anchor.parentNode.insertBefore(" + node + ", anchor);");
+    }
+
+    private void keep(String node) {
+        if (_kept.add(node)) {
+            _create.line("this._" + node + " = " + node + ";");
+        }
+    }
+
+    private String newNode() {
+        return "n" + _nextNode++;
+    }
+
+    private String newSlot() {
+        String slot = "_v" + _nextSlot++;
+        _create.line("this." + slot + " = UNSET;");
+        return slot;
+    }
+
+    /**
+     * Reaches the children of one element of a cloned prototype, from the element or from the last of its
+     * children that was given a variable; index is the position of the next child.
+     */
+    private final class Cursor {
+        private final String _parent;
+        private String _previous;
+        private int _previousIndex;
+        private int _index;
+
+        Cursor(String parent) {
+            _parent = parent;
+        }
+
+        String path() {
+            if (_previous != null) {
+                return _previous + ".nextSibling".repeat(_index - _previousIndex);
+            }
+            return _parent + ".firstChild" + ".nextSibling".repeat(_index);
+        }
+
+        String reference(String name) {
+            _create.line("const " + name + " = " + path() + ";");
+            _previous = name;
+            _previousIndex = _index;
+            return name;
+        }
+
+        void advance() {
+            _index++;
+        }
+    }
+
+    /**
+     * Whether update() has any work to do; a view whose nodes are all static is never updated.
+     */
+    boolean hasUpdates() {
+        return !_update.isEmpty();
+    }
+
+    String render() {
+        JsWriter out = new JsWriter(0);
+        out.open((_parent == null ? "export class " : "class ") + _className);
+        if (_parent == null) {
+            out.open("constructor(ctx, host)");
+            out.line("this.ctx = ctx;");
+            out.line("this.root = this;");
+            out.line("const d = host.ownerDocument;");
+        } else {
+            out.open("constructor(parent, anchor)");
+            out.line("this.parent = parent;");
+            out.line("this.ctx = parent.ctx;");
+            out.line("this.root = parent.root;");
+            for (String local : _locals) {
+                out.line("this.$" + local + " = undefined;");
+            }
+            out.line("const d = anchor.ownerDocument;");
+        }
+        out.append(_create);
+        out.line("this.nodes = [" + String.join(", ", _rootNodes) + "];");
+        out.close();
+        out.blank();
+        out.open("update()");
+        if (!_update.isEmpty()) {
+            out.line("const ctx = this.ctx;");
+            out.append(_update);
+        }
+        out.close();
+        out.blank();
+        out.open("destroy()");
+        out.append(_destroy);
+        out.open("for (const node of this.nodes)");
+        out.line("node.parentNode.removeChild(node);");
+        out.close();
+        out.close();
+        out.close();
+        return out.toString();
+    }
+
+    private static String kebabCase(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                builder.append('-').append(Character.toLowerCase(c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // Template text is raw source: resolves the escapes of the enclosing template literal, then HTML entities.
+    static String cook(String raw) {
+        if (raw.indexOf('\\') < 0 && raw.indexOf('&') < 0) {
+            return raw;
+        }
+        StringBuilder builder = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\\' && i + 1 < raw.length()) {
+                char escaped = raw.charAt(++i);
+                switch (escaped) {
+                    case 'n' -> builder.append('\n');
+                    case 't' -> builder.append('\t');
+                    case 'r' -> builder.append('\r');
+                    case '\n' -> { }
+                    default -> builder.append(escaped);
+                }
+            } else if (c == '&' && raw.indexOf(';', i) > i + 1) {
+                int end = raw.indexOf(';', i);
+                String entity = raw.substring(i + 1, end);
+                String decoded = decodeEntity(entity);
+                if (decoded != null) {
+                    builder.append(decoded);
+                    i = end;
+                } else {
+                    builder.append(c);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String decodeEntity(String entity) {
+        if (entity.startsWith("#")) {
+            try {
+                boolean hex = entity.length() > 1 && (entity.charAt(1) == 'x' || entity.charAt(1) == 'X');
+                int codePoint = Integer.parseInt(entity.substring(hex ? 2 : 1), hex ? 16 : 10);
+                return Character.isValidCodePoint(codePoint) ? new String(Character.toChars(codePoint)) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ENTITIES.get(entity);
+    }
+}
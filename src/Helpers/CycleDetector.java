@@ -1,44 +1,180 @@
 package Helpers;
 
+import Profiling.CycleCheckEvent;
+
 import java.util.*;
 
+/**
+ * Finds dependency cycles with an iterative Tarjan strongly-connected-components pass, so deep graphs
+ * cannot overflow the stack. Node names are interned to int IDs and the edges packed into flat arrays
+ * before the search; every strongly connected component with more than one member, or with a
+ * self-dependency, is reported as a cycle.
+ */
 public class CycleDetector {
-    private final Map<String, List<String>> _graph;
-    private final Set<String> _visited;
-    private final Set<String> _recStack;
+    private final List<String> _names = new ArrayList<>();
+    private final int[] _offsets;
+    private final int[] _targets;
+    private List<List<String>> _cycles;
 
     public CycleDetector(Map<String, List<String>> graph) {
-        _graph = graph;
-        _visited = new HashSet<>();
-        _recStack = new HashSet<>();
+        Map<String, Integer> ids = new HashMap<>();
+        int edgeCount = 0;
+        for (Map.Entry<String, List<String>> entry : graph.entrySet()) {
+            intern(entry.getKey(), ids);
+            edgeCount += entry.getValue().size();
+        }
+
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        int edge = 0;
+        for (Map.Entry<String, List<String>> entry : graph.entrySet()) {
+            int source = ids.get(entry.getKey());
+            for (String neighbor : entry.getValue()) {
+                sources[edge] = source;
+                targets[edge] = intern(neighbor, ids);
+                edge++;
+            }
+        }
+
+        _offsets = new int[_names.size() + 1];
+        for (int source : sources) {
+            _offsets[source + 1]++;
+        }
+        for (int i = 0; i < _names.size(); i++) {
+            _offsets[i + 1] += _offsets[i];
+        }
+        _targets = new int[edgeCount];
+        int[] fill = Arrays.copyOf(_offsets, _names.size());
+        for (int i = 0; i < edgeCount; i++) {
+            _targets[fill[sources[i]]++] = targets[i];
+        }
     }
+
+    private int intern(String name, Map<String, Integer> ids) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = _names.size();
+            ids.put(name, id);
+            _names.add(name);
+        }
+        return id;
+    }
+
     public boolean hasCycle() {
-        for (String node : _graph.keySet()) {
-            if (!_visited.contains(node)) {
-                if (DFS(node)) {
-                    return true;
+        return !findCycles().isEmpty();
+    }
+
+    /**
+     * Every cycle as the list of its members in depth-first discovery order, so a simple cycle
+     * A -> B -> C -> A is returned as [A, B, C].
+     */
+    public List<List<String>> findCycles() {
+        if (_cycles == null) {
+            List<List<String>> cycles = new ArrayList<>();
+            for (int[] component : findCycles(_offsets, _targets)) {
+                List<String> members = new ArrayList<>(component.length);
+                for (int node : component) {
+                    members.add(_names.get(node));
                 }
+                cycles.add(members);
             }
+            _cycles = cycles;
         }
-        return false;
+        return _cycles;
+    }
+
+    /**
+     * Cyclic strongly connected components of a graph in compressed sparse row form: the successors of
+     * node n are targets[offsets[n]] to targets[offsets[n + 1] - 1]. Members of each component are
+     * sorted by discovery order.
+     */
+    public static List<int[]> findCycles(int[] offsets, int[] targets) {
+        CycleCheckEvent event = new CycleCheckEvent();
+        event.begin();
+        List<int[]> cycles = stronglyConnectedCycles(offsets, targets);
+        event.end();
+        if (event.shouldCommit()) {
+            event.nodes = offsets.length - 1;
+            event.edges = targets.length;
+            event.cycles = cycles.size();
+            event.commit();
+        }
+        return cycles;
     }
-    private boolean DFS(String node) {
-        _visited.add(node);
-        _recStack.add(node);
-
-        List<String> neighbors = _graph.getOrDefault(node, Collections.emptyList());
-        for (String neighbor : neighbors) {
-            if (!_visited.contains(neighbor)) {
-                if (DFS(neighbor)) {
-                    return true;
+
+    private static List<int[]> stronglyConnectedCycles(int[] offsets, int[] targets) {
+        int nodeCount = offsets.length - 1;
+        int[] index = new int[nodeCount];
+        int[] lowLink = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        Arrays.fill(index, -1);
+
+        int[] componentStack = new int[nodeCount];
+        int componentTop = 0;
+        int[] callStack = new int[nodeCount];
+        int[] nextEdge = new int[nodeCount];
+        int nextIndex = 0;
+
+        List<int[]> cycles = new ArrayList<>();
+        for (int root = 0; root < nodeCount; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+
+            int callTop = 0;
+            callStack[callTop++] = root;
+            index[root] = lowLink[root] = nextIndex++;
+            nextEdge[root] = offsets[root];
+            componentStack[componentTop++] = root;
+            onStack[root] = true;
+
+            while (callTop > 0) {
+                int node = callStack[callTop - 1];
+                if (nextEdge[node] < offsets[node + 1]) {
+                    int successor = targets[nextEdge[node]++];
+                    if (index[successor] == -1) {
+                        index[successor] = lowLink[successor] = nextIndex++;
+                        nextEdge[successor] = offsets[successor];
+                        componentStack[componentTop++] = successor;
+                        onStack[successor] = true;
+                        callStack[callTop++] = successor;
+                    } else if (onStack[successor]) {
+                        lowLink[node] = Math.min(lowLink[node], index[successor]);
+                    }
+                    continue;
+                }
+
+                callTop--;
+                if (callTop > 0) {
+                    int caller = callStack[callTop - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+                if (lowLink[node] != index[node]) {
+                    continue;
+                }
+
+                int start = componentTop;
+                do {
+                    onStack[componentStack[--start]] = false;
+                } while (componentStack[start] != node);
+                int[] component = Arrays.copyOfRange(componentStack, start, componentTop);
+                componentTop = start;
+
+                if (component.length > 1 || hasSelfEdge(node, offsets, targets)) {
+                    // The component stack holds members in discovery order already.
+                    cycles.add(component);
                 }
-            } else if (_recStack.contains(neighbor)) {
-                return true;
             }
         }
+        return cycles;
+    }
 
-        _recStack.remove(node);
+    private static boolean hasSelfEdge(int node, int[] offsets, int[] targets) {
+        for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+            if (targets[edge] == node) {
+                return true;
+            }
+        }
         return false;
     }
 }
-
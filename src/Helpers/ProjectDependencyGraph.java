@@ -0,0 +1,267 @@
+package Helpers;
+
+import AST.Declarations.ClassMember;
+import AST.Declarations.ComponentDefinition;
+import AST.Declarations.FieldDeclaration;
+import AST.Declarations.ImportItem;
+import AST.Program;
+import AST.Statement.ImportStatement;
+import AST.Types.IdentifierType;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Module dependency graph across every compiled file. Each file contributes the edges of the classes it
+ * declares; updating a file replaces only its own edges, and the dependency cycles are kept up to date by
+ * re-running the SCC search on the part of the graph the changed edges can affect: nodes both reachable
+ * from and reaching a changed class, plus the members of cycles those classes belonged to.
+ * Not thread-safe; batch and watch mode update it from the thread that consumes compilation results.
+ */
+public class ProjectDependencyGraph {
+    private static final Set<String> BUILTIN_TYPES = Set.of("string", "number", "boolean", "any", "void");
+
+    private final Map<String, Integer> _ids = new HashMap<>();
+    private final List<String> _names = new ArrayList<>();
+    private final List<Map<Integer, Integer>> _successors = new ArrayList<>();
+    private final List<Set<Integer>> _predecessors = new ArrayList<>();
+    private final Map<Integer, Path> _declaringFiles = new HashMap<>();
+    private final Map<Path, Map<String, List<String>>> _fileEdges = new HashMap<>();
+
+    private final Map<Integer, Integer> _cycleOf = new HashMap<>();
+    private final Map<Integer, int[]> _cycles = new LinkedHashMap<>();
+    private int _nextCycleId;
+
+    /**
+     * Edges contributed by one compiled file: every declared class depends on the identifiers the file
+     * imports and on the non-builtin types of its fields.
+     */
+    public static Map<String, List<String>> moduleDependencies(Program program) {
+        Set<String> imported = new LinkedHashSet<>();
+        if (program.getImportStatements() != null) {
+            for (ImportStatement statement : program.getImportStatements()) {
+                for (ImportItem item : statement.getImportItems()) {
+                    imported.add(item.getIdentifier());
+                }
+            }
+        }
+
+        Map<String, List<String>> edges = new LinkedHashMap<>();
+        if (program.getComponents() == null) {
+            return edges;
+        }
+        for (ComponentDefinition component : program.getComponents()) {
+            if (component == null || component.getClassDeclaration() == null) {
+                continue;
+            }
+            String className = component.getClassDeclaration().getClassName();
+            Set<String> dependencies = new LinkedHashSet<>(imported);
+            dependencies.remove(className);
+            for (ClassMember member : component.getClassDeclaration().getClassBody().getClassMembers()) {
+                if (member instanceof FieldDeclaration field && field.getType() != null
+                        && field.getType().getPrimaryType() instanceof IdentifierType type
+                        && !BUILTIN_TYPES.contains(type.getName())) {
+                    dependencies.add(type.getName());
+                }
+            }
+            edges.computeIfAbsent(className, key -> new ArrayList<>()).addAll(dependencies);
+        }
+        return edges;
+    }
+
+    public void updateFile(Path file, Map<String, List<String>> edges) {
+        Set<Integer> changed = new LinkedHashSet<>();
+
+        Map<String, List<String>> previous = _fileEdges.remove(file);
+        if (previous != null) {
+            previous.forEach((module, dependencies) -> {
+                int source = intern(module);
+                for (String dependency : dependencies) {
+                    removeEdge(source, intern(dependency));
+                }
+                _declaringFiles.remove(source, file);
+                changed.add(source);
+            });
+        }
+
+        if (edges != null) {
+            Map<String, List<String>> copy = new LinkedHashMap<>();
+            edges.forEach((module, dependencies) -> {
+                int source = intern(module);
+                for (String dependency : dependencies) {
+                    addEdge(source, intern(dependency));
+                }
+                _declaringFiles.put(source, file);
+                changed.add(source);
+                copy.put(module, List.copyOf(dependencies));
+            });
+            _fileEdges.put(file, copy);
+        }
+
+        updateCycles(changed);
+    }
+
+    public void removeFile(Path file) {
+        updateFile(file, null);
+    }
+
+    public List<List<String>> getCycles() {
+        List<List<String>> cycles = new ArrayList<>(_cycles.size());
+        for (int[] members : _cycles.values()) {
+            cycles.add(names(members));
+        }
+        return cycles;
+    }
+
+    /**
+     * Cycles whose members are declared in more than one file (or not declared in any compiled file).
+     * Cycles within a single file are reported by that file's semantic pass, which checks the same edges.
+     */
+    public List<List<String>> getCrossFileCycles() {
+        List<List<String>> cycles = new ArrayList<>();
+        for (int[] members : _cycles.values()) {
+            Set<Path> files = new HashSet<>();
+            for (int member : members) {
+                files.add(_declaringFiles.get(member));
+            }
+            if (files.size() > 1) {
+                cycles.add(names(members));
+            }
+        }
+        return cycles;
+    }
+
+    private List<String> names(int[] members) {
+        List<String> names = new ArrayList<>(members.length);
+        for (int member : members) {
+            names.add(_names.get(member));
+        }
+        return names;
+    }
+
+    private int intern(String name) {
+        Integer id = _ids.get(name);
+        if (id == null) {
+            id = _names.size();
+            _ids.put(name, id);
+            _names.add(name);
+            _successors.add(new LinkedHashMap<>());
+            _predecessors.add(new HashSet<>());
+        }
+        return id;
+    }
+
+    // Edge multiplicities: two files may declare the same class and contribute the same edge.
+    private void addEdge(int source, int target) {
+        if (_successors.get(source).merge(target, 1, Integer::sum) == 1) {
+            _predecessors.get(target).add(source);
+        }
+    }
+
+    private void removeEdge(int source, int target) {
+        Map<Integer, Integer> successors = _successors.get(source);
+        Integer count = successors.get(target);
+        if (count == null) {
+            return;
+        }
+        if (count == 1) {
+            successors.remove(target);
+            _predecessors.get(target).remove(source);
+        } else {
+            successors.put(target, count - 1);
+        }
+    }
+
+    private void updateCycles(Set<Integer> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // A cycle through a changed node only contains nodes that are reachable from and reach the changed
+        // nodes; cycles that contained a changed node may split, so their old members are searched again too.
+        Set<Integer> region = reachableBothWays(changed);
+
+        Deque<Integer> pending = new ArrayDeque<>(region);
+        while (!pending.isEmpty()) {
+            Integer cycleId = _cycleOf.get(pending.pop());
+            if (cycleId == null) {
+                continue;
+            }
+            for (int member : _cycles.remove(cycleId)) {
+                _cycleOf.remove(member);
+                if (region.add(member)) {
+                    pending.push(member);
+                }
+            }
+        }
+
+        int[] nodes = new int[region.size()];
+        Map<Integer, Integer> local = new HashMap<>();
+        int count = 0;
+        for (int node : region) {
+            local.put(node, count);
+            nodes[count++] = node;
+        }
+
+        int[] offsets = new int[count + 1];
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            for (int successor : _successors.get(nodes[i]).keySet()) {
+                Integer target = local.get(successor);
+                if (target != null) {
+                    targets.add(target);
+                }
+            }
+            offsets[i + 1] = targets.size();
+        }
+        int[] packedTargets = new int[targets.size()];
+        for (int i = 0; i < packedTargets.length; i++) {
+            packedTargets[i] = targets.get(i);
+        }
+
+        for (int[] component : CycleDetector.findCycles(offsets, packedTargets)) {
+            int cycleId = _nextCycleId++;
+            int[] members = new int[component.length];
+            for (int i = 0; i < component.length; i++) {
+                members[i] = nodes[component[i]];
+                _cycleOf.put(members[i], cycleId);
+            }
+            _cycles.put(cycleId, members);
+        }
+    }
+
+    /**
+     * Nodes that are reachable from and reach the given nodes. Forward and backward searches expand in
+     * lockstep until the smaller side is exhausted; every path between two nodes of the result stays
+     * inside that side, so the other direction only has to be searched within it.
+     */
+    private Set<Integer> reachableBothWays(Set<Integer> from) {
+        Set<Integer> forward = new HashSet<>(from);
+        Set<Integer> backward = new HashSet<>(from);
+        Deque<Integer> forwardPending = new ArrayDeque<>(from);
+        Deque<Integer> backwardPending = new ArrayDeque<>(from);
+        while (!forwardPending.isEmpty() && !backwardPending.isEmpty()) {
+            expand(forwardPending, forward, true, null);
+            expand(backwardPending, backward, false, null);
+        }
+
+        boolean forwardComplete = forwardPending.isEmpty();
+        Set<Integer> bound = forwardComplete ? forward : backward;
+        Set<Integer> region = new HashSet<>(from);
+        Deque<Integer> pending = new ArrayDeque<>(from);
+        while (!pending.isEmpty()) {
+            expand(pending, region, !forwardComplete, bound);
+        }
+        return region;
+    }
+
+    private void expand(Deque<Integer> pending, Set<Integer> seen, boolean forward, Set<Integer> bound) {
+        int node = pending.pop();
+        Collection<Integer> next = forward ? _successors.get(node).keySet() : _predecessors.get(node);
+        for (int neighbor : next) {
+            if ((bound == null || bound.contains(neighbor)) && seen.add(neighbor)) {
+                pending.push(neighbor);
+            }
+        }
+    }
+}
@@ -1,21 +1,56 @@
 package Helpers;
 
+import SymbolTable.Scope;
+import SymbolTable.ScopeKind;
+import SymbolTable.SymbolTable;
+
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 
 public class ScopeManager {
-    private Deque<String> scopeStack = new ArrayDeque<>();
+    private final SymbolTable symbolTable;
+    private final Deque<Scope> scopeStack = new ArrayDeque<>();
+    private final List<Scope> detachedScopes;
+
+    public ScopeManager(SymbolTable symbolTable) {
+        this(symbolTable, false);
+    }
+
+    /**
+     * With detachTopLevel set, scopes opened directly under the global scope are not registered with it,
+     * so several managers can work against one table concurrently. They are collected in
+     * getDetachedScopes() for the caller to attach with SymbolTable.attachScope.
+     */
+    public ScopeManager(SymbolTable symbolTable, boolean detachTopLevel) {
+        this.symbolTable = symbolTable;
+        this.detachedScopes = detachTopLevel ? new ArrayList<>() : null;
+        scopeStack.push(symbolTable.getGlobalScope());
+    }
+
+    public Scope enterScope(String scopeName, ScopeKind kind) {
+        Scope parent = scopeStack.peek();
+        Scope scope;
+        if (detachedScopes != null && parent == symbolTable.getGlobalScope()) {
+            scope = symbolTable.createDetachedScope(parent, scopeName, kind);
+            detachedScopes.add(scope);
+        } else {
+            scope = symbolTable.createScope(parent, scopeName, kind);
+        }
+        scopeStack.push(scope);
+        return scope;
+    }
 
-    public void enterScope(String scopeName) {
-        scopeStack.push(scopeName);
+    public List<Scope> getDetachedScopes() {
+        return detachedScopes != null ? detachedScopes : List.of();
     }
 
     public void exitScope() {
         scopeStack.pop();
     }
 
-    public String getCurrentScope() {
+    public Scope getCurrentScope() {
         return scopeStack.peek();
     }
 }
-
@@ -0,0 +1,22 @@
+package Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("angular.CycleCheck")
+@Label("Dependency Cycle Check")
+@Category({"Angular Compiler", "Semantic Analysis"})
+@Description("One strongly-connected-components pass over a dependency graph")
+public class CycleCheckEvent extends Event {
+    @Label("Nodes")
+    public int nodes;
+
+    @Label("Edges")
+    public int edges;
+
+    @Label("Cycles")
+    public int cycles;
+}
@@ -0,0 +1,31 @@
+package Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("angular.FileCompiled")
+@Label("File Compiled")
+@Category({"Angular Compiler"})
+@Description("One source file run through the whole pipeline, or loaded from the compile cache")
+public class FileCompiledEvent extends Event {
+    @Label("File")
+    public String file;
+
+    @Label("Characters")
+    public int characters;
+
+    @Label("Tokens")
+    public int tokens;
+
+    @Label("Semantic Errors")
+    public int semanticErrors;
+
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,26 @@
+package Profiling;
+
+/**
+ * Pipeline phases measured by PhaseProfiler, in pipeline order.
+ * The ANTLR lexer runs lazily, so LEX only covers creating the lexer and token stream;
+ * the tokens are produced during TOKEN_FILL.
+ */
+public enum Phase {
+    READ("read"),
+    LEX("lex"),
+    TOKEN_FILL("token fill"),
+    PARSE("parse"),
+    VISIT("visit"),
+    TEMPLATE_CHECK("template check"),
+    DUMP("dump");
+
+    private final String _label;
+
+    Phase(String label) {
+        _label = label;
+    }
+
+    public String getLabel() {
+        return _label;
+    }
+}
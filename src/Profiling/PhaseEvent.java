@@ -0,0 +1,19 @@
+package Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("angular.Phase")
+@Label("Compiler Phase")
+@Category({"Angular Compiler"})
+@Description("Start and end of one pipeline phase for one file")
+public class PhaseEvent extends Event {
+    @Label("File")
+    public String file;
+
+    @Label("Phase")
+    public String phase;
+}
@@ -0,0 +1,238 @@
+package Profiling;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records wall time, thread CPU time and allocated bytes of every pipeline phase per file.
+ * A phase is measured on the thread that runs it, so workers compiling different files never share a span.
+ * Use disabled() where no profile was requested; its spans measure nothing.
+ * Every span also emits a PhaseEvent, so phases show up in Flight Recorder recordings with or without a profile.
+ */
+public class PhaseProfiler {
+    public enum Format { TABLE, JSON }
+
+    private static final PhaseProfiler DISABLED = new PhaseProfiler(false);
+
+    private final boolean _enabled;
+    private final com.sun.management.ThreadMXBean _threads;
+    private final Map<Path, Measurement[]> _files = new TreeMap<>();
+
+    public PhaseProfiler() {
+        this(true);
+    }
+
+    private PhaseProfiler(boolean enabled) {
+        _enabled = enabled;
+        _threads = enabled ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+        if (enabled) {
+            if (_threads.isThreadCpuTimeSupported()) {
+                _threads.setThreadCpuTimeEnabled(true);
+            }
+            if (_threads.isThreadAllocatedMemorySupported()) {
+                _threads.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+    }
+
+    public static PhaseProfiler disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+    public Span start(Path file, Phase phase) {
+        if (!_enabled) {
+            return new Span(null, file, phase, 0, 0, 0);
+        }
+        return new Span(this, file, phase, System.nanoTime(), cpuTime(), allocatedBytes());
+    }
+
+    /**
+     * Runs work as one span of the phase and returns its result, rethrowing what the work throws.
+     */
+    public <T, E extends Exception> T call(Path file, Phase phase, Work<T, E> work) throws E {
+        Span span = start(file, phase);
+        try {
+            return work.get();
+        } finally {
+            span.close();
+        }
+    }
+
+    public void run(Path file, Phase phase, Runnable work) {
+        call(file, phase, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private long cpuTime() {
+        return _threads.isThreadCpuTimeEnabled() ? _threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long allocatedBytes() {
+        return _threads.isThreadAllocatedMemoryEnabled() ? _threads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private synchronized void record(Path file, Phase phase, long wallNanos, long cpuNanos, long bytes) {
+        Measurement[] phases = _files.computeIfAbsent(file, key -> new Measurement[Phase.values().length]);
+        Measurement measurement = phases[phase.ordinal()];
+        if (measurement == null) {
+            measurement = new Measurement();
+            phases[phase.ordinal()] = measurement;
+        }
+        measurement.add(wallNanos, cpuNanos, bytes);
+    }
+
+    public synchronized Map<Path, Map<Phase, Measurement>> getMeasurements() {
+        Map<Path, Map<Phase, Measurement>> snapshot = new LinkedHashMap<>();
+        _files.forEach((file, phases) -> snapshot.put(file, toMap(phases)));
+        return snapshot;
+    }
+
+    public synchronized Map<Phase, Measurement> getTotals() {
+        Measurement[] totals = new Measurement[Phase.values().length];
+        for (Measurement[] phases : _files.values()) {
+            for (int i = 0; i < phases.length; i++) {
+                if (phases[i] != null) {
+                    if (totals[i] == null) {
+                        totals[i] = new Measurement();
+                    }
+                    totals[i].add(phases[i]._wallNanos, phases[i]._cpuNanos, phases[i]._allocatedBytes);
+                }
+            }
+        }
+        return toMap(totals);
+    }
+
+    private static Map<Phase, Measurement> toMap(Measurement[] phases) {
+        Map<Phase, Measurement> map = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            if (phases[phase.ordinal()] != null) {
+                map.put(phase, phases[phase.ordinal()].copy());
+            }
+        }
+        return map;
+    }
+
+    public String report(Format format) {
+        return format == Format.JSON ? toJson() : toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Phase profile:\n");
+        String row = "%-40s %-14s %12s %12s %14s%n";
+        builder.append(String.format(row, "File", "Phase", "Wall ms", "CPU ms", "Allocated KB"));
+        getMeasurements().forEach((file, phases) -> appendRows(builder, row, file.toString(), phases));
+        appendRows(builder, row, "Total", getTotals());
+        return builder.toString();
+    }
+
+    private static void appendRows(StringBuilder builder, String row, String file, Map<Phase, Measurement> phases) {
+        phases.forEach((phase, measurement) -> builder.append(String.format(row, file, phase.getLabel(),
+                String.format("%.3f", measurement.getWallNanos() / 1e6),
+                String.format("%.3f", measurement.getCpuNanos() / 1e6),
+                String.format("%.1f", measurement.getAllocatedBytes() / 1024.0))));
+    }
+
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("{\"files\": [");
+        List<String> files = new ArrayList<>();
+        getMeasurements().forEach((file, phases) -> files.add("\n  {\"file\": \"" + escape(file.toString()) + "\", \"phases\": " + phasesJson(phases) + "}"));
+        builder.append(String.join(",", files))
+                .append("\n], \"totals\": ").append(phasesJson(getTotals())).append("}");
+        return builder.toString();
+    }
+
+    private static String phasesJson(Map<Phase, Measurement> phases) {
+        List<String> entries = new ArrayList<>();
+        phases.forEach((phase, measurement) -> entries.add(String.format(
+                "\"%s\": {\"wallNanos\": %d, \"cpuNanos\": %d, \"allocatedBytes\": %d}",
+                phase.name().toLowerCase(), measurement.getWallNanos(), measurement.getCpuNanos(), measurement.getAllocatedBytes())));
+        return "{" + String.join(", ", entries) + "}";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    public static class Measurement {
+        private long _wallNanos;
+        private long _cpuNanos;
+        private long _allocatedBytes;
+
+        private void add(long wallNanos, long cpuNanos, long allocatedBytes) {
+            _wallNanos += wallNanos;
+            _cpuNanos += cpuNanos;
+            _allocatedBytes += allocatedBytes;
+        }
+
+        private Measurement copy() {
+            Measurement copy = new Measurement();
+            copy.add(_wallNanos, _cpuNanos, _allocatedBytes);
+            return copy;
+        }
+
+        public long getWallNanos() { return _wallNanos; }
+        public long getCpuNanos() { return _cpuNanos; }
+        public long getAllocatedBytes() { return _allocatedBytes; }
+    }
+
+    /**
+     * Work timed by call(); unlike a Supplier it may throw a checked exception, such as reading the input does.
+     */
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T get() throws E;
+    }
+
+    /**
+     * One running phase; closing it adds the deltas since start() to the file's totals for that phase.
+     */
+    public static class Span implements AutoCloseable {
+        private final PhaseProfiler _profiler;
+        private final Path _file;
+        private final Phase _phase;
+        private final long _startWall;
+        private final long _startCpu;
+        private final long _startBytes;
+        private final PhaseEvent _event = new PhaseEvent();
+
+        private Span(PhaseProfiler profiler, Path file, Phase phase, long startWall, long startCpu, long startBytes) {
+            _event.begin();
+            _profiler = profiler;
+            _file = file;
+            _phase = phase;
+            _startWall = startWall;
+            _startCpu = startCpu;
+            _startBytes = startBytes;
+        }
+
+        @Override
+        public void close() {
+            _event.end();
+            if (_event.shouldCommit()) {
+                _event.file = String.valueOf(_file);
+                _event.phase = _phase.getLabel();
+                _event.commit();
+            }
+            if (_profiler == null) {
+                return;
+            }
+            _profiler.record(_file, _phase,
+                    System.nanoTime() - _startWall,
+                    _profiler.cpuTime() - _startCpu,
+                    _profiler.allocatedBytes() - _startBytes);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("angular.SemanticError")
+@Label("Semantic Error Reported")
+@Category({"Angular Compiler", "Semantic Analysis"})
+@Description("A semantic error reported by the visitor")
+public class SemanticErrorEvent extends Event {
+    @Label("Error Type")
+    public String errorType;
+
+    @Label("Message")
+    public String message;
+
+    @Label("Line")
+    public int line;
+
+    @Label("Column")
+    public int column;
+}
@@ -0,0 +1,29 @@
+package Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("angular.SymbolAdded")
+@Label("Symbol Added")
+@Category({"Angular Compiler", "Semantic Analysis"})
+@Description("A declaration entered into the symbol table, or rejected as a duplicate")
+public class SymbolAddedEvent extends Event {
+    @Label("Name")
+    public String name;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Scope")
+    public String scope;
+
+    @Label("Scope Size")
+    @Description("Symbols declared in the scope after this declaration")
+    public int scopeSize;
+
+    @Label("Duplicate")
+    public boolean duplicate;
+}
@@ -3,8 +3,10 @@ package Semantic;
 import java.util.List;
 
 public class CircularDependencyError implements SemanticError {
+    private final List<String> _members;
 
-    public CircularDependencyError() {
+    public CircularDependencyError(List<String> members) {
+        this._members = List.copyOf(members);
     }
 
     @Override
@@ -14,7 +16,11 @@ public class CircularDependencyError implements SemanticError {
 
     @Override
     public String getMessage() {
-        return String.format(" CircularDependency detected.");
+        return String.format(" CircularDependency detected: %s -> %s", String.join(" -> ", _members), _members.get(0));
+    }
+
+    public List<String> getMembers() {
+        return _members;
     }
 
     @Override
@@ -23,6 +23,10 @@ public class ComponentImportMissingError implements SemanticError
         return _message;
     }
 
+    public String getName() {
+        return _name;
+    }
+
     @Override
     public int getLine() {
         return _line;
@@ -1,5 +1,7 @@
 package Semantic;
 
+import Profiling.SemanticErrorEvent;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +14,15 @@ public class SemanticErrorReporter {
 
     public void report(SemanticError error) {
         errors.add(error);
+
+        SemanticErrorEvent event = new SemanticErrorEvent();
+        if (event.shouldCommit()) {
+            event.errorType = error.getType();
+            event.message = error.getMessage();
+            event.line = error.getLine();
+            event.column = error.getColumn();
+            event.commit();
+        }
     }
 
     public boolean hasErrors() {
@@ -0,0 +1,197 @@
+package Semantic;
+
+import AST.ASTNode;
+import AST.Declarations.ClassDeclaration;
+import AST.Declarations.ComponentDefinition;
+import AST.Expression.*;
+import AST.LineMap;
+import AST.Program;
+import AST.Properties.ComponentProperty;
+import AST.Properties.ObjectProperty;
+import AST.Properties.TemplateProperty;
+import AST.SourceSpan;
+import AST.Template.*;
+import SymbolTable.Scope;
+import SymbolTable.ScopeKind;
+import SymbolTable.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that every identifier read by a template binding or interpolation is a field or method of the
+ * component class, a local of an enclosing *ngFor, an *ngIf alias, or $event inside an event binding, and
+ * reports the others as UndeclaredVariableError at their position in the template. Each template is walked once;
+ * members are looked up in the class scope's symbol map and locals in a map of the names currently in scope.
+ * Runs after the visitor, once the program's line map is known.
+ */
+public class TemplateBindingChecker {
+    private static final String EVENT_LOCAL = "$event";
+
+    private final SymbolTable _symbols;
+    private final SemanticErrorReporter _reporter;
+    private final Map<String, Integer> _locals = new HashMap<>();
+    private LineMap _lines;
+    private Scope _members;
+    private long _expressionSpan;
+
+    public TemplateBindingChecker(SymbolTable symbols, SemanticErrorReporter reporter) {
+        _symbols = symbols;
+        _reporter = reporter;
+    }
+
+    public void check(Program program) {
+        _lines = program.getLineMap();
+        Map<String, Scope> classScopes = new HashMap<>();
+        for (Scope scope : _symbols.getGlobalScope().getChildren()) {
+            if (scope.getKind() == ScopeKind.CLASS) {
+                classScopes.putIfAbsent(scope.getName(), scope);
+            }
+        }
+
+        for (ComponentDefinition component : program.getComponents()) {
+            ClassDeclaration declaration = component.getClassDeclaration();
+            if (declaration == null || component.getComponentConfig() == null) {
+                continue;
+            }
+            _members = classScopes.get(declaration.getClassName());
+            if (_members == null) {
+                continue;
+            }
+            for (ComponentProperty property : component.getComponentConfig().getComponentProperties()) {
+                if (property instanceof TemplateProperty template) {
+                    checkNodes(template.getNodes());
+                }
+            }
+        }
+    }
+
+    private void checkNodes(List<TemplateNode> nodes) {
+        for (TemplateNode node : nodes) {
+            if (node instanceof TemplateElement element) {
+                checkElement(element);
+            } else if (node instanceof Interpolation interpolation) {
+                checkExpression(interpolation.getValue(), interpolation.getExpressionSpan());
+            }
+        }
+    }
+
+    private void checkElement(TemplateElement element) {
+        // A repeater's iterable and a condition are read outside the embedded view; their locals are in scope
+        // for the other bindings of the same element and for its children.
+        List<String> declared = new ArrayList<>();
+        for (TemplateBinding binding : element.getBindings()) {
+            if (binding.getValue() instanceof ForOfExpression forOf) {
+                checkExpression(forOf.getIterable(), binding.getExpressionSpan());
+                declared.add(forOf.getItemName());
+                for (TemplateVariable variable : forOf.getVariables()) {
+                    declared.add(variable.getName());
+                }
+            } else if (binding.getValue() instanceof IfExpression condition) {
+                checkExpression(condition.getCondition(), binding.getExpressionSpan());
+                if (condition.getAlias() != null) {
+                    declared.add(condition.getAlias());
+                }
+            }
+        }
+        for (String name : declared) {
+            declareLocal(name);
+        }
+
+        for (TemplateBinding binding : element.getBindings()) {
+            if (binding.getValue() instanceof ForOfExpression forOf) {
+                checkExpression(forOf.getTrackBy(), binding.getExpressionSpan());
+            } else if (binding.getValue() instanceof IfExpression) {
+                continue;
+            } else if (binding.getKind() == BindingKind.EVENT) {
+                declareLocal(EVENT_LOCAL);
+                checkExpression(binding.getValue(), binding.getExpressionSpan());
+                removeLocal(EVENT_LOCAL);
+            } else {
+                checkExpression(binding.getValue(), binding.getExpressionSpan());
+            }
+        }
+        checkNodes(element.getChildren());
+
+        for (String name : declared) {
+            removeLocal(name);
+        }
+    }
+
+    private void declareLocal(String name) {
+        _locals.merge(name, 1, Integer::sum);
+    }
+
+    private void removeLocal(String name) {
+        _locals.computeIfPresent(name, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void checkExpression(Expression expression, long expressionSpan) {
+        _expressionSpan = expressionSpan;
+        visit(expression);
+    }
+
+    private void visit(Object node) {
+        if (node instanceof IdentifierExpression identifier) {
+            checkName(identifier.getName(), identifier, false);
+        } else if (node instanceof PostfixExpression postfix) {
+            List<Object> parts = postfix.getParts();
+            if (postfix.getBase() instanceof ThisExpression && !parts.isEmpty() && parts.get(0) instanceof PropertyAccess member) {
+                // this.name always refers to the component, even when a local of the same name is in scope.
+                checkName(member.getProperty(), member, true);
+            } else {
+                visit(postfix.getBase());
+            }
+            for (Object part : parts) {
+                visit(part);
+            }
+        } else if (node instanceof FunctionCallExpression call) {
+            visitAll(call.getArguments());
+        } else if (node instanceof KeyedAccess keyed) {
+            visit(keyed.getKey());
+        } else if (node instanceof PipeExpression pipe) {
+            // The pipe's name is not a member of the component; its input and arguments are.
+            visit(pipe.getInput());
+            visitAll(pipe.getArguments());
+        } else if (node instanceof SequenceExpression sequence) {
+            visitAll(sequence.getExpressions());
+        } else if (node instanceof BinaryExpression binary) {
+            visit(binary.getLeft());
+            visit(binary.getRight());
+        } else if (node instanceof UnaryExpression unary) {
+            visit(unary.getExpression());
+        } else if (node instanceof ConditionalExpression conditional) {
+            visit(conditional.getCondition());
+            visit(conditional.getTrueExpr());
+            visit(conditional.getFalseExpr());
+        } else if (node instanceof AssignmentExpression assignment) {
+            visit(assignment.getTarget());
+            visit(assignment.getValue());
+        } else if (node instanceof ArrayExpression array) {
+            visitAll(array.getElements());
+        } else if (node instanceof ObjectExpression object) {
+            for (ObjectProperty property : object.getProperties()) {
+                visit(property.getValue());
+            }
+        }
+    }
+
+    private void visitAll(List<? extends Expression> expressions) {
+        for (Expression expression : expressions) {
+            visit(expression);
+        }
+    }
+
+    private void checkName(String name, ASTNode node, boolean memberOnly) {
+        if ((!memberOnly && _locals.containsKey(name)) || _members.lookupLocal(name) != null) {
+            return;
+        }
+        // Spans inside a binding's expression are relative to the expression itself.
+        int offset = SourceSpan.start(_expressionSpan) + Math.max(0, SourceSpan.start(node.getSpan()));
+        int line = _lines != null && SourceSpan.isKnown(_expressionSpan) ? _lines.line(offset) : 0;
+        int column = _lines != null && SourceSpan.isKnown(_expressionSpan) ? _lines.column(offset) : 0;
+        _reporter.report(new UndeclaredVariableError(name, line, column));
+    }
+}
@@ -22,6 +22,10 @@ public class UndeclaredVariableError implements SemanticError {
         return "Variable " + _variableName + " is not declared.";
     }
 
+    public String getVariableName() {
+        return _variableName;
+    }
+
     @Override
     public int getLine() {
         return _line;
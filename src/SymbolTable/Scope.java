@@ -0,0 +1,78 @@
+package SymbolTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Scope {
+    private final String _name;
+    private final ScopeKind _kind;
+    private final Scope _parent;
+    private final Map<String, SymbolTableInfo> _symbols = new HashMap<>();
+    private final List<SymbolTableInfo> _declarationOrder = new ArrayList<>();
+    private final List<Scope> _children = new ArrayList<>();
+
+    Scope(String name, ScopeKind kind, Scope parent) {
+        _name = name;
+        _kind = kind;
+        _parent = parent;
+    }
+
+    public String getName() { return _name; }
+    public ScopeKind getKind() { return _kind; }
+    public Scope getParent() { return _parent; }
+    public List<Scope> getChildren() { return _children; }
+
+    public Collection<SymbolTableInfo> getSymbols() {
+        return _declarationOrder;
+    }
+
+    public SymbolTableInfo lookupLocal(String name) {
+        return _symbols.get(name);
+    }
+
+    public SymbolTableInfo resolve(String name) {
+        for (Scope scope = this; scope != null; scope = scope._parent) {
+            SymbolTableInfo info = scope._symbols.get(name);
+            if (info != null) {
+                return info;
+            }
+        }
+        return null;
+    }
+
+    boolean declare(SymbolTableInfo info) {
+        if (_symbols.putIfAbsent(info.getName(), info) != null) {
+            return false;
+        }
+        _declarationOrder.add(info);
+        return true;
+    }
+
+    Scope addChild(String name, ScopeKind kind) {
+        Scope child = new Scope(name, kind, this);
+        _children.add(child);
+        return child;
+    }
+
+    void attachChild(Scope child) {
+        if (child._parent != this) {
+            throw new IllegalArgumentException("Scope " + child.getPath() + " is not a child of " + getPath());
+        }
+        _children.add(child);
+    }
+
+    public String getPath() {
+        if (_parent == null || _parent._kind == ScopeKind.GLOBAL) {
+            return _name;
+        }
+        return _parent.getPath() + "." + _name;
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
@@ -0,0 +1,8 @@
+package SymbolTable;
+
+public enum ScopeKind {
+    GLOBAL,
+    CLASS,
+    METHOD,
+    BLOCK
+}
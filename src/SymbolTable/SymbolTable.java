@@ -1,40 +1,80 @@
 package SymbolTable;
 
+import Profiling.SymbolAddedEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 public class SymbolTable
 {
-    private Map<String, SymbolTableInfo> symbolTable;
+    public static final String GLOBAL_SCOPE = "Global";
+
+    private final Scope globalScope;
 
     public SymbolTable() {
-        this.symbolTable = new HashMap<>();
+        this.globalScope = new Scope(GLOBAL_SCOPE, ScopeKind.GLOBAL, null);
+    }
+
+    public Scope getGlobalScope() {
+        return globalScope;
     }
 
-    public void addVariable(String variableName, String type, Object value, String scope) {
-        if (symbolTable.containsKey(variableName)) {
-            System.out.println("Error: Variable " + variableName + " already declared.");
-            return;
+    public Scope createScope(Scope parent, String name, ScopeKind kind) {
+        return parent.addChild(name, kind);
+    }
+
+    // A detached scope resolves through its parent but is not listed among the parent's children
+    // (and so not dumped) until attachScope is called.
+    public Scope createDetachedScope(Scope parent, String name, ScopeKind kind) {
+        return new Scope(name, kind, parent);
+    }
+
+    public void attachScope(Scope scope) {
+        scope.getParent().attachChild(scope);
+    }
+
+    // Lookups and declarations never print; callers decide whether a miss or a clash is a
+    // semantic error and report it through SemanticErrorReporter with a source position.
+
+    public boolean addVariable(String variableName, String type, Object value, Scope scope) {
+        boolean declared = scope.declare(new SymbolTableInfo(variableName, type, value, scope));
+
+        SymbolAddedEvent event = new SymbolAddedEvent();
+        if (event.shouldCommit()) {
+            event.name = variableName;
+            event.type = type;
+            event.scope = scope.getPath();
+            event.scopeSize = scope.getSymbols().size();
+            event.duplicate = !declared;
+            event.commit();
         }
-        SymbolTableInfo info = new SymbolTableInfo(variableName, type, value, scope);
-        symbolTable.put(variableName, info);
+        return declared;
     }
 
-    public void updateVariable(String variableName, Object newValue) {
-        SymbolTableInfo info = symbolTable.get(variableName);
-        if (info != null) {
-            info.setValue(newValue);
-        } else {
-            System.out.println("Variable " + variableName + " does not exist in the symbol table!");
+    public boolean updateVariable(String variableName, Object newValue, Scope scope) {
+        SymbolTableInfo info = scope.resolve(variableName);
+        if (info == null) {
+            return false;
         }
+        info.setValue(newValue);
+        return true;
+    }
+
+    public boolean contains(String variableName, Scope scope) {
+        return scope.resolve(variableName) != null;
+    }
+
+    public SymbolTableInfo tryLookup(String variableName, Scope scope) {
+        return scope.resolve(variableName);
+    }
+
+    public SymbolTableInfo lookupLocal(String variableName, Scope scope) {
+        return scope.lookupLocal(variableName);
     }
 
     public SymbolTableInfo getSymbolInfo(String variableName) {
-        if (symbolTable.containsKey(variableName)) {
-            return symbolTable.get(variableName);
-        } else {
-            System.out.println("Variable " + variableName + " does not exist in the symbol table!");
-            return null;
-        }
+        return globalScope.lookupLocal(variableName);
     }
 
     public Object getValue(String variableName) {
@@ -42,33 +82,29 @@ public class SymbolTable
         return info != null ? info.getValue() : null;
     }
 
+    public List<SymbolTableInfo> getAllSymbols() {
+        List<SymbolTableInfo> symbols = new ArrayList<>();
+        Deque<Scope> pending = new ArrayDeque<>();
+        pending.push(globalScope);
+        while (!pending.isEmpty()) {
+            Scope scope = pending.pop();
+            symbols.addAll(scope.getSymbols());
+            List<Scope> children = scope.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                pending.push(children.get(i));
+            }
+        }
+        return symbols;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        builder.append("Symbol Table:\n")
-                .append("*").append("*".repeat(420)).append("*\n")
-                .append(String.format("| %-10s | %-25s | %-30s | %-105s | %-25s \n", "ID", "VariableName", "Type", "Value", "Scope"))
-                .append("*").append("*".repeat(420)).append("*\n");
-
-        int id = 1;
-        for (Map.Entry<String, SymbolTableInfo> entry : symbolTable.entrySet()) {
-            SymbolTableInfo info = entry.getValue();
-            String[] valueLines = String.valueOf(info.getValue()).split("\\n");
-            String[] nameLines = info.getName().split("\\n");
-            int maxLines = Math.max(valueLines.length, nameLines.length);
-
-            builder.append(String.format("| %-10d | %-25s | %-30s | %-105s | %-25s \n",
-                    id++, nameLines[0], info.getType(), valueLines[0], info.getScope()));
-
-            for (int i = 1; i < maxLines; i++) {
-                builder.append(String.format("| %-10s | %-25s | %-30s | %-105s | %-25s \n",
-                        "", (i < nameLines.length) ? nameLines[i] : "",
-                        "", (i < valueLines.length) ? valueLines[i] : "", ""));
-            }
-
-            builder.append("*").append("*".repeat(420)).append("*\n");
+        try {
+            new SymbolTableRenderer(SymbolTableRenderer.Format.TABLE).render(this, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
         return builder.toString();
     }
 }
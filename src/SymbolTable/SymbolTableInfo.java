@@ -4,9 +4,9 @@ public class SymbolTableInfo {
     private String _name;
     private String _type;
     private Object _value;
-    private String _scope;
+    private final Scope _scope;
 
-    public SymbolTableInfo(String name, String type, Object value, String scope) {
+    public SymbolTableInfo(String name, String type, Object value, Scope scope) {
         _name = name;
         _type = type;
         _value = value;
@@ -16,14 +16,14 @@ public class SymbolTableInfo {
     public String getName() { return _name; }
     public String getType() { return _type; }
     public Object getValue() { return _value; }
-    public String getScope() { return _scope; }
+    public String getScope() { return _scope.getName(); }
+    public Scope getOwnerScope() { return _scope; }
 
     public void setValue(Object value) { _value = value; }
     public void setType(String type) { _type = type; }
-    public void setScope(String scope) { _scope = scope; }
 
     @Override
     public String toString() {
-        return "Type: " + _type + ", Value: " + _value + ", Scope: " + _scope;
+        return "Type: " + _type + ", Value: " + _value + ", Scope: " + _scope.getPath();
     }
 }
@@ -0,0 +1,250 @@
+package SymbolTable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes a SymbolTable row by row to any Appendable, so large tables never have to be built as one string.
+ * Scopes are walked depth first in declaration order; rendering stops after the row limit.
+ */
+public class SymbolTableRenderer {
+    public enum Format { TABLE, JSON, CSV }
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private static final int[] COLUMN_WIDTHS = { 10, 25, 30, 105, 25 };
+    private static final String SEPARATOR = "*" + "*".repeat(420) + "*\n";
+
+    private final Format _format;
+    private final int _rowLimit;
+
+    public SymbolTableRenderer(Format format) {
+        this(format, NO_LIMIT);
+    }
+
+    public SymbolTableRenderer(Format format, int rowLimit) {
+        _format = format;
+        _rowLimit = rowLimit;
+    }
+
+    public static Format parseFormat(String value) {
+        for (Format format : Format.values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown symbol table format: " + value);
+    }
+
+    public void render(SymbolTable table, Appendable out) throws IOException {
+        beginTable(out);
+
+        int id = 0;
+        int skipped = 0;
+        SymbolIterator symbols = new SymbolIterator(table.getGlobalScope());
+        while (symbols.hasNext()) {
+            SymbolTableInfo info = symbols.next();
+            if (id >= _rowLimit) {
+                skipped++;
+                continue;
+            }
+            id++;
+            switch (_format) {
+                case TABLE -> tableRow(id, info, out);
+                case JSON -> jsonRow(id, info, out);
+                case CSV -> csvRow(id, info, out);
+            }
+        }
+
+        endTable(skipped, out);
+    }
+
+    private void beginTable(Appendable out) throws IOException {
+        switch (_format) {
+            case TABLE -> {
+                out.append("Symbol Table:\n").append(SEPARATOR);
+                cells(out, "ID", "VariableName", "Type", "Value", "Scope");
+                out.append(SEPARATOR);
+            }
+            case JSON -> out.append("{\"symbols\": [");
+            case CSV -> out.append("id,name,type,value,scope\n");
+        }
+    }
+
+    private void endTable(int skipped, Appendable out) throws IOException {
+        switch (_format) {
+            case TABLE -> {
+                if (skipped > 0) {
+                    out.append("... ").append(String.valueOf(skipped)).append(" more row(s) not shown\n");
+                }
+            }
+            case JSON -> out.append("\n], \"omitted\": ").append(String.valueOf(skipped)).append("}\n");
+            case CSV -> { }
+        }
+    }
+
+    private void tableRow(int id, SymbolTableInfo info, Appendable out) throws IOException {
+        String name = info.getName();
+        String value = String.valueOf(info.getValue());
+
+        int nameStart = 0;
+        int valueStart = 0;
+        int nameEnd = lineEnd(name, nameStart);
+        int valueEnd = lineEnd(value, valueStart);
+        cells(out, String.valueOf(id), name.substring(nameStart, nameEnd), String.valueOf(info.getType()),
+                value.substring(valueStart, valueEnd), info.getOwnerScope().getPath());
+
+        // Multi-line names or values continue on following rows with the other columns left blank.
+        while (nameEnd < name.length() || valueEnd < value.length()) {
+            String nameLine = "";
+            if (nameEnd < name.length()) {
+                nameStart = nameEnd + 1;
+                nameEnd = lineEnd(name, nameStart);
+                nameLine = name.substring(nameStart, nameEnd);
+            }
+            String valueLine = "";
+            if (valueEnd < value.length()) {
+                valueStart = valueEnd + 1;
+                valueEnd = lineEnd(value, valueStart);
+                valueLine = value.substring(valueStart, valueEnd);
+            }
+            cells(out, "", nameLine, "", valueLine, "");
+        }
+
+        out.append(SEPARATOR);
+    }
+
+    private static int lineEnd(String text, int from) {
+        int end = text.indexOf('\n', from);
+        return end < 0 ? text.length() : end;
+    }
+
+    private static void cells(Appendable out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            out.append("| ").append(values[i]);
+            for (int pad = values[i].length(); pad < COLUMN_WIDTHS[i]; pad++) {
+                out.append(' ');
+            }
+            out.append(' ');
+        }
+        out.append('\n');
+    }
+
+    private void jsonRow(int id, SymbolTableInfo info, Appendable out) throws IOException {
+        out.append(id == 1 ? "\n  " : ",\n  ")
+                .append("{\"id\": ").append(String.valueOf(id))
+                .append(", \"name\": ");
+        jsonString(info.getName(), out);
+        out.append(", \"type\": ");
+        jsonString(info.getType(), out);
+        out.append(", \"value\": ");
+        jsonString(info.getValue() == null ? null : String.valueOf(info.getValue()), out);
+        out.append(", \"scope\": ");
+        jsonString(info.getOwnerScope().getPath(), out);
+        out.append('}');
+    }
+
+    private static void jsonString(String value, Appendable out) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private void csvRow(int id, SymbolTableInfo info, Appendable out) throws IOException {
+        out.append(String.valueOf(id)).append(',');
+        csvField(info.getName(), out);
+        out.append(',');
+        csvField(info.getType(), out);
+        out.append(',');
+        csvField(info.getValue() == null ? "" : String.valueOf(info.getValue()), out);
+        out.append(',');
+        csvField(info.getOwnerScope().getPath(), out);
+        out.append('\n');
+    }
+
+    private static void csvField(String value, Appendable out) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    /**
+     * Depth-first walk over all symbols of a scope tree without collecting them into a list first.
+     */
+    private static class SymbolIterator implements Iterator<SymbolTableInfo> {
+        private final Deque<Scope> _pendingScopes = new ArrayDeque<>();
+        private Iterator<SymbolTableInfo> _current;
+
+        SymbolIterator(Scope root) {
+            _pendingScopes.push(root);
+            _current = nextScope();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!_current.hasNext()) {
+                if (_pendingScopes.isEmpty()) {
+                    return false;
+                }
+                _current = nextScope();
+            }
+            return true;
+        }
+
+        @Override
+        public SymbolTableInfo next() {
+            hasNext();
+            return _current.next();
+        }
+
+        private Iterator<SymbolTableInfo> nextScope() {
+            Scope scope = _pendingScopes.pop();
+            List<Scope> children = scope.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                _pendingScopes.push(children.get(i));
+            }
+            return scope.getSymbols().iterator();
+        }
+    }
+}
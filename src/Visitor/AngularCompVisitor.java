@@ -2,34 +2,111 @@ package Visitor;
 
 import AST.ASTNode;
 import AST.Program;
+import AST.SourceSpan;
 import java.util.*;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 import AST.Statement.*;
 import AST.Expression.*;
 import AST.Types.*;
 import AST.Declarations.*;
 import AST.Properties.*;
+import AST.Template.*;
 import Helpers.CycleDetector;
+import Helpers.ProjectDependencyGraph;
 import Semantic.*;
+import SymbolTable.Scope;
+import SymbolTable.ScopeKind;
 import SymbolTable.SymbolTableInfo;
 import SymbolTable.SymbolTable;
 import antlr.AngularParser;
 import antlr.AngularParserBaseVisitor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import Helpers.ScopeManager;
 
 public class AngularCompVisitor extends AngularParserBaseVisitor
 {
-    public SymbolTable s = new SymbolTable();
+    private static final int PARALLEL_COMPONENT_THRESHOLD = 2;
+
+    public SymbolTable s;
     public SemanticErrorReporter errorReporter = new SemanticErrorReporter();
-    private final ScopeManager scopeManager = new ScopeManager();
-    private final Map<String, List<String>> dependencyGraph = new HashMap<>();
-    private Set<String> importedIdentifiers = new HashSet<>();
+    private final ScopeManager scopeManager;
+    private Set<String> importedIdentifiers;
+
+    // Set on the per-component visitors created by visitProgram: global declarations are buffered here
+    // and merged into the shared table in source order once every component has been analyzed.
+    private final List<PendingGlobal> pendingGlobals;
+    // Global names a per-component visitor resolves although they are still pending: those declared by
+    // earlier components and by its own config, which a single sequential pass had declared by then.
+    private final Set<String> pendingVisibleGlobals;
+    // Cleared while profiling: thread CPU time and allocations are read for the calling thread only,
+    // so the components have to be analyzed on it to be measured.
+    private final boolean concurrentComponents;
+
+    public AngularCompVisitor()
+    {
+        this(true);
+    }
+
+    public AngularCompVisitor(boolean concurrentComponents)
+    {
+        this.concurrentComponents = concurrentComponents;
+        s = new SymbolTable();
+        scopeManager = new ScopeManager(s);
+        importedIdentifiers = new HashSet<>();
+        pendingGlobals = null;
+        pendingVisibleGlobals = Set.of();
+    }
+
+    private AngularCompVisitor(AngularCompVisitor program, Set<String> visibleGlobals)
+    {
+        s = program.s;
+        scopeManager = new ScopeManager(s, true);
+        importedIdentifiers = program.importedIdentifiers;
+        pendingGlobals = new ArrayList<>();
+        pendingVisibleGlobals = visibleGlobals;
+        concurrentComponents = false;
+    }
+
+    /**
+     * A syntax error in a template binding expression. Binding expressions are parsed outside the ANTLR
+     * parser, so the caller adds these to the file's other syntax errors once the visit is done.
+     */
+    public record TemplateSyntaxError(int line, int column, String message) { }
+
+    // Buffered per component like the semantic errors, and merged in source order.
+    private final List<TemplateSyntaxError> templateSyntaxErrors = new ArrayList<>();
+
+    public List<TemplateSyntaxError> getTemplateSyntaxErrors()
+    {
+        return templateSyntaxErrors;
+    }
+
+    private record PendingGlobal(String name, String type, Object value, Token declaredAt) { }
+
+    private void declareGlobal(String name, String type, Object value, Token declaredAt)
+    {
+        if (pendingGlobals != null) {
+            pendingGlobals.add(new PendingGlobal(name, type, value, declaredAt));
+        } else {
+            mergeGlobal(new PendingGlobal(name, type, value, declaredAt));
+        }
+    }
 
-    private String currentModule = null;
+    // Config entries (no declaring token) silently keep the first component's value; a class name
+    // declared twice is a DuplicateDeclarationError.
+    private void mergeGlobal(PendingGlobal global)
+    {
+        if (!s.addVariable(global.name(), global.type(), global.value(), s.getGlobalScope()) && global.declaredAt() != null) {
+            Token name = global.declaredAt();
+            errorReporter.report(new DuplicateDeclarationError(global.name(), name.getLine(), name.getCharPositionInLine()));
+        }
+    }
     private Object resolveVariableValue(String varName) {
-        SymbolTableInfo info = s.getSymbolInfo(varName);
+        SymbolTableInfo info = s.tryLookup(varName, scopeManager.getCurrentScope());
         if (info != null && info.getValue() != null) {
             try {
                 return Integer.parseInt(info.getValue().toString());
@@ -39,6 +116,14 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         return null;
     }
 
+    private boolean isVisible(SymbolTableInfo info, Scope from)
+    {
+        Scope owner = info.getOwnerScope();
+        return owner == from
+                || owner.getKind() != ScopeKind.CLASS
+                || info.getType().equals("Method");
+    }
+
     private String extractTypeName(TypeAnnotation type)
     {
         if(type.getPrimaryType() instanceof IdentifierType) {
@@ -46,6 +131,36 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         }
         return null;
     }
+    // Every node gets the span of the rule that produced it. A node handed up unchanged through enclosing
+    // rules (a lone operand, a parenthesized expression) keeps the innermost span it was given first.
+    @Override
+    public Object visit(ParseTree tree)
+    {
+        Object result = super.visit(tree);
+        if (result instanceof ASTNode node && !SourceSpan.isKnown(node.getSpan()) && tree instanceof ParserRuleContext ctx) {
+            node.setSpan(span(ctx));
+        }
+        return result;
+    }
+
+    private static long span(ParserRuleContext ctx)
+    {
+        int start = ctx.getStart().getStartIndex();
+        Token stop = ctx.getStop();
+        // Empty rules and rules ending in a token conjured by error recovery end where they start.
+        int end = stop == null || stop.getStopIndex() < start ? start : stop.getStopIndex() + 1;
+        return SourceSpan.of(start, end);
+    }
+
+    // The inner links of a chain like a + b - c are never returned from visit(), so they are spanned here.
+    private static BinaryExpression binary(Expression left, String operator, Expression right)
+    {
+        BinaryExpression expression = new BinaryExpression(left, operator, right);
+        expression.setSpan(SourceSpan.cover(left == null ? SourceSpan.NONE : left.getSpan(),
+                right == null ? SourceSpan.NONE : right.getSpan()));
+        return expression;
+    }
+
     @Override
     public Object visitProgram(AngularParser.ProgramContext ctx) {
         List<ImportStatement> importStatements = new ArrayList<>();
@@ -54,27 +169,132 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
             importStatements.add(impStmt);
         }
 
-        int line = ctx.getStart().getLine();
-        int column = ctx.getStart().getCharPositionInLine() + 1;
+        checkComponentImport(ctx.getStart());
+
+        List<ComponentDefinition> components = new ArrayList<>();
+        for (ComponentAnalysis analysis : analyzeComponents(ctx.componentDefinition())) {
+            components.add(analysis.component());
+            merge(analysis.visitor());
+        }
+
+        return finishProgram(importStatements, components);
+    }
+
+    // The steps of visitProgram for callers that parse a program one top-level rule at a time and
+    // discard each parse tree once it is visited: visit() every import, then checkComponentImport()
+    // before the first component, visitComponent() for each component and finishProgram() at the end.
 
+    public void checkComponentImport(Token programStart)
+    {
         if (!importedIdentifiers.contains("Component")) {
-            errorReporter.report(new ComponentImportMissingError("ComponentImportMissingError", line, column ));
+            errorReporter.report(new ComponentImportMissingError("ComponentImportMissingError",
+                    programStart.getLine(), programStart.getCharPositionInLine() + 1));
         }
+    }
 
-        List<ComponentDefinition> components = new ArrayList<>();
-        for (AngularParser.ComponentDefinitionContext compCtx : ctx.componentDefinition()) {
-            ComponentDefinition component = (ComponentDefinition) visit(compCtx);
-            components.add(component);
+    public ComponentDefinition visitComponent(AngularParser.ComponentDefinitionContext ctx)
+    {
+        ComponentAnalysis analysis = analyzeComponent(ctx, Set.of());
+        merge(analysis.visitor());
+        return analysis.component();
+    }
+
+    public Program finishProgram(List<ImportStatement> importStatements, List<ComponentDefinition> components)
+    {
+        Program program = new Program(importStatements, components);
+
+        // The same edges ProjectDependencyGraph adds for this file, so cycles among the file's own classes are
+        // reported here and the project graph only reports cycles across files.
+        CycleDetector detector = new CycleDetector(ProjectDependencyGraph.moduleDependencies(program));
+        for (List<String> cycle : detector.findCycles()) {
+            errorReporter.report(new CircularDependencyError(cycle));
         }
 
-        CycleDetector detector = new CycleDetector(dependencyGraph);
-        boolean foundCycle = detector.hasCycle();
+        return program;
+    }
+
+    private record ComponentAnalysis(ComponentDefinition component, AngularCompVisitor visitor) { }
 
-        if (foundCycle) {
-            errorReporter.report(new CircularDependencyError());
+    // Each component is analyzed by its own visitor with private scopes and errors,
+    // reading the shared table only; results are returned in source order for merge(). The analyses run
+    // concurrently only on the fork/join pool the caller already runs in (the batch compiler's workers),
+    // so the pool's size bounds the parallelism of files and components together.
+    private List<ComponentAnalysis> analyzeComponents(List<AngularParser.ComponentDefinitionContext> contexts)
+    {
+        List<ForkJoinTask<ComponentAnalysis>> tasks = new ArrayList<>(contexts.size());
+        Set<String> earlierGlobals = new HashSet<>();
+        for (AngularParser.ComponentDefinitionContext compCtx : contexts) {
+            Set<String> visibleGlobals = Set.copyOf(earlierGlobals);
+            tasks.add(ForkJoinTask.adapt(() -> analyzeComponent(compCtx, visibleGlobals)));
+            earlierGlobals.addAll(declaredGlobalNames(compCtx));
         }
 
-        return new Program(importStatements, components);
+        if (concurrentComponents && contexts.size() >= PARALLEL_COMPONENT_THRESHOLD && ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        }
+        List<ComponentAnalysis> analyses = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<ComponentAnalysis> task : tasks) {
+            analyses.add(task.isDone() ? task.join() : task.invoke());
+        }
+        return analyses;
+    }
+
+    private ComponentAnalysis analyzeComponent(AngularParser.ComponentDefinitionContext compCtx, Set<String> earlierGlobals)
+    {
+        Set<String> visibleGlobals = new HashSet<>(earlierGlobals);
+        visibleGlobals.addAll(configGlobalNames(compCtx));
+        AngularCompVisitor visitor = new AngularCompVisitor(this, visibleGlobals);
+        ComponentDefinition component = (ComponentDefinition) visitor.visit(compCtx);
+        return new ComponentAnalysis(component, visitor);
+    }
+
+    // The names visitComponentConfigObj and visitClassDecl declare globally for a component, read off its
+    // parse tree before the component is analyzed.
+    private static List<String> declaredGlobalNames(AngularParser.ComponentDefinitionContext ctx)
+    {
+        List<String> names = new ArrayList<>(configGlobalNames(ctx));
+        if (ctx instanceof AngularParser.ComponentDefContext def
+                && def.classDeclaration() instanceof AngularParser.ClassDeclContext classDecl && classDecl.IDENTIFIER() != null) {
+            names.add(classDecl.IDENTIFIER().getText());
+        }
+        return names;
+    }
+
+    private static List<String> configGlobalNames(AngularParser.ComponentDefinitionContext ctx)
+    {
+        if (!(ctx instanceof AngularParser.ComponentDefContext def)
+                || !(def.componentConfig() instanceof AngularParser.ComponentConfigObjContext config)) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (AngularParser.ComponentPropertyContext propCtx : config.componentProperty()) {
+            if (propCtx instanceof AngularParser.ImportsPropContext) {
+                names.add("Imports");
+            } else if (propCtx instanceof AngularParser.StandalonePropContext) {
+                names.add("Standalone");
+            } else if (propCtx instanceof AngularParser.StylesPropContext) {
+                names.add("Styles");
+            } else if (propCtx instanceof AngularParser.SelectorPropContext) {
+                names.add("Selector");
+            } else if (propCtx instanceof AngularParser.TemplatePropContext) {
+                names.add("Template");
+            }
+        }
+        return names;
+    }
+
+    private void merge(AngularCompVisitor component)
+    {
+        for (Scope scope : component.scopeManager.getDetachedScopes()) {
+            s.attachScope(scope);
+        }
+        for (SemanticError error : component.errorReporter.getErrors()) {
+            errorReporter.report(error);
+        }
+        templateSyntaxErrors.addAll(component.templateSyntaxErrors);
+        for (PendingGlobal global : component.pendingGlobals) {
+            mergeGlobal(global);
+        }
     }
 
     @Override
@@ -86,16 +306,6 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
             importedIdentifiers.add(item.getIdentifier());
         }
 
-        if (currentModule != null) {
-            List<String> importedModules = items.stream()
-                    .map(ImportItem::getIdentifier)
-                    .filter(id -> !id.equals(currentModule))
-                    .collect(Collectors.toList());
-
-            dependencyGraph.putIfAbsent(currentModule, new ArrayList<>());
-            dependencyGraph.get(currentModule).addAll(importedModules);
-        }
-
         return new ImportStatement(items, modulePath);
     }
 
@@ -144,27 +354,28 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
 
         List<ComponentProperty> properties = new ArrayList<>();
 
+        // Config entries are keyed by property name in the global scope; see mergeGlobal.
         for (AngularParser.ComponentPropertyContext propCtx : ctx.componentProperty()) {
 
             ComponentProperty property = (ComponentProperty) visit(propCtx);
             properties.add(property);
 
             if(property instanceof ImportsProperty && property != null) {
-                s.addVariable("Imports", "ImportsProperty",((ImportsProperty) property).getImports(), "Global");
+                declareGlobal("Imports", "ImportsProperty", ((ImportsProperty) property).getImports(), null);
             }
             if(property instanceof StandaloneProperty && property != null) {
-                s.addVariable("Standalone", "StandaloneProperty", ((StandaloneProperty) property).getValue(), "Global");
+                declareGlobal("Standalone", "StandaloneProperty", ((StandaloneProperty) property).getValue(), null);
             }
             if(property instanceof StylesProperty && property != null) {
-                s.addVariable("Styles", "StylesProperty", new StylesProperty(((StylesProperty) property).getStyles()), "Global");
+                declareGlobal("Styles", "StylesProperty", new StylesProperty(((StylesProperty) property).getStyles()), null);
             }
             if(property instanceof SelectorProperty && property != null) {
                 hasSelector = true;
-                s.addVariable("Selector", "SelectorProperty",((SelectorProperty) property).getValue(), "Global");
+                declareGlobal("Selector", "SelectorProperty", ((SelectorProperty) property).getValue(), null);
             }
             if(property instanceof TemplateProperty && property != null) {
                 hasTemplate = true;
-                s.addVariable("Template", "TemplateProperty", new TemplateProperty(((TemplateProperty) property).getTemplate()), "Global");
+                declareGlobal("Template", "TemplateProperty", new TemplateProperty(((TemplateProperty) property).getNodes()), null);
             }
         }
         int line = ctx.getStart().getLine();
@@ -205,9 +416,142 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitTemplateProp(AngularParser.TemplatePropContext ctx)
     {
-        String rawText = ctx.BACKTICK_LITERAL().getText();
-        String templateContent = rawText.substring(1, rawText.length() - 1);
-        return new TemplateProperty(templateContent);
+        return new TemplateProperty(templateNodes(ctx.templateHtml().templateNode()));
+    }
+
+    // Whitespace-only text only separates markup, as with Angular's default preserveWhitespaces: false,
+    // and is dropped unless it sits next to an interpolation.
+    private List<TemplateNode> templateNodes(List<AngularParser.TemplateNodeContext> contexts)
+    {
+        List<TemplateNode> nodes = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            AngularParser.TemplateNodeContext nodeCtx = contexts.get(i);
+            if (nodeCtx.htmlText() != null && nodeCtx.getText().isBlank()
+                    && !(i > 0 && contexts.get(i - 1).interpolation() != null)
+                    && !(i + 1 < contexts.size() && contexts.get(i + 1).interpolation() != null)) {
+                continue;
+            }
+            TemplateNode node = (TemplateNode) visit(nodeCtx);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    @Override
+    public Object visitElement(AngularParser.ElementContext ctx)
+    {
+        List<TemplateAttribute> attributes = new ArrayList<>();
+        List<TemplateBinding> bindings = new ArrayList<>();
+        for (AngularParser.AttributeContext attributeCtx : ctx.attribute()) {
+            Object attribute = visit(attributeCtx);
+            if (attribute instanceof TemplateBinding binding) {
+                bindings.add(binding);
+            } else if (attribute instanceof TemplateAttribute plain) {
+                attributes.add(plain);
+            }
+        }
+        TerminalNode name = ctx.HTML_NAME(0);
+        return new TemplateElement(name == null ? null : name.getText(), attributes, bindings,
+                templateNodes(ctx.templateNode()), ctx.HTML_SLASH_GT() != null);
+    }
+
+    @Override
+    public Object visitPlainAttribute(AngularParser.PlainAttributeContext ctx)
+    {
+        TerminalNode value = ctx.TPL_STRING();
+        return new TemplateAttribute(ctx.HTML_NAME().getText(), value == null ? null : unquote(value.getText()));
+    }
+
+    @Override
+    public Object visitBoundProperty(AngularParser.BoundPropertyContext ctx)
+    {
+        return binding(BindingKind.PROPERTY, ctx.HTML_NAME(), ctx.TPL_STRING());
+    }
+
+    @Override
+    public Object visitBoundEvent(AngularParser.BoundEventContext ctx)
+    {
+        return binding(BindingKind.EVENT, ctx.HTML_NAME(), ctx.TPL_STRING());
+    }
+
+    @Override
+    public Object visitTwoWayBinding(AngularParser.TwoWayBindingContext ctx)
+    {
+        return binding(BindingKind.TWO_WAY, ctx.HTML_NAME(), ctx.TPL_STRING());
+    }
+
+    @Override
+    public Object visitStructuralDirective(AngularParser.StructuralDirectiveContext ctx)
+    {
+        return binding(BindingKind.STRUCTURAL, ctx.HTML_NAME(), ctx.TPL_STRING());
+    }
+
+    private TemplateBinding binding(BindingKind kind, TerminalNode name, TerminalNode value)
+    {
+        if (value == null) {
+            return new TemplateBinding(kind, name == null ? null : name.getText(), null, SourceSpan.NONE, null);
+        }
+        Token token = value.getSymbol();
+        // The expression sits between the quotes.
+        String expression = unquote(token.getText());
+        BindingParser.Result parsed = switch (kind) {
+            case STRUCTURAL -> BindingParser.parseDirective(expression);
+            case EVENT -> BindingParser.parseAction(expression);
+            default -> BindingParser.parseExpression(expression);
+        };
+        reportBindingError(token, 1, parsed);
+        return new TemplateBinding(kind, name == null ? null : name.getText(), expression,
+                SourceSpan.of(token.getStartIndex() + 1, token.getStopIndex()), parsed.expression());
+    }
+
+    // Positions are those of the token, advanced to the error's offset within the expression.
+    private void reportBindingError(Token token, int expressionOffset, BindingParser.Result parsed)
+    {
+        if (parsed.isValid()) {
+            return;
+        }
+        String text = token.getText();
+        int line = token.getLine();
+        int column = token.getCharPositionInLine();
+        int end = Math.min(text.length(), expressionOffset + parsed.errorOffset());
+        for (int i = 0; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                line++;
+                column = 0;
+            } else if (!Character.isLowSurrogate(c)) {
+                column++;
+            }
+        }
+        templateSyntaxErrors.add(new TemplateSyntaxError(line, column, "template expression: " + parsed.errorMessage()));
+    }
+
+    private static String unquote(String quoted)
+    {
+        return quoted.substring(1, quoted.length() - 1);
+    }
+
+    @Override
+    public Object visitInterpolation(AngularParser.InterpolationContext ctx)
+    {
+        Token token = ctx.INTERPOLATION().getSymbol();
+        String inner = token.getText().substring(2, token.getText().length() - 2);
+        String expression = inner.trim();
+        int leading = inner.indexOf(expression);
+        BindingParser.Result parsed = BindingParser.parseExpression(expression);
+        reportBindingError(token, 2 + leading, parsed);
+        // Spans count code points, like token indexes.
+        int start = token.getStartIndex() + 2 + inner.codePointCount(0, leading);
+        return new Interpolation(expression, SourceSpan.of(start, start + expression.codePointCount(0, expression.length())),
+                parsed.expression());
+    }
+
+    @Override
+    public Object visitHtmlText(AngularParser.HtmlTextContext ctx)
+    {
+        return new TemplateText(ctx.getText());
     }
 
     @Override
@@ -235,9 +579,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitTemplateItem(AngularParser.TemplateItemContext ctx)
     {
-        String rawText = ctx.BACKTICK_LITERAL().getText();
-        String content = rawText.substring(1, rawText.length() - 1);
-        return content;
+        return ctx.cssOrTemplateItem().getText();
     }
 
     @Override
@@ -266,13 +608,10 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         boolean isExported = ctx.EXPORT() != null;
         String className = ctx.IDENTIFIER().getText();
 
-        currentModule = className;
-        dependencyGraph.putIfAbsent(currentModule, new ArrayList<>());
-
-        scopeManager.enterScope(className);
+        scopeManager.enterScope(className, ScopeKind.CLASS);
         ClassBody classBody = (ClassBody) visit(ctx.classBody());
         scopeManager.exitScope();
-        s.addVariable(className, "Class", " ", "Global");
+        declareGlobal(className, "Class", " ", ctx.IDENTIFIER().getSymbol());
         return new ClassDeclaration(isExported, className, classBody);
     }
 
@@ -289,26 +628,19 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
                 MethodDeclaration method = (MethodDeclaration) member;
                 String methodName = method.getMethodName();
 
-                if (s.getValue(methodName) != null) {
-                    SymbolTableInfo info = s.getSymbolInfo(methodName);
-                    if(info != null && info.getScope().equals(scopeManager.getCurrentScope())) {
-                        errorReporter.report(new DuplicateDeclarationError(methodName, line, column));
-                    }
-                } else {
-                    s.addVariable(methodName, "Method", null, scopeManager.getCurrentScope());
+                if (!s.addVariable(methodName, "Method", null, scopeManager.getCurrentScope())) {
+                    errorReporter.report(new DuplicateDeclarationError(methodName, line, column));
                 }
             } else if (member instanceof FieldDeclaration) {
                 FieldDeclaration field = (FieldDeclaration) member;
                 String fieldName = field.getName();
 
-                if (s.getValue(fieldName) != null) {
-                    errorReporter.report(new DuplicateDeclarationError(fieldName, line, column));
-                } else {
-                    String fieldType = (field.getType() != null && field.getType().getPrimaryType() instanceof IdentifierType)
-                            ? ((IdentifierType) field.getType().getPrimaryType()).getName()
-                            : "any";
+                String fieldType = (field.getType() != null && field.getType().getPrimaryType() instanceof IdentifierType)
+                        ? ((IdentifierType) field.getType().getPrimaryType()).getName()
+                        : "any";
 
-                    s.addVariable(fieldName, fieldType, field.getInitializer(), scopeManager.getCurrentScope());
+                if (!s.addVariable(fieldName, fieldType, field.getInitializer(), scopeManager.getCurrentScope())) {
+                    errorReporter.report(new DuplicateDeclarationError(fieldName, line, column));
                 }
             }
             members.add(member);
@@ -342,17 +674,6 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
             initializer = (Expression) visit(ctx.expression());
         }
 
-        if (currentModule != null && type != null) {
-            String fieldTypeName = extractTypeName(type);
-            if (fieldTypeName != null && fieldTypeName.equals(currentModule)) {
-                dependencyGraph.putIfAbsent(currentModule, new ArrayList<>());
-                List<String> deps = dependencyGraph.get(currentModule);
-                if (!deps.contains(fieldTypeName)) {
-                    deps.add(fieldTypeName);
-                }
-            }
-        }
-
         return new FieldDeclaration(name, type, initializer);
     }
 
@@ -360,7 +681,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     public Object visitMethodDecl(AngularParser.MethodDeclContext ctx)
     {
         String methodName = ctx.IDENTIFIER().getText();
-        scopeManager.enterScope(methodName);
+        scopeManager.enterScope(methodName, ScopeKind.METHOD);
 
         List<Parameter> parameters = new ArrayList<>();
         if (ctx.parameterList() != null) {
@@ -398,8 +719,9 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         if(type != null) {
             strType = extractTypeName(type);
         }
-        if (s.getValue(paramName) == null) {
-            s.addVariable(paramName, "Parameter", strType, scopeManager.getCurrentScope());
+        if (!s.addVariable(paramName, "Parameter", strType, scopeManager.getCurrentScope())) {
+            Token name = ctx.IDENTIFIER().getSymbol();
+            errorReporter.report(new DuplicateDeclarationError(paramName, name.getLine(), name.getCharPositionInLine()));
         }
 
         return new Parameter(paramName, type);
@@ -526,10 +848,8 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
             valueString = ctx.expression().getText();
         }
 
-        if (s.getValue(varName) != null) {
+        if (!s.addVariable(varName, typeString, valueString, scopeManager.getCurrentScope())) {
             errorReporter.report(new DuplicateDeclarationError(varName, line, column));
-        } else {
-            s.addVariable(varName, typeString, valueString, scopeManager.getCurrentScope());
         }
 
         return new VariableDeclarationStatement(varName, typeAnnotation, initializer);
@@ -557,14 +877,14 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     {
         Expression condition = (Expression) visit(ctx.expression());
 
-        scopeManager.enterScope("if");
+        scopeManager.enterScope("if", ScopeKind.BLOCK);
         BlockStatement thenBranch = (BlockStatement) visit(ctx.statement(0));
         scopeManager.exitScope();
 
         BlockStatement elseBranch = null;
 
         if (ctx.statement().size() > 1) {
-            scopeManager.enterScope("else");
+            scopeManager.enterScope("else", ScopeKind.BLOCK);
             elseBranch = (BlockStatement) visit(ctx.statement(1));
             scopeManager.exitScope();
         }
@@ -575,7 +895,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitForLoop(AngularParser.ForLoopContext ctx)
     {
-        scopeManager.enterScope("for");
+        scopeManager.enterScope("for", ScopeKind.BLOCK);
 
         Statement init = (Statement) visit(ctx.forInit());
 
@@ -611,7 +931,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitWhileLoop(AngularParser.WhileLoopContext ctx)
     {
-        scopeManager.enterScope("while");
+        scopeManager.enterScope("while", ScopeKind.BLOCK);
 
         Expression condition = (Expression) visit(ctx.expression());
         Statement body = (Statement) visit(ctx.statement());
@@ -665,7 +985,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         Expression result = left;
         for (int i = 1; i < ctx.logicalAndExpression().size(); i++) {
             Expression right = (Expression) visit(ctx.logicalAndExpression(i));
-            result = new BinaryExpression(result, "||", right);
+            result = binary(result, "||", right);
         }
 
         return result;
@@ -678,7 +998,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
 
         for (int i = 1; i < ctx.equalityExpression().size(); i++) {
             Expression right = (Expression) visit(ctx.equalityExpression(i));
-            left = new BinaryExpression(left, "&&", right);
+            left = binary(left, "&&", right);
         }
 
         return left;
@@ -692,7 +1012,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         for (int i = 1; i < ctx.relationalExpression().size(); i++) {
             String op = ctx.getChild(2 * i - 1).getText();
             Expression right = (Expression) visit(ctx.relationalExpression(i));
-            left = new BinaryExpression(left, op, right);
+            left = binary(left, op, right);
         }
 
         return left;
@@ -706,7 +1026,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         for (int i = 1; i < ctx.additiveExpression().size(); i++) {
             String op = ctx.getChild(2 * i - 1).getText(); // The operator is between expressions
             Expression right = (Expression) visit(ctx.additiveExpression(i));
-            left = new BinaryExpression(left, op, right); // Nested BinaryExpressions for chaining
+            left = binary(left, op, right); // Nested BinaryExpressions for chaining
         }
 
         return left;
@@ -720,7 +1040,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         for (int i = 1; i < ctx.multiplicativeExpression().size(); i++) {
             Expression right = (Expression) visit(ctx.multiplicativeExpression(i));
             String op = ctx.getChild(2 * i - 1).getText();
-            left = new BinaryExpression(left, op, right);
+            left = binary(left, op, right);
         }
 
         return left;
@@ -760,7 +1080,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
                 }
             }
 
-            left = new BinaryExpression(left, op, right);
+            left = binary(left, op, right);
         }
 
         return left;
@@ -822,7 +1142,8 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
 
     @Override
     public Object visitPropertyAccessing(AngularParser.PropertyAccessingContext ctx) {
-        String propertyName = ctx.IDENTIFIER().getText();
+        // The name is missing after error recovery; the syntax error has been reported already.
+        String propertyName = ctx.IDENTIFIER() == null ? null : ctx.IDENTIFIER().getText();
         return new PropertyAccess(propertyName);
     }
     @Override
@@ -856,22 +1177,22 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitIdentifierExpr(AngularParser.IdentifierExprContext ctx)
     {
-        String varName = ctx.IDENTIFIER().getText();
-        int line = ctx.IDENTIFIER().getSymbol().getLine();
-        int column = ctx.IDENTIFIER().getSymbol().getCharPositionInLine();
+        return identifierExpression(ctx.IDENTIFIER());
+    }
 
-        SymbolTableInfo obj = s.getSymbolInfo(varName);
-        if (obj == null) {
-            errorReporter.report(new UndeclaredVariableError(varName, line, column));
-        }
-        else if(!obj.getScope().equals(scopeManager.getCurrentScope())
-                && !obj.getScope().equals("Global")
-                && !obj.getType().equals("Method"))
-        {
+    private IdentifierExpression identifierExpression(TerminalNode identifier)
+    {
+        String varName = identifier.getText();
+        int line = identifier.getSymbol().getLine();
+        int column = identifier.getSymbol().getCharPositionInLine();
+
+        Scope currentScope = scopeManager.getCurrentScope();
+        SymbolTableInfo obj = s.tryLookup(varName, currentScope);
+        if (obj == null ? !pendingVisibleGlobals.contains(varName) : !isVisible(obj, currentScope)) {
             errorReporter.report(new UndeclaredVariableError(varName, line, column));
         }
 
-        return new IdentifierExpression(ctx.IDENTIFIER().getText());
+        return new IdentifierExpression(varName);
     }
 
     @Override
@@ -901,13 +1222,25 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
     @Override
     public Object visitArrayExpr(AngularParser.ArrayExprContext ctx)
     {
-        return visit(ctx.arrayLiteral());
+        // visitArrayLiteralExpr returns the plain strings and nodes the component config reads,
+        // so an array used as a value builds its element expressions from the items itself.
+        List<Expression> elements = new ArrayList<>();
+        for (AngularParser.ArrayItemContext itemCtx : ((AngularParser.ArrayLiteralExprContext) ctx.arrayLiteral()).arrayItem()) {
+            if (itemCtx instanceof AngularParser.IdentifierItemContext identifierItem) {
+                elements.add(identifierExpression(identifierItem.IDENTIFIER()));
+            } else if (itemCtx instanceof AngularParser.ObjectItemContext objectItem) {
+                elements.add((Expression) visit(objectItem.objectLiteral()));
+            } else {
+                elements.add(new StringLiteral((String) visit(itemCtx)));
+            }
+        }
+        return new ArrayExpression(elements);
     }
 
     @Override
     public Object visitNewCallExpr(AngularParser.NewCallExprContext ctx)
     {
-        QualifiedName qualifiedName = visitQualifiedNameExpr((AngularParser.QualifiedNameExprContext) ctx.qualifiedName());
+        QualifiedName qualifiedName = (QualifiedName) visit(ctx.qualifiedName());
 
         String className = qualifiedName.toString();
 
@@ -958,11 +1291,7 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
                 if (kvCtx instanceof AngularParser.KeyValuePairContext) {
                     AngularParser.KeyValuePairContext pairCtx = (AngularParser.KeyValuePairContext) kvCtx;
 
-                    String key = pairCtx.IDENTIFIER().getText();
-
-                    Expression value = (Expression) visit(pairCtx.expression());
-
-                    properties.add(new ObjectProperty(key, value));
+                    properties.add((ObjectProperty) visit(pairCtx));
                 }
             }
         }
@@ -985,12 +1314,6 @@ public class AngularCompVisitor extends AngularParserBaseVisitor
         return new StringLiteral(unquoted);
     }
 
-    @Override
-    public Object visitTemplateLiteral(AngularParser.TemplateLiteralContext ctx)
-    {
-        return new LiteralExpression(ctx.BACKTICK_LITERAL().getText());
-    }
-
     @Override
     public Object visitNumberLiteral(AngularParser.NumberLiteralContext ctx)
     {
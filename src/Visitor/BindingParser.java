@@ -0,0 +1,506 @@
+package Visitor;
+
+import AST.ASTNode;
+import AST.Expression.*;
+import AST.Properties.ObjectProperty;
+import AST.SourceSpan;
+import AST.Template.ForOfExpression;
+import AST.Template.IfExpression;
+import AST.Template.TemplateVariable;
+import AST.Types.BooleanLiteral;
+import AST.Types.StringLiteral;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Parses the expressions of template bindings and interpolations into Expression ASTs with a small
+ * recursive-descent parser instead of a second ANTLR pass. Results are cached per expression text and shared
+ * by every template and thread that uses the same text, so the returned trees must be treated as read-only;
+ * their spans count code points from the start of the expression text rather than from the start of the file.
+ * The language is the template subset of TypeScript expressions: literals, this, identifiers, member reads
+ * including ?., keyed reads, calls, array and object literals, unary ! and -, the binary operators of the
+ * component language plus ===, !== and ??, conditionals and assignment, with pipes binding loosest of all.
+ * Event handlers are ;-separated statements instead, which cannot use pipes.
+ */
+public final class BindingParser {
+    // The caches are emptied when they reach this size, which bounds them in long-running processes.
+    private static final int MAX_CACHED = 1 << 16;
+    private static final Map<String, Result> EXPRESSIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Result> REPEATERS = new ConcurrentHashMap<>();
+    private static final Map<String, Result> CONDITIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Result> ACTIONS = new ConcurrentHashMap<>();
+
+    private static final String[] OPERATORS = {
+            "===", "!==", "?.", "??", "==", "!=", "<=", ">=", "&&", "||", "|",
+            "+", "-", "*", "/", "%", "<", ">", "!", "?", ":", "=", ".", ",", ";", "(", ")", "[", "]", "{", "}"
+    };
+    // Binary operators from the loosest binding level to the tightest.
+    private static final String[][] PRECEDENCE = {
+            { "??" },
+            { "||" },
+            { "&&" },
+            { "==", "!=", "===", "!==" },
+            { "<", ">", "<=", ">=" },
+            { "+", "-" },
+            { "*", "/", "%" }
+    };
+
+    /**
+     * A parsed expression, or the char offset into the expression text and message of its first syntax error.
+     */
+    public record Result(Expression expression, int errorOffset, String errorMessage) {
+        public boolean isValid() {
+            return errorMessage == null;
+        }
+    }
+
+    private enum Kind { IDENTIFIER, NUMBER, STRING, OPERATOR, EOF }
+
+    private final String _source;
+    private final boolean _bmpOnly;
+    private int _position;
+    private Kind _kind;
+    private String _text;
+    private int _start;
+    private int _previousEnd;
+
+    private BindingParser(String source) {
+        _source = source;
+        _bmpOnly = source.codePoints().count() == source.length();
+    }
+
+    public static Result parseExpression(String source) {
+        return cached(EXPRESSIONS, source, text -> new BindingParser(text).run(BindingParser::expressionOnly));
+    }
+
+    /**
+     * Parses the handler of an event binding: one or more statements separated by ;.
+     */
+    public static Result parseAction(String source) {
+        return cached(ACTIONS, source, text -> new BindingParser(text).run(BindingParser::actions));
+    }
+
+    /**
+     * Parses the value of a structural directive: repeater microsyntax when it starts with let, else an expression
+     * that may be followed by the as, then and else clauses of *ngIf.
+     */
+    public static Result parseDirective(String source) {
+        String trimmed = source.stripLeading();
+        if (trimmed.length() > 3 && trimmed.startsWith("let") && Character.isWhitespace(trimmed.charAt(3))) {
+            return cached(REPEATERS, source, text -> new BindingParser(text).run(BindingParser::repeater));
+        }
+        return cached(CONDITIONS, source, text -> new BindingParser(text).run(BindingParser::condition));
+    }
+
+    private static Result cached(Map<String, Result> cache, String source, Function<String, Result> parse) {
+        Result result = cache.get(source);
+        if (result != null) {
+            return result;
+        }
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+        result = parse.apply(source);
+        // Parse outside the map's locks; when two threads race, both use the first stored result.
+        Result previous = cache.putIfAbsent(source, result);
+        return previous != null ? previous : result;
+    }
+
+    private Result run(Function<BindingParser, Expression> rule) {
+        try {
+            next();
+            return new Result(rule.apply(this), -1, null);
+        } catch (SyntaxException e) {
+            return new Result(null, e._offset, e.getMessage());
+        }
+    }
+
+    private Expression expressionOnly() {
+        Expression expression = pipe();
+        expect(Kind.EOF, null);
+        return expression;
+    }
+
+    // statement (; statement)* with an optional trailing ;, each statement an expression without pipes.
+    private Expression actions() {
+        int start = _start;
+        List<Expression> statements = new ArrayList<>();
+        do {
+            if (_kind == Kind.EOF) {
+                break;
+            }
+            statements.add(expression());
+            if (_kind == Kind.OPERATOR && _text.equals("|")) {
+                throw new SyntaxException(_start, "pipes are not allowed in event bindings");
+            }
+        } while (accept(";"));
+        expect(Kind.EOF, null);
+        return statements.size() == 1 ? statements.get(0) : span(new SequenceExpression(statements), start);
+    }
+
+    // let item of iterable (; let a = b | ; key as a | ; trackBy: fn)*
+    private Expression repeater() {
+        int start = _start;
+        expectKeyword("let");
+        String item = identifier();
+        expectKeyword("of");
+        Expression iterable = expression();
+        List<TemplateVariable> variables = new ArrayList<>();
+        Expression trackBy = null;
+        while (accept(";") || accept(",")) {
+            if (_kind == Kind.EOF) {
+                break;
+            }
+            int clauseStart = _start;
+            if (acceptKeyword("let")) {
+                String name = identifier();
+                expect(Kind.OPERATOR, "=");
+                variables.add(span(new TemplateVariable(name, identifier()), clauseStart));
+                continue;
+            }
+            String key = identifier();
+            if (acceptKeyword("as")) {
+                variables.add(span(new TemplateVariable(identifier(), key), clauseStart));
+            } else if (key.equals("trackBy")) {
+                accept(":");
+                trackBy = expression();
+            } else {
+                throw new SyntaxException(clauseStart, "unsupported directive option '" + key + "'");
+            }
+        }
+        expect(Kind.EOF, null);
+        return span(new ForOfExpression(item, iterable, variables, trackBy), start);
+    }
+
+    // condition (as alias)? (; then ref | ; else ref)*, a plain expression when there are no clauses.
+    private Expression condition() {
+        int start = _start;
+        Expression condition = pipe();
+        String alias = acceptKeyword("as") ? identifier() : null;
+        String thenReference = null;
+        String elseReference = null;
+        while (accept(";") || accept(",")) {
+            if (_kind == Kind.EOF) {
+                break;
+            }
+            int clauseStart = _start;
+            String key = identifier();
+            if (key.equals("then")) {
+                accept(":");
+                thenReference = identifier();
+            } else if (key.equals("else")) {
+                accept(":");
+                elseReference = identifier();
+            } else {
+                throw new SyntaxException(clauseStart, "unsupported directive option '" + key + "'");
+            }
+        }
+        expect(Kind.EOF, null);
+        if (alias == null && thenReference == null && elseReference == null) {
+            return condition;
+        }
+        return span(new IfExpression(condition, alias, thenReference, elseReference), start);
+    }
+
+    // input | name:argument:... , chained left to right; arguments are expressions without pipes.
+    private Expression pipe() {
+        int start = _start;
+        Expression input = expression();
+        while (accept("|")) {
+            String name = identifier();
+            List<Expression> arguments = new ArrayList<>();
+            while (accept(":")) {
+                arguments.add(expression());
+            }
+            input = span(new PipeExpression(input, name, arguments), start);
+        }
+        return input;
+    }
+
+    private Expression expression() {
+        int start = _start;
+        Expression target = conditional();
+        if (accept("=")) {
+            return span(new BinaryExpression(target, "=", expression()), start);
+        }
+        return target;
+    }
+
+    private Expression conditional() {
+        int start = _start;
+        Expression condition = binary(0);
+        if (accept("?")) {
+            Expression whenTrue = expression();
+            expect(Kind.OPERATOR, ":");
+            return span(new ConditionalExpression(condition, whenTrue, expression()), start);
+        }
+        return condition;
+    }
+
+    // Left-associative binary operators, one precedence level per call.
+    private Expression binary(int level) {
+        if (level == PRECEDENCE.length) {
+            return unary();
+        }
+        int start = _start;
+        Expression left = binary(level + 1);
+        String operator;
+        while ((operator = acceptAny(PRECEDENCE[level])) != null) {
+            left = span(new BinaryExpression(left, operator, binary(level + 1)), start);
+        }
+        return left;
+    }
+
+    private Expression unary() {
+        int start = _start;
+        if (accept("!")) {
+            return span(new UnaryExpression("!", unary()), start);
+        }
+        if (accept("-")) {
+            return span(new UnaryExpression("-", unary()), start);
+        }
+        return postfix();
+    }
+
+    private Expression postfix() {
+        int start = _start;
+        Expression base = primary();
+        List<Object> parts = new ArrayList<>();
+        while (true) {
+            int partStart = _start;
+            if (accept(".")) {
+                parts.add(span(new PropertyAccess(identifier()), partStart));
+            } else if (accept("?.")) {
+                parts.add(span(new SafePropertyAccess(identifier()), partStart));
+            } else if (accept("[")) {
+                Expression key = pipe();
+                expect(Kind.OPERATOR, "]");
+                parts.add(span(new KeyedAccess(key), partStart));
+            } else if (accept("(")) {
+                parts.add(span(new FunctionCallExpression(list(")")), partStart));
+            } else {
+                break;
+            }
+        }
+        return parts.isEmpty() ? base : span(new PostfixExpression(base, parts), start);
+    }
+
+    private Expression primary() {
+        int start = _start;
+        String text = _text;
+        switch (_kind) {
+            case NUMBER -> {
+                next();
+                return span(new LiteralExpression(text), start);
+            }
+            case STRING -> {
+                next();
+                return span(new StringLiteral(text.substring(1, text.length() - 1)), start);
+            }
+            case IDENTIFIER -> {
+                next();
+                return span(switch (text) {
+                    case "true" -> new BooleanLiteral(true);
+                    case "false" -> new BooleanLiteral(false);
+                    case "null", "undefined" -> new LiteralExpression(text);
+                    case "this" -> new ThisExpression();
+                    default -> new IdentifierExpression(text);
+                }, start);
+            }
+            case OPERATOR -> {
+                if (accept("(")) {
+                    Expression grouped = pipe();
+                    expect(Kind.OPERATOR, ")");
+                    return grouped;
+                }
+                if (accept("[")) {
+                    return span(new ArrayExpression(list("]")), start);
+                }
+                if (accept("{")) {
+                    List<ObjectProperty> properties = new ArrayList<>();
+                    if (!accept("}")) {
+                        do {
+                            int propertyStart = _start;
+                            String key = _kind == Kind.STRING ? unquote(stringLiteral()) : identifier();
+                            expect(Kind.OPERATOR, ":");
+                            properties.add(span(new ObjectProperty(key, expression()), propertyStart));
+                        } while (accept(","));
+                        expect(Kind.OPERATOR, "}");
+                    }
+                    return span(new ObjectExpression(properties), start);
+                }
+                throw unexpected();
+            }
+            default -> throw unexpected();
+        }
+    }
+
+    private List<Expression> list(String close) {
+        List<Expression> items = new ArrayList<>();
+        if (accept(close)) {
+            return items;
+        }
+        do {
+            items.add(pipe());
+        } while (accept(","));
+        expect(Kind.OPERATOR, close);
+        return items;
+    }
+
+    private String identifier() {
+        String text = _text;
+        expect(Kind.IDENTIFIER, null);
+        return text;
+    }
+
+    private String stringLiteral() {
+        String text = _text;
+        expect(Kind.STRING, null);
+        return text;
+    }
+
+    private static String unquote(String quoted) {
+        return quoted.substring(1, quoted.length() - 1);
+    }
+
+    private boolean accept(String operator) {
+        if (_kind == Kind.OPERATOR && _text.equals(operator)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private String acceptAny(String[] operators) {
+        if (_kind != Kind.OPERATOR) {
+            return null;
+        }
+        for (String operator : operators) {
+            if (_text.equals(operator)) {
+                next();
+                return operator;
+            }
+        }
+        return null;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (_kind == Kind.IDENTIFIER && _text.equals(keyword)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw new SyntaxException(_start, "expected '" + keyword + "' but found " + describe());
+        }
+    }
+
+    private void expect(Kind kind, String text) {
+        if (_kind != kind || (text != null && !_text.equals(text))) {
+            String expected = text != null ? "'" + text + "'" : kind == Kind.EOF ? "end of expression" : kind.name().toLowerCase();
+            throw new SyntaxException(_start, "expected " + expected + " but found " + describe());
+        }
+        next();
+    }
+
+    private SyntaxException unexpected() {
+        return new SyntaxException(_start, "unexpected " + describe());
+    }
+
+    private String describe() {
+        return _kind == Kind.EOF ? "end of expression" : "'" + _text + "'";
+    }
+
+    private <T extends ASTNode> T span(T node, int start) {
+        node.setSpan(SourceSpan.of(codePoints(start), codePoints(_previousEnd)));
+        return node;
+    }
+
+    private int codePoints(int offset) {
+        return _bmpOnly ? offset : _source.codePointCount(0, offset);
+    }
+
+    private void next() {
+        _previousEnd = _kind == null ? 0 : _position;
+        int length = _source.length();
+        while (_position < length && Character.isWhitespace(_source.charAt(_position))) {
+            _position++;
+        }
+        _start = _position;
+        if (_position >= length) {
+            _kind = Kind.EOF;
+            _text = "";
+            return;
+        }
+
+        char c = _source.charAt(_position);
+        if (Character.isLetter(c) || c == '_' || c == '$') {
+            do {
+                _position++;
+            } while (_position < length && (Character.isLetterOrDigit(_source.charAt(_position))
+                    || _source.charAt(_position) == '_' || _source.charAt(_position) == '$'));
+            token(Kind.IDENTIFIER);
+        } else if ((c >= '0' && c <= '9') || (c == '.' && isDigit(_position + 1))) {
+            digits();
+            if (_position + 1 < length && _source.charAt(_position) == '.' && isDigit(_position + 1)) {
+                _position++;
+                digits();
+            }
+            token(Kind.NUMBER);
+        } else if (c == '\'' || c == '"') {
+            _position++;
+            while (_position < length && _source.charAt(_position) != c) {
+                _position += _source.charAt(_position) == '\\' ? 2 : 1;
+            }
+            if (_position >= length) {
+                throw new SyntaxException(_start, "unterminated string");
+            }
+            _position++;
+            token(Kind.STRING);
+        } else {
+            for (String operator : OPERATORS) {
+                // ?. followed by a digit is a conditional over a number, as in a ?.5 : 1.
+                if (_source.startsWith(operator, _position)
+                        && !(operator.equals("?.") && isDigit(_position + 2))) {
+                    _position += operator.length();
+                    token(Kind.OPERATOR);
+                    return;
+                }
+            }
+            throw new SyntaxException(_start, "unexpected character '" + c + "'");
+        }
+    }
+
+    private void token(Kind kind) {
+        _kind = kind;
+        _text = _source.substring(_start, _position);
+    }
+
+    private void digits() {
+        while (isDigit(_position)) {
+            _position++;
+        }
+    }
+
+    private boolean isDigit(int offset) {
+        return offset < _source.length() && _source.charAt(offset) >= '0' && _source.charAt(offset) <= '9';
+    }
+
+    private static class SyntaxException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int _offset;
+
+        SyntaxException(int offset, String message) {
+            super(message, null, false, false);
+            _offset = offset;
+        }
+    }
+}
@@ -73,37 +73,20 @@ BACKTICK_CLOSE
     : '`' -> popMode
     ;
 
-// HTML tokens
-HTML_END_LT   : '</' ;
-HTML_LT       : '<' ;
-HTML_GT       : '>' ;
-HTML_SLASH_GT : '/>' ;
-HTML_SLASH    : '/' ;
-HTML_EQ       : '=' ;
+HTML_COMMENT
+    : '<!--' .*? '-->' -> skip
+    ;
 
-// attribute/binding delimiters
-ATTR_LBRACK   : '[' ;
-ATTR_RBRACK   : ']' ;
-ATTR_LPAREN   : '(' ;
-ATTR_RPAREN   : ')' ;
-ATTR_STAR     : '*' ;
+// a tag switches to TAG_MODE until its closing '>' or '/>'
+HTML_END_LT   : '</' -> pushMode(TAG_MODE) ;
+HTML_LT       : '<' -> pushMode(TAG_MODE) ;
 
 // interpolation token contains entire {{ ... }} (parser treats as token)
 INTERPOLATION
     : '{{' ( options {greedy=false;} : . )*? '}}'
     ;
 
-// quoted attribute value fragments inside template
-TPL_STRING
-    : '"' ( options {greedy=false;} : . )*? '"'
-    | '\'' ( options {greedy=false;} : . )*? '\''
-    ;
-
-// HTML names and text
-HTML_NAME
-    : [a-zA-Z_:][a-zA-Z0-9_:\-]*
-    ;
-
+// text between tags
 HTML_TEXT
     : ( ~[<`{] )+
     ;
@@ -121,3 +104,42 @@ CSS_TEXT     : ( ~[`{}:;<>] )+ ;
 TPL_OTHER
     : .
     ;
+
+// TAG_MODE: element names and attributes between '<' and '>'
+mode TAG_MODE;
+
+HTML_GT       : '>' -> popMode ;
+HTML_SLASH_GT : '/>' -> popMode ;
+HTML_SLASH    : '/' ;
+HTML_EQ       : '=' ;
+
+// attribute/binding delimiters
+ATTR_LBRACK   : '[' ;
+ATTR_RBRACK   : ']' ;
+ATTR_LPAREN   : '(' ;
+ATTR_RPAREN   : ')' ;
+ATTR_STAR     : '*' ;
+
+// quoted attribute values
+TPL_STRING
+    : '"' ( options {greedy=false;} : . )*? '"'
+    | '\'' ( options {greedy=false;} : . )*? '\''
+    ;
+
+// element and attribute names, including dotted binding targets such as class.active
+HTML_NAME
+    : [a-zA-Z_:][a-zA-Z0-9_:.\-]*
+    ;
+
+TAG_WS
+    : [ \t\r\n]+ -> skip
+    ;
+
+// an unterminated tag still ends the template
+TAG_BACKTICK_CLOSE
+    : '`' -> type(BACKTICK_CLOSE), popMode, popMode
+    ;
+
+TAG_OTHER
+    : . -> type(TPL_OTHER)
+    ;
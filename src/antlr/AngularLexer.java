@@ -25,19 +25,20 @@ public class AngularLexer extends Lexer {
 		EQUALS=37, INCREMENT=38, ARROW=39, QUESTION=40, PLUS=41, MINUS=42, MULT=43, 
 		DIV=44, MOD=45, LT=46, GT=47, LE=48, GE=49, EQ=50, NEQ=51, AND=52, OR=53, 
 		NOT=54, NUMBER=55, STRING_LITERAL=56, BACKTICK_OPEN=57, WS=58, COMMENT=59, 
-		MULTILINE_COMMENT=60, IDENTIFIER=61, BACKTICK_CLOSE=62, HTML_END_LT=63, 
-		HTML_LT=64, HTML_GT=65, HTML_SLASH_GT=66, HTML_SLASH=67, HTML_EQ=68, ATTR_LBRACK=69, 
-		ATTR_RBRACK=70, ATTR_LPAREN=71, ATTR_RPAREN=72, ATTR_STAR=73, INTERPOLATION=74, 
-		TPL_STRING=75, HTML_NAME=76, HTML_TEXT=77, CSS_LBRACE=78, CSS_RBRACE=79, 
-		CSS_COLON=80, CSS_SEMI=81, CSS_COMMA=82, CSS_IDENT=83, CSS_TEXT=84, TPL_OTHER=85;
+		MULTILINE_COMMENT=60, IDENTIFIER=61, BACKTICK_CLOSE=62, HTML_COMMENT=63, 
+		HTML_END_LT=64, HTML_LT=65, INTERPOLATION=66, HTML_TEXT=67, CSS_LBRACE=68, 
+		CSS_RBRACE=69, CSS_COLON=70, CSS_SEMI=71, CSS_COMMA=72, CSS_IDENT=73, 
+		CSS_TEXT=74, TPL_OTHER=75, HTML_GT=76, HTML_SLASH_GT=77, HTML_SLASH=78, 
+		HTML_EQ=79, ATTR_LBRACK=80, ATTR_RBRACK=81, ATTR_LPAREN=82, ATTR_RPAREN=83, 
+		ATTR_STAR=84, TPL_STRING=85, HTML_NAME=86, TAG_WS=87;
 	public static final int
-		TEMPLATE_MODE=1;
+		TEMPLATE_MODE=1, TAG_MODE=2;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
 
 	public static String[] modeNames = {
-		"DEFAULT_MODE", "TEMPLATE_MODE"
+		"DEFAULT_MODE", "TEMPLATE_MODE", "TAG_MODE"
 	};
 
 	private static String[] makeRuleNames() {
@@ -50,11 +51,12 @@ public class AngularLexer extends Lexer {
 			"ARROW", "QUESTION", "PLUS", "MINUS", "MULT", "DIV", "MOD", "LT", "GT", 
 			"LE", "GE", "EQ", "NEQ", "AND", "OR", "NOT", "NUMBER", "STRING_LITERAL", 
 			"BACKTICK_OPEN", "WS", "COMMENT", "MULTILINE_COMMENT", "IDENTIFIER", 
-			"BACKTICK_CLOSE", "HTML_END_LT", "HTML_LT", "HTML_GT", "HTML_SLASH_GT", 
-			"HTML_SLASH", "HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", 
-			"ATTR_RPAREN", "ATTR_STAR", "INTERPOLATION", "TPL_STRING", "HTML_NAME", 
+			"BACKTICK_CLOSE", "HTML_COMMENT", "HTML_END_LT", "HTML_LT", "INTERPOLATION", 
 			"HTML_TEXT", "CSS_LBRACE", "CSS_RBRACE", "CSS_COLON", "CSS_SEMI", "CSS_COMMA", 
-			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER"
+			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER", "HTML_GT", "HTML_SLASH_GT", "HTML_SLASH", 
+			"HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", "ATTR_RPAREN", 
+			"ATTR_STAR", "TPL_STRING", "HTML_NAME", "TAG_WS", "TAG_BACKTICK_CLOSE", 
+			"TAG_OTHER"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -68,7 +70,8 @@ public class AngularLexer extends Lexer {
 			null, null, null, null, "'.'", "'#'", "'\"'", "'''", null, "'++'", "'=>'", 
 			"'?'", "'+'", "'-'", null, null, "'%'", null, null, "'<='", "'>='", "'=='", 
 			"'!='", "'&&'", "'||'", "'!'", null, null, null, null, null, null, null, 
-			null, "'</'", null, null, "'/>'"
+			null, null, "'</'", null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'/>'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -82,11 +85,11 @@ public class AngularLexer extends Lexer {
 			"INCREMENT", "ARROW", "QUESTION", "PLUS", "MINUS", "MULT", "DIV", "MOD", 
 			"LT", "GT", "LE", "GE", "EQ", "NEQ", "AND", "OR", "NOT", "NUMBER", "STRING_LITERAL", 
 			"BACKTICK_OPEN", "WS", "COMMENT", "MULTILINE_COMMENT", "IDENTIFIER", 
-			"BACKTICK_CLOSE", "HTML_END_LT", "HTML_LT", "HTML_GT", "HTML_SLASH_GT", 
-			"HTML_SLASH", "HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", 
-			"ATTR_RPAREN", "ATTR_STAR", "INTERPOLATION", "TPL_STRING", "HTML_NAME", 
+			"BACKTICK_CLOSE", "HTML_COMMENT", "HTML_END_LT", "HTML_LT", "INTERPOLATION", 
 			"HTML_TEXT", "CSS_LBRACE", "CSS_RBRACE", "CSS_COLON", "CSS_SEMI", "CSS_COMMA", 
-			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER"
+			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER", "HTML_GT", "HTML_SLASH_GT", "HTML_SLASH", 
+			"HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", "ATTR_RPAREN", 
+			"ATTR_STAR", "TPL_STRING", "HTML_NAME", "TAG_WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -148,353 +151,385 @@ public class AngularLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000U\u0233\u0006\uffff\uffff\u0006\uffff\uffff\u0002\u0000\u0007"+
-		"\u0000\u0002\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007"+
-		"\u0003\u0002\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007"+
-		"\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n"+
-		"\u0007\n\u0002\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002"+
-		"\u000e\u0007\u000e\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002"+
-		"\u0011\u0007\u0011\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002"+
-		"\u0014\u0007\u0014\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002"+
-		"\u0017\u0007\u0017\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002"+
-		"\u001a\u0007\u001a\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002"+
-		"\u001d\u0007\u001d\u0002\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002"+
-		" \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002"+
-		"%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002"+
-		"*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002"+
-		"/\u0007/\u00020\u00070\u00021\u00071\u00022\u00072\u00023\u00073\u0002"+
-		"4\u00074\u00025\u00075\u00026\u00076\u00027\u00077\u00028\u00078\u0002"+
-		"9\u00079\u0002:\u0007:\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002"+
-		">\u0007>\u0002?\u0007?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002"+
-		"C\u0007C\u0002D\u0007D\u0002E\u0007E\u0002F\u0007F\u0002G\u0007G\u0002"+
-		"H\u0007H\u0002I\u0007I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002"+
-		"M\u0007M\u0002N\u0007N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002"+
-		"R\u0007R\u0002S\u0007S\u0002T\u0007T\u0001\u0000\u0001\u0000\u0001\u0000"+
-		"\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
-		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
-		"\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001"+
-		"\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b"+
-		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001\r\u0001"+
-		"\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
-		"\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001b\u0001"+
-		"\u001b\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e\u0001"+
-		"\u001e\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001\"\u0001"+
-		"\"\u0001#\u0001#\u0001$\u0001$\u0001%\u0001%\u0001%\u0001&\u0001&\u0001"+
-		"&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001+\u0001"+
-		"+\u0001,\u0001,\u0001-\u0001-\u0001.\u0001.\u0001/\u0001/\u0001/\u0001"+
-		"0\u00010\u00010\u00011\u00011\u00011\u00012\u00012\u00012\u00013\u0001"+
-		"3\u00013\u00014\u00014\u00014\u00015\u00015\u00016\u00046\u0189\b6\u000b"+
-		"6\f6\u018a\u00016\u00016\u00046\u018f\b6\u000b6\f6\u0190\u00036\u0193"+
-		"\b6\u00017\u00017\u00017\u00017\u00057\u0199\b7\n7\f7\u019c\t7\u00017"+
-		"\u00017\u00017\u00017\u00017\u00057\u01a3\b7\n7\f7\u01a6\t7\u00017\u0003"+
-		"7\u01a9\b7\u00018\u00018\u00018\u00018\u00019\u00049\u01b0\b9\u000b9\f"+
-		"9\u01b1\u00019\u00019\u0001:\u0001:\u0001:\u0001:\u0005:\u01ba\b:\n:\f"+
-		":\u01bd\t:\u0001:\u0001:\u0001;\u0001;\u0001;\u0001;\u0005;\u01c5\b;\n"+
-		";\f;\u01c8\t;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001<\u0001<\u0005<"+
-		"\u01d1\b<\n<\f<\u01d4\t<\u0001=\u0001=\u0001=\u0001=\u0001>\u0001>\u0001"+
-		">\u0001?\u0001?\u0001@\u0001@\u0001A\u0001A\u0001A\u0001B\u0001B\u0001"+
+		"\u0004\u0000W\u0266\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
+		"\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002\u0007\u0002"+
+		"\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005\u0007\u0005"+
+		"\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002\b\u0007\b\u0002"+
+		"\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002\f\u0007\f\u0002"+
+		"\r\u0007\r\u0002\u000e\u0007\u000e\u0002\u000f\u0007\u000f\u0002\u0010"+
+		"\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012\u0002\u0013"+
+		"\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015\u0002\u0016"+
+		"\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018\u0002\u0019"+
+		"\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007\u001b\u0002\u001c"+
+		"\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e\u0002\u001f"+
+		"\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002#\u0007"+
+		"#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002(\u0007"+
+		"(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002-\u0007"+
+		"-\u0002.\u0007.\u0002/\u0007/\u00020\u00070\u00021\u00071\u00022\u0007"+
+		"2\u00023\u00073\u00024\u00074\u00025\u00075\u00026\u00076\u00027\u0007"+
+		"7\u00028\u00078\u00029\u00079\u0002:\u0007:\u0002;\u0007;\u0002<\u0007"+
+		"<\u0002=\u0007=\u0002>\u0007>\u0002?\u0007?\u0002@\u0007@\u0002A\u0007"+
+		"A\u0002B\u0007B\u0002C\u0007C\u0002D\u0007D\u0002E\u0007E\u0002F\u0007"+
+		"F\u0002G\u0007G\u0002H\u0007H\u0002I\u0007I\u0002J\u0007J\u0002K\u0007"+
+		"K\u0002L\u0007L\u0002M\u0007M\u0002N\u0007N\u0002O\u0007O\u0002P\u0007"+
+		"P\u0002Q\u0007Q\u0002R\u0007R\u0002S\u0007S\u0002T\u0007T\u0002U\u0007"+
+		"U\u0002V\u0007V\u0002W\u0007W\u0002X\u0007X\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
+		"\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001\r"+
+		"\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018"+
+		"\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001b"+
+		"\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e"+
+		"\u0001\u001e\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001"+
+		"\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001%\u0001%\u0001%\u0001&\u0001"+
+		"&\u0001&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001"+
+		"+\u0001+\u0001,\u0001,\u0001-\u0001-\u0001.\u0001.\u0001/\u0001/\u0001"+
+		"/\u00010\u00010\u00010\u00011\u00011\u00011\u00012\u00012\u00012\u0001"+
+		"3\u00013\u00013\u00014\u00014\u00014\u00015\u00015\u00016\u00046\u0192"+
+		"\b6\u000b6\f6\u0193\u00016\u00016\u00046\u0198\b6\u000b6\f6\u0199\u0003"+
+		"6\u019c\b6\u00017\u00017\u00017\u00017\u00057\u01a2\b7\n7\f7\u01a5\t7"+
+		"\u00017\u00017\u00017\u00017\u00017\u00057\u01ac\b7\n7\f7\u01af\t7\u0001"+
+		"7\u00037\u01b2\b7\u00018\u00018\u00018\u00018\u00019\u00049\u01b9\b9\u000b"+
+		"9\f9\u01ba\u00019\u00019\u0001:\u0001:\u0001:\u0001:\u0005:\u01c3\b:\n"+
+		":\f:\u01c6\t:\u0001:\u0001:\u0001;\u0001;\u0001;\u0001;\u0005;\u01ce\b"+
+		";\n;\f;\u01d1\t;\u0001;\u0001;\u0001;\u0001;\u0001;\u0001<\u0001<\u0005"+
+		"<\u01da\b<\n<\f<\u01dd\t<\u0001=\u0001=\u0001=\u0001=\u0001>\u0001>\u0001"+
+		">\u0001>\u0001>\u0001>\u0005>\u01e9\b>\n>\f>\u01ec\t>\u0001>\u0001>\u0001"+
+		">\u0001>\u0001>\u0001>\u0001?\u0001?\u0001?\u0001?\u0001?\u0001@\u0001"+
+		"@\u0001@\u0001@\u0001A\u0001A\u0001A\u0001A\u0005A\u0201\bA\nA\fA\u0204"+
+		"\tA\u0001A\u0001A\u0001A\u0001B\u0004B\u020a\bB\u000bB\fB\u020b\u0001"+
 		"C\u0001C\u0001D\u0001D\u0001E\u0001E\u0001F\u0001F\u0001G\u0001G\u0001"+
-		"H\u0001H\u0001I\u0001I\u0001I\u0001I\u0005I\u01f6\bI\nI\fI\u01f9\tI\u0001"+
-		"I\u0001I\u0001I\u0001J\u0001J\u0005J\u0200\bJ\nJ\fJ\u0203\tJ\u0001J\u0001"+
-		"J\u0001J\u0005J\u0208\bJ\nJ\fJ\u020b\tJ\u0001J\u0003J\u020e\bJ\u0001K"+
-		"\u0001K\u0005K\u0212\bK\nK\fK\u0215\tK\u0001L\u0004L\u0218\bL\u000bL\f"+
-		"L\u0219\u0001M\u0001M\u0001N\u0001N\u0001O\u0001O\u0001P\u0001P\u0001"+
-		"Q\u0001Q\u0001R\u0001R\u0005R\u0228\bR\nR\fR\u022b\tR\u0001S\u0004S\u022e"+
-		"\bS\u000bS\fS\u022f\u0001T\u0001T\u0004\u01c6\u01f7\u0201\u0209\u0000"+
-		"U\u0002\u0001\u0004\u0002\u0006\u0003\b\u0004\n\u0005\f\u0006\u000e\u0007"+
-		"\u0010\b\u0012\t\u0014\n\u0016\u000b\u0018\f\u001a\r\u001c\u000e\u001e"+
-		"\u000f \u0010\"\u0011$\u0012&\u0013(\u0014*\u0015,\u0016.\u00170\u0018"+
-		"2\u00194\u001a6\u001b8\u001c:\u001d<\u001e>\u001f@ B!D\"F#H$J%L&N\'P("+
-		"R)T*V+X,Z-\\.^/`0b1d2f3h4j5l6n7p8r9t:v;x<z=|>~?\u0080@\u0082A\u0084B\u0086"+
-		"C\u0088D\u008aE\u008cF\u008eG\u0090H\u0092I\u0094J\u0096K\u0098L\u009a"+
-		"M\u009cN\u009eO\u00a0P\u00a2Q\u00a4R\u00a6S\u00a8T\u00aaU\u0002\u0000"+
-		"\u0001\f\u0001\u000009\u0001\u0000\'\'\u0001\u0000\"\"\u0003\u0000\t\n"+
-		"\r\r  \u0002\u0000\n\n\r\r\u0003\u0000AZ__az\u0004\u000009AZ__az\u0004"+
-		"\u0000::AZ__az\u0005\u0000--0:AZ__az\u0003\u0000<<``{{\u0005\u0000--0"+
-		"9AZ__az\u0005\u0000:<>>``{{}}\u0245\u0000\u0002\u0001\u0000\u0000\u0000"+
-		"\u0000\u0004\u0001\u0000\u0000\u0000\u0000\u0006\u0001\u0000\u0000\u0000"+
-		"\u0000\b\u0001\u0000\u0000\u0000\u0000\n\u0001\u0000\u0000\u0000\u0000"+
-		"\f\u0001\u0000\u0000\u0000\u0000\u000e\u0001\u0000\u0000\u0000\u0000\u0010"+
-		"\u0001\u0000\u0000\u0000\u0000\u0012\u0001\u0000\u0000\u0000\u0000\u0014"+
-		"\u0001\u0000\u0000\u0000\u0000\u0016\u0001\u0000\u0000\u0000\u0000\u0018"+
-		"\u0001\u0000\u0000\u0000\u0000\u001a\u0001\u0000\u0000\u0000\u0000\u001c"+
-		"\u0001\u0000\u0000\u0000\u0000\u001e\u0001\u0000\u0000\u0000\u0000 \u0001"+
-		"\u0000\u0000\u0000\u0000\"\u0001\u0000\u0000\u0000\u0000$\u0001\u0000"+
-		"\u0000\u0000\u0000&\u0001\u0000\u0000\u0000\u0000(\u0001\u0000\u0000\u0000"+
-		"\u0000*\u0001\u0000\u0000\u0000\u0000,\u0001\u0000\u0000\u0000\u0000."+
-		"\u0001\u0000\u0000\u0000\u00000\u0001\u0000\u0000\u0000\u00002\u0001\u0000"+
-		"\u0000\u0000\u00004\u0001\u0000\u0000\u0000\u00006\u0001\u0000\u0000\u0000"+
-		"\u00008\u0001\u0000\u0000\u0000\u0000:\u0001\u0000\u0000\u0000\u0000<"+
-		"\u0001\u0000\u0000\u0000\u0000>\u0001\u0000\u0000\u0000\u0000@\u0001\u0000"+
-		"\u0000\u0000\u0000B\u0001\u0000\u0000\u0000\u0000D\u0001\u0000\u0000\u0000"+
-		"\u0000F\u0001\u0000\u0000\u0000\u0000H\u0001\u0000\u0000\u0000\u0000J"+
-		"\u0001\u0000\u0000\u0000\u0000L\u0001\u0000\u0000\u0000\u0000N\u0001\u0000"+
-		"\u0000\u0000\u0000P\u0001\u0000\u0000\u0000\u0000R\u0001\u0000\u0000\u0000"+
-		"\u0000T\u0001\u0000\u0000\u0000\u0000V\u0001\u0000\u0000\u0000\u0000X"+
-		"\u0001\u0000\u0000\u0000\u0000Z\u0001\u0000\u0000\u0000\u0000\\\u0001"+
-		"\u0000\u0000\u0000\u0000^\u0001\u0000\u0000\u0000\u0000`\u0001\u0000\u0000"+
-		"\u0000\u0000b\u0001\u0000\u0000\u0000\u0000d\u0001\u0000\u0000\u0000\u0000"+
-		"f\u0001\u0000\u0000\u0000\u0000h\u0001\u0000\u0000\u0000\u0000j\u0001"+
-		"\u0000\u0000\u0000\u0000l\u0001\u0000\u0000\u0000\u0000n\u0001\u0000\u0000"+
-		"\u0000\u0000p\u0001\u0000\u0000\u0000\u0000r\u0001\u0000\u0000\u0000\u0000"+
-		"t\u0001\u0000\u0000\u0000\u0000v\u0001\u0000\u0000\u0000\u0000x\u0001"+
-		"\u0000\u0000\u0000\u0000z\u0001\u0000\u0000\u0000\u0001|\u0001\u0000\u0000"+
-		"\u0000\u0001~\u0001\u0000\u0000\u0000\u0001\u0080\u0001\u0000\u0000\u0000"+
-		"\u0001\u0082\u0001\u0000\u0000\u0000\u0001\u0084\u0001\u0000\u0000\u0000"+
-		"\u0001\u0086\u0001\u0000\u0000\u0000\u0001\u0088\u0001\u0000\u0000\u0000"+
-		"\u0001\u008a\u0001\u0000\u0000\u0000\u0001\u008c\u0001\u0000\u0000\u0000"+
-		"\u0001\u008e\u0001\u0000\u0000\u0000\u0001\u0090\u0001\u0000\u0000\u0000"+
-		"\u0001\u0092\u0001\u0000\u0000\u0000\u0001\u0094\u0001\u0000\u0000\u0000"+
-		"\u0001\u0096\u0001\u0000\u0000\u0000\u0001\u0098\u0001\u0000\u0000\u0000"+
-		"\u0001\u009a\u0001\u0000\u0000\u0000\u0001\u009c\u0001\u0000\u0000\u0000"+
-		"\u0001\u009e\u0001\u0000\u0000\u0000\u0001\u00a0\u0001\u0000\u0000\u0000"+
-		"\u0001\u00a2\u0001\u0000\u0000\u0000\u0001\u00a4\u0001\u0000\u0000\u0000"+
-		"\u0001\u00a6\u0001\u0000\u0000\u0000\u0001\u00a8\u0001\u0000\u0000\u0000"+
-		"\u0001\u00aa\u0001\u0000\u0000\u0000\u0002\u00ac\u0001\u0000\u0000\u0000"+
-		"\u0004\u00b3\u0001\u0000\u0000\u0000\u0006\u00b8\u0001\u0000\u0000\u0000"+
-		"\b\u00bc\u0001\u0000\u0000\u0000\n\u00c7\u0001\u0000\u0000\u0000\f\u00d0"+
-		"\u0001\u0000\u0000\u0000\u000e\u00db\u0001\u0000\u0000\u0000\u0010\u00e0"+
-		"\u0001\u0000\u0000\u0000\u0012\u00e6\u0001\u0000\u0000\u0000\u0014\u00ee"+
-		"\u0001\u0000\u0000\u0000\u0016\u00f5\u0001\u0000\u0000\u0000\u0018\u00fe"+
-		"\u0001\u0000\u0000\u0000\u001a\u0105\u0001\u0000\u0000\u0000\u001c\u010b"+
-		"\u0001\u0000\u0000\u0000\u001e\u0110\u0001\u0000\u0000\u0000 \u0114\u0001"+
-		"\u0000\u0000\u0000\"\u011b\u0001\u0000\u0000\u0000$\u0121\u0001\u0000"+
-		"\u0000\u0000&\u0124\u0001\u0000\u0000\u0000(\u0129\u0001\u0000\u0000\u0000"+
-		"*\u012d\u0001\u0000\u0000\u0000,\u0133\u0001\u0000\u0000\u0000.\u0137"+
-		"\u0001\u0000\u0000\u00000\u0141\u0001\u0000\u0000\u00002\u0143\u0001\u0000"+
-		"\u0000\u00004\u0145\u0001\u0000\u0000\u00006\u0147\u0001\u0000\u0000\u0000"+
-		"8\u0149\u0001\u0000\u0000\u0000:\u014b\u0001\u0000\u0000\u0000<\u014d"+
-		"\u0001\u0000\u0000\u0000>\u014f\u0001\u0000\u0000\u0000@\u0151\u0001\u0000"+
-		"\u0000\u0000B\u0153\u0001\u0000\u0000\u0000D\u0155\u0001\u0000\u0000\u0000"+
-		"F\u0157\u0001\u0000\u0000\u0000H\u0159\u0001\u0000\u0000\u0000J\u015b"+
-		"\u0001\u0000\u0000\u0000L\u015d\u0001\u0000\u0000\u0000N\u0160\u0001\u0000"+
-		"\u0000\u0000P\u0163\u0001\u0000\u0000\u0000R\u0165\u0001\u0000\u0000\u0000"+
-		"T\u0167\u0001\u0000\u0000\u0000V\u0169\u0001\u0000\u0000\u0000X\u016b"+
-		"\u0001\u0000\u0000\u0000Z\u016d\u0001\u0000\u0000\u0000\\\u016f\u0001"+
-		"\u0000\u0000\u0000^\u0171\u0001\u0000\u0000\u0000`\u0173\u0001\u0000\u0000"+
-		"\u0000b\u0176\u0001\u0000\u0000\u0000d\u0179\u0001\u0000\u0000\u0000f"+
-		"\u017c\u0001\u0000\u0000\u0000h\u017f\u0001\u0000\u0000\u0000j\u0182\u0001"+
-		"\u0000\u0000\u0000l\u0185\u0001\u0000\u0000\u0000n\u0188\u0001\u0000\u0000"+
-		"\u0000p\u01a8\u0001\u0000\u0000\u0000r\u01aa\u0001\u0000\u0000\u0000t"+
-		"\u01af\u0001\u0000\u0000\u0000v\u01b5\u0001\u0000\u0000\u0000x\u01c0\u0001"+
-		"\u0000\u0000\u0000z\u01ce\u0001\u0000\u0000\u0000|\u01d5\u0001\u0000\u0000"+
-		"\u0000~\u01d9\u0001\u0000\u0000\u0000\u0080\u01dc\u0001\u0000\u0000\u0000"+
-		"\u0082\u01de\u0001\u0000\u0000\u0000\u0084\u01e0\u0001\u0000\u0000\u0000"+
-		"\u0086\u01e3\u0001\u0000\u0000\u0000\u0088\u01e5\u0001\u0000\u0000\u0000"+
-		"\u008a\u01e7\u0001\u0000\u0000\u0000\u008c\u01e9\u0001\u0000\u0000\u0000"+
-		"\u008e\u01eb\u0001\u0000\u0000\u0000\u0090\u01ed\u0001\u0000\u0000\u0000"+
-		"\u0092\u01ef\u0001\u0000\u0000\u0000\u0094\u01f1\u0001\u0000\u0000\u0000"+
-		"\u0096\u020d\u0001\u0000\u0000\u0000\u0098\u020f\u0001\u0000\u0000\u0000"+
-		"\u009a\u0217\u0001\u0000\u0000\u0000\u009c\u021b\u0001\u0000\u0000\u0000"+
-		"\u009e\u021d\u0001\u0000\u0000\u0000\u00a0\u021f\u0001\u0000\u0000\u0000"+
-		"\u00a2\u0221\u0001\u0000\u0000\u0000\u00a4\u0223\u0001\u0000\u0000\u0000"+
-		"\u00a6\u0225\u0001\u0000\u0000\u0000\u00a8\u022d\u0001\u0000\u0000\u0000"+
-		"\u00aa\u0231\u0001\u0000\u0000\u0000\u00ac\u00ad\u0005i\u0000\u0000\u00ad"+
-		"\u00ae\u0005m\u0000\u0000\u00ae\u00af\u0005p\u0000\u0000\u00af\u00b0\u0005"+
-		"o\u0000\u0000\u00b0\u00b1\u0005r\u0000\u0000\u00b1\u00b2\u0005t\u0000"+
-		"\u0000\u00b2\u0003\u0001\u0000\u0000\u0000\u00b3\u00b4\u0005f\u0000\u0000"+
-		"\u00b4\u00b5\u0005r\u0000\u0000\u00b5\u00b6\u0005o\u0000\u0000\u00b6\u00b7"+
-		"\u0005m\u0000\u0000\u00b7\u0005\u0001\u0000\u0000\u0000\u00b8\u00b9\u0005"+
-		"n\u0000\u0000\u00b9\u00ba\u0005e\u0000\u0000\u00ba\u00bb\u0005w\u0000"+
-		"\u0000\u00bb\u0007\u0001\u0000\u0000\u0000\u00bc\u00bd\u0005@\u0000\u0000"+
-		"\u00bd\u00be\u0005C\u0000\u0000\u00be\u00bf\u0005o\u0000\u0000\u00bf\u00c0"+
-		"\u0005m\u0000\u0000\u00c0\u00c1\u0005p\u0000\u0000\u00c1\u00c2\u0005o"+
-		"\u0000\u0000\u00c2\u00c3\u0005n\u0000\u0000\u00c3\u00c4\u0005e\u0000\u0000"+
-		"\u00c4\u00c5\u0005n\u0000\u0000\u00c5\u00c6\u0005t\u0000\u0000\u00c6\t"+
-		"\u0001\u0000\u0000\u0000\u00c7\u00c8\u0005s\u0000\u0000\u00c8\u00c9\u0005"+
-		"e\u0000\u0000\u00c9\u00ca\u0005l\u0000\u0000\u00ca\u00cb\u0005e\u0000"+
-		"\u0000\u00cb\u00cc\u0005c\u0000\u0000\u00cc\u00cd\u0005t\u0000\u0000\u00cd"+
-		"\u00ce\u0005o\u0000\u0000\u00ce\u00cf\u0005r\u0000\u0000\u00cf\u000b\u0001"+
-		"\u0000\u0000\u0000\u00d0\u00d1\u0005s\u0000\u0000\u00d1\u00d2\u0005t\u0000"+
-		"\u0000\u00d2\u00d3\u0005a\u0000\u0000\u00d3\u00d4\u0005n\u0000\u0000\u00d4"+
-		"\u00d5\u0005d\u0000\u0000\u00d5\u00d6\u0005a\u0000\u0000\u00d6\u00d7\u0005"+
-		"l\u0000\u0000\u00d7\u00d8\u0005o\u0000\u0000\u00d8\u00d9\u0005n\u0000"+
-		"\u0000\u00d9\u00da\u0005e\u0000\u0000\u00da\r\u0001\u0000\u0000\u0000"+
-		"\u00db\u00dc\u0005t\u0000\u0000\u00dc\u00dd\u0005r\u0000\u0000\u00dd\u00de"+
-		"\u0005u\u0000\u0000\u00de\u00df\u0005e\u0000\u0000\u00df\u000f\u0001\u0000"+
-		"\u0000\u0000\u00e0\u00e1\u0005f\u0000\u0000\u00e1\u00e2\u0005a\u0000\u0000"+
-		"\u00e2\u00e3\u0005l\u0000\u0000\u00e3\u00e4\u0005s\u0000\u0000\u00e4\u00e5"+
-		"\u0005e\u0000\u0000\u00e5\u0011\u0001\u0000\u0000\u0000\u00e6\u00e7\u0005"+
-		"i\u0000\u0000\u00e7\u00e8\u0005m\u0000\u0000\u00e8\u00e9\u0005p\u0000"+
-		"\u0000\u00e9\u00ea\u0005o\u0000\u0000\u00ea\u00eb\u0005r\u0000\u0000\u00eb"+
-		"\u00ec\u0005t\u0000\u0000\u00ec\u00ed\u0005s\u0000\u0000\u00ed\u0013\u0001"+
-		"\u0000\u0000\u0000\u00ee\u00ef\u0005s\u0000\u0000\u00ef\u00f0\u0005t\u0000"+
-		"\u0000\u00f0\u00f1\u0005y\u0000\u0000\u00f1\u00f2\u0005l\u0000\u0000\u00f2"+
-		"\u00f3\u0005e\u0000\u0000\u00f3\u00f4\u0005s\u0000\u0000\u00f4\u0015\u0001"+
-		"\u0000\u0000\u0000\u00f5\u00f6\u0005t\u0000\u0000\u00f6\u00f7\u0005e\u0000"+
-		"\u0000\u00f7\u00f8\u0005m\u0000\u0000\u00f8\u00f9\u0005p\u0000\u0000\u00f9"+
-		"\u00fa\u0005l\u0000\u0000\u00fa\u00fb\u0005a\u0000\u0000\u00fb\u00fc\u0005"+
-		"t\u0000\u0000\u00fc\u00fd\u0005e\u0000\u0000\u00fd\u0017\u0001\u0000\u0000"+
-		"\u0000\u00fe\u00ff\u0005e\u0000\u0000\u00ff\u0100\u0005x\u0000\u0000\u0100"+
-		"\u0101\u0005p\u0000\u0000\u0101\u0102\u0005o\u0000\u0000\u0102\u0103\u0005"+
-		"r\u0000\u0000\u0103\u0104\u0005t\u0000\u0000\u0104\u0019\u0001\u0000\u0000"+
-		"\u0000\u0105\u0106\u0005c\u0000\u0000\u0106\u0107\u0005l\u0000\u0000\u0107"+
-		"\u0108\u0005a\u0000\u0000\u0108\u0109\u0005s\u0000\u0000\u0109\u010a\u0005"+
-		"s\u0000\u0000\u010a\u001b\u0001\u0000\u0000\u0000\u010b\u010c\u0005t\u0000"+
-		"\u0000\u010c\u010d\u0005h\u0000\u0000\u010d\u010e\u0005i\u0000\u0000\u010e"+
-		"\u010f\u0005s\u0000\u0000\u010f\u001d\u0001\u0000\u0000\u0000\u0110\u0111"+
-		"\u0005a\u0000\u0000\u0111\u0112\u0005n\u0000\u0000\u0112\u0113\u0005y"+
-		"\u0000\u0000\u0113\u001f\u0001\u0000\u0000\u0000\u0114\u0115\u0005r\u0000"+
-		"\u0000\u0115\u0116\u0005e\u0000\u0000\u0116\u0117\u0005t\u0000\u0000\u0117"+
-		"\u0118\u0005u\u0000\u0000\u0118\u0119\u0005r\u0000\u0000\u0119\u011a\u0005"+
-		"n\u0000\u0000\u011a!\u0001\u0000\u0000\u0000\u011b\u011c\u0005b\u0000"+
-		"\u0000\u011c\u011d\u0005r\u0000\u0000\u011d\u011e\u0005e\u0000\u0000\u011e"+
-		"\u011f\u0005a\u0000\u0000\u011f\u0120\u0005k\u0000\u0000\u0120#\u0001"+
-		"\u0000\u0000\u0000\u0121\u0122\u0005i\u0000\u0000\u0122\u0123\u0005f\u0000"+
-		"\u0000\u0123%\u0001\u0000\u0000\u0000\u0124\u0125\u0005e\u0000\u0000\u0125"+
-		"\u0126\u0005l\u0000\u0000\u0126\u0127\u0005s\u0000\u0000\u0127\u0128\u0005"+
-		"e\u0000\u0000\u0128\'\u0001\u0000\u0000\u0000\u0129\u012a\u0005f\u0000"+
-		"\u0000\u012a\u012b\u0005o\u0000\u0000\u012b\u012c\u0005r\u0000\u0000\u012c"+
-		")\u0001\u0000\u0000\u0000\u012d\u012e\u0005w\u0000\u0000\u012e\u012f\u0005"+
-		"h\u0000\u0000\u012f\u0130\u0005i\u0000\u0000\u0130\u0131\u0005l\u0000"+
-		"\u0000\u0131\u0132\u0005e\u0000\u0000\u0132+\u0001\u0000\u0000\u0000\u0133"+
-		"\u0134\u0005l\u0000\u0000\u0134\u0135\u0005e\u0000\u0000\u0135\u0136\u0005"+
-		"t\u0000\u0000\u0136-\u0001\u0000\u0000\u0000\u0137\u0138\u0005i\u0000"+
-		"\u0000\u0138\u0139\u0005n\u0000\u0000\u0139\u013a\u0005t\u0000\u0000\u013a"+
-		"\u013b\u0005e\u0000\u0000\u013b\u013c\u0005r\u0000\u0000\u013c\u013d\u0005"+
-		"f\u0000\u0000\u013d\u013e\u0005a\u0000\u0000\u013e\u013f\u0005c\u0000"+
-		"\u0000\u013f\u0140\u0005e\u0000\u0000\u0140/\u0001\u0000\u0000\u0000\u0141"+
-		"\u0142\u0005{\u0000\u0000\u01421\u0001\u0000\u0000\u0000\u0143\u0144\u0005"+
-		"}\u0000\u0000\u01443\u0001\u0000\u0000\u0000\u0145\u0146\u0005[\u0000"+
-		"\u0000\u01465\u0001\u0000\u0000\u0000\u0147\u0148\u0005]\u0000\u0000\u0148"+
-		"7\u0001\u0000\u0000\u0000\u0149\u014a\u0005(\u0000\u0000\u014a9\u0001"+
-		"\u0000\u0000\u0000\u014b\u014c\u0005)\u0000\u0000\u014c;\u0001\u0000\u0000"+
-		"\u0000\u014d\u014e\u0005:\u0000\u0000\u014e=\u0001\u0000\u0000\u0000\u014f"+
-		"\u0150\u0005,\u0000\u0000\u0150?\u0001\u0000\u0000\u0000\u0151\u0152\u0005"+
-		";\u0000\u0000\u0152A\u0001\u0000\u0000\u0000\u0153\u0154\u0005.\u0000"+
-		"\u0000\u0154C\u0001\u0000\u0000\u0000\u0155\u0156\u0005#\u0000\u0000\u0156"+
-		"E\u0001\u0000\u0000\u0000\u0157\u0158\u0005\"\u0000\u0000\u0158G\u0001"+
-		"\u0000\u0000\u0000\u0159\u015a\u0005\'\u0000\u0000\u015aI\u0001\u0000"+
-		"\u0000\u0000\u015b\u015c\u0005=\u0000\u0000\u015cK\u0001\u0000\u0000\u0000"+
-		"\u015d\u015e\u0005+\u0000\u0000\u015e\u015f\u0005+\u0000\u0000\u015fM"+
-		"\u0001\u0000\u0000\u0000\u0160\u0161\u0005=\u0000\u0000\u0161\u0162\u0005"+
-		">\u0000\u0000\u0162O\u0001\u0000\u0000\u0000\u0163\u0164\u0005?\u0000"+
-		"\u0000\u0164Q\u0001\u0000\u0000\u0000\u0165\u0166\u0005+\u0000\u0000\u0166"+
-		"S\u0001\u0000\u0000\u0000\u0167\u0168\u0005-\u0000\u0000\u0168U\u0001"+
-		"\u0000\u0000\u0000\u0169\u016a\u0005*\u0000\u0000\u016aW\u0001\u0000\u0000"+
-		"\u0000\u016b\u016c\u0005/\u0000\u0000\u016cY\u0001\u0000\u0000\u0000\u016d"+
-		"\u016e\u0005%\u0000\u0000\u016e[\u0001\u0000\u0000\u0000\u016f\u0170\u0005"+
-		"<\u0000\u0000\u0170]\u0001\u0000\u0000\u0000\u0171\u0172\u0005>\u0000"+
-		"\u0000\u0172_\u0001\u0000\u0000\u0000\u0173\u0174\u0005<\u0000\u0000\u0174"+
-		"\u0175\u0005=\u0000\u0000\u0175a\u0001\u0000\u0000\u0000\u0176\u0177\u0005"+
-		">\u0000\u0000\u0177\u0178\u0005=\u0000\u0000\u0178c\u0001\u0000\u0000"+
-		"\u0000\u0179\u017a\u0005=\u0000\u0000\u017a\u017b\u0005=\u0000\u0000\u017b"+
-		"e\u0001\u0000\u0000\u0000\u017c\u017d\u0005!\u0000\u0000\u017d\u017e\u0005"+
-		"=\u0000\u0000\u017eg\u0001\u0000\u0000\u0000\u017f\u0180\u0005&\u0000"+
-		"\u0000\u0180\u0181\u0005&\u0000\u0000\u0181i\u0001\u0000\u0000\u0000\u0182"+
-		"\u0183\u0005|\u0000\u0000\u0183\u0184\u0005|\u0000\u0000\u0184k\u0001"+
-		"\u0000\u0000\u0000\u0185\u0186\u0005!\u0000\u0000\u0186m\u0001\u0000\u0000"+
-		"\u0000\u0187\u0189\u0007\u0000\u0000\u0000\u0188\u0187\u0001\u0000\u0000"+
-		"\u0000\u0189\u018a\u0001\u0000\u0000\u0000\u018a\u0188\u0001\u0000\u0000"+
-		"\u0000\u018a\u018b\u0001\u0000\u0000\u0000\u018b\u0192\u0001\u0000\u0000"+
-		"\u0000\u018c\u018e\u0005.\u0000\u0000\u018d\u018f\u0007\u0000\u0000\u0000"+
-		"\u018e\u018d\u0001\u0000\u0000\u0000\u018f\u0190\u0001\u0000\u0000\u0000"+
-		"\u0190\u018e\u0001\u0000\u0000\u0000\u0190\u0191\u0001\u0000\u0000\u0000"+
-		"\u0191\u0193\u0001\u0000\u0000\u0000\u0192\u018c\u0001\u0000\u0000\u0000"+
-		"\u0192\u0193\u0001\u0000\u0000\u0000\u0193o\u0001\u0000\u0000\u0000\u0194"+
-		"\u019a\u0005\'\u0000\u0000\u0195\u0199\b\u0001\u0000\u0000\u0196\u0197"+
-		"\u0005\\\u0000\u0000\u0197\u0199\u0005\'\u0000\u0000\u0198\u0195\u0001"+
-		"\u0000\u0000\u0000\u0198\u0196\u0001\u0000\u0000\u0000\u0199\u019c\u0001"+
-		"\u0000\u0000\u0000\u019a\u0198\u0001\u0000\u0000\u0000\u019a\u019b\u0001"+
-		"\u0000\u0000\u0000\u019b\u019d\u0001\u0000\u0000\u0000\u019c\u019a\u0001"+
-		"\u0000\u0000\u0000\u019d\u01a9\u0005\'\u0000\u0000\u019e\u01a4\u0005\""+
-		"\u0000\u0000\u019f\u01a3\b\u0002\u0000\u0000\u01a0\u01a1\u0005\\\u0000"+
-		"\u0000\u01a1\u01a3\u0005\"\u0000\u0000\u01a2\u019f\u0001\u0000\u0000\u0000"+
-		"\u01a2\u01a0\u0001\u0000\u0000\u0000\u01a3\u01a6\u0001\u0000\u0000\u0000"+
-		"\u01a4\u01a2\u0001\u0000\u0000\u0000\u01a4\u01a5\u0001\u0000\u0000\u0000"+
-		"\u01a5\u01a7\u0001\u0000\u0000\u0000\u01a6\u01a4\u0001\u0000\u0000\u0000"+
-		"\u01a7\u01a9\u0005\"\u0000\u0000\u01a8\u0194\u0001\u0000\u0000\u0000\u01a8"+
-		"\u019e\u0001\u0000\u0000\u0000\u01a9q\u0001\u0000\u0000\u0000\u01aa\u01ab"+
-		"\u0005`\u0000\u0000\u01ab\u01ac\u0001\u0000\u0000\u0000\u01ac\u01ad\u0006"+
-		"8\u0000\u0000\u01ads\u0001\u0000\u0000\u0000\u01ae\u01b0\u0007\u0003\u0000"+
-		"\u0000\u01af\u01ae\u0001\u0000\u0000\u0000\u01b0\u01b1\u0001\u0000\u0000"+
-		"\u0000\u01b1\u01af\u0001\u0000\u0000\u0000\u01b1\u01b2\u0001\u0000\u0000"+
-		"\u0000\u01b2\u01b3\u0001\u0000\u0000\u0000\u01b3\u01b4\u00069\u0001\u0000"+
-		"\u01b4u\u0001\u0000\u0000\u0000\u01b5\u01b6\u0005/\u0000\u0000\u01b6\u01b7"+
-		"\u0005/\u0000\u0000\u01b7\u01bb\u0001\u0000\u0000\u0000\u01b8\u01ba\b"+
-		"\u0004\u0000\u0000\u01b9\u01b8\u0001\u0000\u0000\u0000\u01ba\u01bd\u0001"+
-		"\u0000\u0000\u0000\u01bb\u01b9\u0001\u0000\u0000\u0000\u01bb\u01bc\u0001"+
-		"\u0000\u0000\u0000\u01bc\u01be\u0001\u0000\u0000\u0000\u01bd\u01bb\u0001"+
-		"\u0000\u0000\u0000\u01be\u01bf\u0006:\u0001\u0000\u01bfw\u0001\u0000\u0000"+
-		"\u0000\u01c0\u01c1\u0005/\u0000\u0000\u01c1\u01c2\u0005*\u0000\u0000\u01c2"+
-		"\u01c6\u0001\u0000\u0000\u0000\u01c3\u01c5\t\u0000\u0000\u0000\u01c4\u01c3"+
-		"\u0001\u0000\u0000\u0000\u01c5\u01c8\u0001\u0000\u0000\u0000\u01c6\u01c7"+
-		"\u0001\u0000\u0000\u0000\u01c6\u01c4\u0001\u0000\u0000\u0000\u01c7\u01c9"+
-		"\u0001\u0000\u0000\u0000\u01c8\u01c6\u0001\u0000\u0000\u0000\u01c9\u01ca"+
-		"\u0005*\u0000\u0000\u01ca\u01cb\u0005/\u0000\u0000\u01cb\u01cc\u0001\u0000"+
-		"\u0000\u0000\u01cc\u01cd\u0006;\u0001\u0000\u01cdy\u0001\u0000\u0000\u0000"+
-		"\u01ce\u01d2\u0007\u0005\u0000\u0000\u01cf\u01d1\u0007\u0006\u0000\u0000"+
-		"\u01d0\u01cf\u0001\u0000\u0000\u0000\u01d1\u01d4\u0001\u0000\u0000\u0000"+
-		"\u01d2\u01d0\u0001\u0000\u0000\u0000\u01d2\u01d3\u0001\u0000\u0000\u0000"+
-		"\u01d3{\u0001\u0000\u0000\u0000\u01d4\u01d2\u0001\u0000\u0000\u0000\u01d5"+
-		"\u01d6\u0005`\u0000\u0000\u01d6\u01d7\u0001\u0000\u0000\u0000\u01d7\u01d8"+
-		"\u0006=\u0002\u0000\u01d8}\u0001\u0000\u0000\u0000\u01d9\u01da\u0005<"+
-		"\u0000\u0000\u01da\u01db\u0005/\u0000\u0000\u01db\u007f\u0001\u0000\u0000"+
-		"\u0000\u01dc\u01dd\u0005<\u0000\u0000\u01dd\u0081\u0001\u0000\u0000\u0000"+
-		"\u01de\u01df\u0005>\u0000\u0000\u01df\u0083\u0001\u0000\u0000\u0000\u01e0"+
-		"\u01e1\u0005/\u0000\u0000\u01e1\u01e2\u0005>\u0000\u0000\u01e2\u0085\u0001"+
-		"\u0000\u0000\u0000\u01e3\u01e4\u0005/\u0000\u0000\u01e4\u0087\u0001\u0000"+
-		"\u0000\u0000\u01e5\u01e6\u0005=\u0000\u0000\u01e6\u0089\u0001\u0000\u0000"+
-		"\u0000\u01e7\u01e8\u0005[\u0000\u0000\u01e8\u008b\u0001\u0000\u0000\u0000"+
-		"\u01e9\u01ea\u0005]\u0000\u0000\u01ea\u008d\u0001\u0000\u0000\u0000\u01eb"+
-		"\u01ec\u0005(\u0000\u0000\u01ec\u008f\u0001\u0000\u0000\u0000\u01ed\u01ee"+
-		"\u0005)\u0000\u0000\u01ee\u0091\u0001\u0000\u0000\u0000\u01ef\u01f0\u0005"+
-		"*\u0000\u0000\u01f0\u0093\u0001\u0000\u0000\u0000\u01f1\u01f2\u0005{\u0000"+
-		"\u0000\u01f2\u01f3\u0005{\u0000\u0000\u01f3\u01f7\u0001\u0000\u0000\u0000"+
-		"\u01f4\u01f6\t\u0000\u0000\u0000\u01f5\u01f4\u0001\u0000\u0000\u0000\u01f6"+
-		"\u01f9\u0001\u0000\u0000\u0000\u01f7\u01f8\u0001\u0000\u0000\u0000\u01f7"+
-		"\u01f5\u0001\u0000\u0000\u0000\u01f8\u01fa\u0001\u0000\u0000\u0000\u01f9"+
-		"\u01f7\u0001\u0000\u0000\u0000\u01fa\u01fb\u0005}\u0000\u0000\u01fb\u01fc"+
-		"\u0005}\u0000\u0000\u01fc\u0095\u0001\u0000\u0000\u0000\u01fd\u0201\u0005"+
-		"\"\u0000\u0000\u01fe\u0200\t\u0000\u0000\u0000\u01ff\u01fe\u0001\u0000"+
-		"\u0000\u0000\u0200\u0203\u0001\u0000\u0000\u0000\u0201\u0202\u0001\u0000"+
-		"\u0000\u0000\u0201\u01ff\u0001\u0000\u0000\u0000\u0202\u0204\u0001\u0000"+
-		"\u0000\u0000\u0203\u0201\u0001\u0000\u0000\u0000\u0204\u020e\u0005\"\u0000"+
-		"\u0000\u0205\u0209\u0005\'\u0000\u0000\u0206\u0208\t\u0000\u0000\u0000"+
-		"\u0207\u0206\u0001\u0000\u0000\u0000\u0208\u020b\u0001\u0000\u0000\u0000"+
-		"\u0209\u020a\u0001\u0000\u0000\u0000\u0209\u0207\u0001\u0000\u0000\u0000"+
-		"\u020a\u020c\u0001\u0000\u0000\u0000\u020b\u0209\u0001\u0000\u0000\u0000"+
-		"\u020c\u020e\u0005\'\u0000\u0000\u020d\u01fd\u0001\u0000\u0000\u0000\u020d"+
-		"\u0205\u0001\u0000\u0000\u0000\u020e\u0097\u0001\u0000\u0000\u0000\u020f"+
-		"\u0213\u0007\u0007\u0000\u0000\u0210\u0212\u0007\b\u0000\u0000\u0211\u0210"+
-		"\u0001\u0000\u0000\u0000\u0212\u0215\u0001\u0000\u0000\u0000\u0213\u0211"+
-		"\u0001\u0000\u0000\u0000\u0213\u0214\u0001\u0000\u0000\u0000\u0214\u0099"+
-		"\u0001\u0000\u0000\u0000\u0215\u0213\u0001\u0000\u0000\u0000\u0216\u0218"+
-		"\b\t\u0000\u0000\u0217\u0216\u0001\u0000\u0000\u0000\u0218\u0219\u0001"+
-		"\u0000\u0000\u0000\u0219\u0217\u0001\u0000\u0000\u0000\u0219\u021a\u0001"+
-		"\u0000\u0000\u0000\u021a\u009b\u0001\u0000\u0000\u0000\u021b\u021c\u0005"+
-		"{\u0000\u0000\u021c\u009d\u0001\u0000\u0000\u0000\u021d\u021e\u0005}\u0000"+
-		"\u0000\u021e\u009f\u0001\u0000\u0000\u0000\u021f\u0220\u0005:\u0000\u0000"+
-		"\u0220\u00a1\u0001\u0000\u0000\u0000\u0221\u0222\u0005;\u0000\u0000\u0222"+
-		"\u00a3\u0001\u0000\u0000\u0000\u0223\u0224\u0005,\u0000\u0000\u0224\u00a5"+
-		"\u0001\u0000\u0000\u0000\u0225\u0229\u0007\u0005\u0000\u0000\u0226\u0228"+
-		"\u0007\n\u0000\u0000\u0227\u0226\u0001\u0000\u0000\u0000\u0228\u022b\u0001"+
-		"\u0000\u0000\u0000\u0229\u0227\u0001\u0000\u0000\u0000\u0229\u022a\u0001"+
-		"\u0000\u0000\u0000\u022a\u00a7\u0001\u0000\u0000\u0000\u022b\u0229\u0001"+
-		"\u0000\u0000\u0000\u022c\u022e\b\u000b\u0000\u0000\u022d\u022c\u0001\u0000"+
-		"\u0000\u0000\u022e\u022f\u0001\u0000\u0000\u0000\u022f\u022d\u0001\u0000"+
-		"\u0000\u0000\u022f\u0230\u0001\u0000\u0000\u0000\u0230\u00a9\u0001\u0000"+
-		"\u0000\u0000\u0231\u0232\t\u0000\u0000\u0000\u0232\u00ab\u0001\u0000\u0000"+
-		"\u0000\u0016\u0000\u0001\u018a\u0190\u0192\u0198\u019a\u01a2\u01a4\u01a8"+
-		"\u01b1\u01bb\u01c6\u01d2\u01f7\u0201\u0209\u020d\u0213\u0219\u0229\u022f"+
-		"\u0003\u0005\u0001\u0000\u0006\u0000\u0000\u0004\u0000\u0000";
+		"H\u0001H\u0005H\u021a\bH\nH\fH\u021d\tH\u0001I\u0004I\u0220\bI\u000bI"+
+		"\fI\u0221\u0001J\u0001J\u0001K\u0001K\u0001K\u0001K\u0001L\u0001L\u0001"+
+		"L\u0001L\u0001L\u0001M\u0001M\u0001N\u0001N\u0001O\u0001O\u0001P\u0001"+
+		"P\u0001Q\u0001Q\u0001R\u0001R\u0001S\u0001S\u0001T\u0001T\u0005T\u023f"+
+		"\bT\nT\fT\u0242\tT\u0001T\u0001T\u0001T\u0005T\u0247\bT\nT\fT\u024a\t"+
+		"T\u0001T\u0003T\u024d\bT\u0001U\u0001U\u0005U\u0251\bU\nU\fU\u0254\tU"+
+		"\u0001V\u0004V\u0257\bV\u000bV\fV\u0258\u0001V\u0001V\u0001W\u0001W\u0001"+
+		"W\u0001W\u0001W\u0001W\u0001X\u0001X\u0001X\u0001X\u0005\u01cf\u01ea\u0202"+
+		"\u0240\u0248\u0000Y\u0003\u0001\u0005\u0002\u0007\u0003\t\u0004\u000b"+
+		"\u0005\r\u0006\u000f\u0007\u0011\b\u0013\t\u0015\n\u0017\u000b\u0019\f"+
+		"\u001b\r\u001d\u000e\u001f\u000f!\u0010#\u0011%\u0012\'\u0013)\u0014+"+
+		"\u0015-\u0016/\u00171\u00183\u00195\u001a7\u001b9\u001c;\u001d=\u001e"+
+		"?\u001fA C!E\"G#I$K%M&O\'Q(S)U*W+Y,[-]._/a0c1e2g3i4k5m6o7q8s9u:w;y<{="+
+		"}>\u007f?\u0081@\u0083A\u0085B\u0087C\u0089D\u008bE\u008dF\u008fG\u0091"+
+		"H\u0093I\u0095J\u0097K\u0099L\u009bM\u009dN\u009fO\u00a1P\u00a3Q\u00a5"+
+		"R\u00a7S\u00a9T\u00abU\u00adV\u00afW\u00b1\u0000\u00b3\u0000\u0003\u0000"+
+		"\u0001\u0002\f\u0001\u000009\u0001\u0000\'\'\u0001\u0000\"\"\u0003\u0000"+
+		"\t\n\r\r  \u0002\u0000\n\n\r\r\u0003\u0000AZ__az\u0004\u000009AZ__az\u0003"+
+		"\u0000<<``{{\u0005\u0000--09AZ__az\u0005\u0000:<>>``{{}}\u0004\u0000:"+
+		":AZ__az\u0005\u0000-.0:AZ__az\u0279\u0000\u0003\u0001\u0000\u0000\u0000"+
+		"\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000"+
+		"\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000"+
+		"\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
+		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015"+
+		"\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019"+
+		"\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d"+
+		"\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001"+
+		"\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000"+
+		"\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000"+
+		"\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/"+
+		"\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000"+
+		"\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000"+
+		"\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000="+
+		"\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000"+
+		"\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000"+
+		"\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K"+
+		"\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000"+
+		"\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000"+
+		"\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y"+
+		"\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000"+
+		"\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000\u0000\u0000"+
+		"\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000\u0000g"+
+		"\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k\u0001\u0000"+
+		"\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000"+
+		"\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000\u0000\u0000\u0000u"+
+		"\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000\u0000y\u0001\u0000"+
+		"\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0001}\u0001\u0000\u0000\u0000"+
+		"\u0001\u007f\u0001\u0000\u0000\u0000\u0001\u0081\u0001\u0000\u0000\u0000"+
+		"\u0001\u0083\u0001\u0000\u0000\u0000\u0001\u0085\u0001\u0000\u0000\u0000"+
+		"\u0001\u0087\u0001\u0000\u0000\u0000\u0001\u0089\u0001\u0000\u0000\u0000"+
+		"\u0001\u008b\u0001\u0000\u0000\u0000\u0001\u008d\u0001\u0000\u0000\u0000"+
+		"\u0001\u008f\u0001\u0000\u0000\u0000\u0001\u0091\u0001\u0000\u0000\u0000"+
+		"\u0001\u0093\u0001\u0000\u0000\u0000\u0001\u0095\u0001\u0000\u0000\u0000"+
+		"\u0001\u0097\u0001\u0000\u0000\u0000\u0002\u0099\u0001\u0000\u0000\u0000"+
+		"\u0002\u009b\u0001\u0000\u0000\u0000\u0002\u009d\u0001\u0000\u0000\u0000"+
+		"\u0002\u009f\u0001\u0000\u0000\u0000\u0002\u00a1\u0001\u0000\u0000\u0000"+
+		"\u0002\u00a3\u0001\u0000\u0000\u0000\u0002\u00a5\u0001\u0000\u0000\u0000"+
+		"\u0002\u00a7\u0001\u0000\u0000\u0000\u0002\u00a9\u0001\u0000\u0000\u0000"+
+		"\u0002\u00ab\u0001\u0000\u0000\u0000\u0002\u00ad\u0001\u0000\u0000\u0000"+
+		"\u0002\u00af\u0001\u0000\u0000\u0000\u0002\u00b1\u0001\u0000\u0000\u0000"+
+		"\u0002\u00b3\u0001\u0000\u0000\u0000\u0003\u00b5\u0001\u0000\u0000\u0000"+
+		"\u0005\u00bc\u0001\u0000\u0000\u0000\u0007\u00c1\u0001\u0000\u0000\u0000"+
+		"\t\u00c5\u0001\u0000\u0000\u0000\u000b\u00d0\u0001\u0000\u0000\u0000\r"+
+		"\u00d9\u0001\u0000\u0000\u0000\u000f\u00e4\u0001\u0000\u0000\u0000\u0011"+
+		"\u00e9\u0001\u0000\u0000\u0000\u0013\u00ef\u0001\u0000\u0000\u0000\u0015"+
+		"\u00f7\u0001\u0000\u0000\u0000\u0017\u00fe\u0001\u0000\u0000\u0000\u0019"+
+		"\u0107\u0001\u0000\u0000\u0000\u001b\u010e\u0001\u0000\u0000\u0000\u001d"+
+		"\u0114\u0001\u0000\u0000\u0000\u001f\u0119\u0001\u0000\u0000\u0000!\u011d"+
+		"\u0001\u0000\u0000\u0000#\u0124\u0001\u0000\u0000\u0000%\u012a\u0001\u0000"+
+		"\u0000\u0000\'\u012d\u0001\u0000\u0000\u0000)\u0132\u0001\u0000\u0000"+
+		"\u0000+\u0136\u0001\u0000\u0000\u0000-\u013c\u0001\u0000\u0000\u0000/"+
+		"\u0140\u0001\u0000\u0000\u00001\u014a\u0001\u0000\u0000\u00003\u014c\u0001"+
+		"\u0000\u0000\u00005\u014e\u0001\u0000\u0000\u00007\u0150\u0001\u0000\u0000"+
+		"\u00009\u0152\u0001\u0000\u0000\u0000;\u0154\u0001\u0000\u0000\u0000="+
+		"\u0156\u0001\u0000\u0000\u0000?\u0158\u0001\u0000\u0000\u0000A\u015a\u0001"+
+		"\u0000\u0000\u0000C\u015c\u0001\u0000\u0000\u0000E\u015e\u0001\u0000\u0000"+
+		"\u0000G\u0160\u0001\u0000\u0000\u0000I\u0162\u0001\u0000\u0000\u0000K"+
+		"\u0164\u0001\u0000\u0000\u0000M\u0166\u0001\u0000\u0000\u0000O\u0169\u0001"+
+		"\u0000\u0000\u0000Q\u016c\u0001\u0000\u0000\u0000S\u016e\u0001\u0000\u0000"+
+		"\u0000U\u0170\u0001\u0000\u0000\u0000W\u0172\u0001\u0000\u0000\u0000Y"+
+		"\u0174\u0001\u0000\u0000\u0000[\u0176\u0001\u0000\u0000\u0000]\u0178\u0001"+
+		"\u0000\u0000\u0000_\u017a\u0001\u0000\u0000\u0000a\u017c\u0001\u0000\u0000"+
+		"\u0000c\u017f\u0001\u0000\u0000\u0000e\u0182\u0001\u0000\u0000\u0000g"+
+		"\u0185\u0001\u0000\u0000\u0000i\u0188\u0001\u0000\u0000\u0000k\u018b\u0001"+
+		"\u0000\u0000\u0000m\u018e\u0001\u0000\u0000\u0000o\u0191\u0001\u0000\u0000"+
+		"\u0000q\u01b1\u0001\u0000\u0000\u0000s\u01b3\u0001\u0000\u0000\u0000u"+
+		"\u01b8\u0001\u0000\u0000\u0000w\u01be\u0001\u0000\u0000\u0000y\u01c9\u0001"+
+		"\u0000\u0000\u0000{\u01d7\u0001\u0000\u0000\u0000}\u01de\u0001\u0000\u0000"+
+		"\u0000\u007f\u01e2\u0001\u0000\u0000\u0000\u0081\u01f3\u0001\u0000\u0000"+
+		"\u0000\u0083\u01f8\u0001\u0000\u0000\u0000\u0085\u01fc\u0001\u0000\u0000"+
+		"\u0000\u0087\u0209\u0001\u0000\u0000\u0000\u0089\u020d\u0001\u0000\u0000"+
+		"\u0000\u008b\u020f\u0001\u0000\u0000\u0000\u008d\u0211\u0001\u0000\u0000"+
+		"\u0000\u008f\u0213\u0001\u0000\u0000\u0000\u0091\u0215\u0001\u0000\u0000"+
+		"\u0000\u0093\u0217\u0001\u0000\u0000\u0000\u0095\u021f\u0001\u0000\u0000"+
+		"\u0000\u0097\u0223\u0001\u0000\u0000\u0000\u0099\u0225\u0001\u0000\u0000"+
+		"\u0000\u009b\u0229\u0001\u0000\u0000\u0000\u009d\u022e\u0001\u0000\u0000"+
+		"\u0000\u009f\u0230\u0001\u0000\u0000\u0000\u00a1\u0232\u0001\u0000\u0000"+
+		"\u0000\u00a3\u0234\u0001\u0000\u0000\u0000\u00a5\u0236\u0001\u0000\u0000"+
+		"\u0000\u00a7\u0238\u0001\u0000\u0000\u0000\u00a9\u023a\u0001\u0000\u0000"+
+		"\u0000\u00ab\u024c\u0001\u0000\u0000\u0000\u00ad\u024e\u0001\u0000\u0000"+
+		"\u0000\u00af\u0256\u0001\u0000\u0000\u0000\u00b1\u025c\u0001\u0000\u0000"+
+		"\u0000\u00b3\u0262\u0001\u0000\u0000\u0000\u00b5\u00b6\u0005i\u0000\u0000"+
+		"\u00b6\u00b7\u0005m\u0000\u0000\u00b7\u00b8\u0005p\u0000\u0000\u00b8\u00b9"+
+		"\u0005o\u0000\u0000\u00b9\u00ba\u0005r\u0000\u0000\u00ba\u00bb\u0005t"+
+		"\u0000\u0000\u00bb\u0004\u0001\u0000\u0000\u0000\u00bc\u00bd\u0005f\u0000"+
+		"\u0000\u00bd\u00be\u0005r\u0000\u0000\u00be\u00bf\u0005o\u0000\u0000\u00bf"+
+		"\u00c0\u0005m\u0000\u0000\u00c0\u0006\u0001\u0000\u0000\u0000\u00c1\u00c2"+
+		"\u0005n\u0000\u0000\u00c2\u00c3\u0005e\u0000\u0000\u00c3\u00c4\u0005w"+
+		"\u0000\u0000\u00c4\b\u0001\u0000\u0000\u0000\u00c5\u00c6\u0005@\u0000"+
+		"\u0000\u00c6\u00c7\u0005C\u0000\u0000\u00c7\u00c8\u0005o\u0000\u0000\u00c8"+
+		"\u00c9\u0005m\u0000\u0000\u00c9\u00ca\u0005p\u0000\u0000\u00ca\u00cb\u0005"+
+		"o\u0000\u0000\u00cb\u00cc\u0005n\u0000\u0000\u00cc\u00cd\u0005e\u0000"+
+		"\u0000\u00cd\u00ce\u0005n\u0000\u0000\u00ce\u00cf\u0005t\u0000\u0000\u00cf"+
+		"\n\u0001\u0000\u0000\u0000\u00d0\u00d1\u0005s\u0000\u0000\u00d1\u00d2"+
+		"\u0005e\u0000\u0000\u00d2\u00d3\u0005l\u0000\u0000\u00d3\u00d4\u0005e"+
+		"\u0000\u0000\u00d4\u00d5\u0005c\u0000\u0000\u00d5\u00d6\u0005t\u0000\u0000"+
+		"\u00d6\u00d7\u0005o\u0000\u0000\u00d7\u00d8\u0005r\u0000\u0000\u00d8\f"+
+		"\u0001\u0000\u0000\u0000\u00d9\u00da\u0005s\u0000\u0000\u00da\u00db\u0005"+
+		"t\u0000\u0000\u00db\u00dc\u0005a\u0000\u0000\u00dc\u00dd\u0005n\u0000"+
+		"\u0000\u00dd\u00de\u0005d\u0000\u0000\u00de\u00df\u0005a\u0000\u0000\u00df"+
+		"\u00e0\u0005l\u0000\u0000\u00e0\u00e1\u0005o\u0000\u0000\u00e1\u00e2\u0005"+
+		"n\u0000\u0000\u00e2\u00e3\u0005e\u0000\u0000\u00e3\u000e\u0001\u0000\u0000"+
+		"\u0000\u00e4\u00e5\u0005t\u0000\u0000\u00e5\u00e6\u0005r\u0000\u0000\u00e6"+
+		"\u00e7\u0005u\u0000\u0000\u00e7\u00e8\u0005e\u0000\u0000\u00e8\u0010\u0001"+
+		"\u0000\u0000\u0000\u00e9\u00ea\u0005f\u0000\u0000\u00ea\u00eb\u0005a\u0000"+
+		"\u0000\u00eb\u00ec\u0005l\u0000\u0000\u00ec\u00ed\u0005s\u0000\u0000\u00ed"+
+		"\u00ee\u0005e\u0000\u0000\u00ee\u0012\u0001\u0000\u0000\u0000\u00ef\u00f0"+
+		"\u0005i\u0000\u0000\u00f0\u00f1\u0005m\u0000\u0000\u00f1\u00f2\u0005p"+
+		"\u0000\u0000\u00f2\u00f3\u0005o\u0000\u0000\u00f3\u00f4\u0005r\u0000\u0000"+
+		"\u00f4\u00f5\u0005t\u0000\u0000\u00f5\u00f6\u0005s\u0000\u0000\u00f6\u0014"+
+		"\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005s\u0000\u0000\u00f8\u00f9\u0005"+
+		"t\u0000\u0000\u00f9\u00fa\u0005y\u0000\u0000\u00fa\u00fb\u0005l\u0000"+
+		"\u0000\u00fb\u00fc\u0005e\u0000\u0000\u00fc\u00fd\u0005s\u0000\u0000\u00fd"+
+		"\u0016\u0001\u0000\u0000\u0000\u00fe\u00ff\u0005t\u0000\u0000\u00ff\u0100"+
+		"\u0005e\u0000\u0000\u0100\u0101\u0005m\u0000\u0000\u0101\u0102\u0005p"+
+		"\u0000\u0000\u0102\u0103\u0005l\u0000\u0000\u0103\u0104\u0005a\u0000\u0000"+
+		"\u0104\u0105\u0005t\u0000\u0000\u0105\u0106\u0005e\u0000\u0000\u0106\u0018"+
+		"\u0001\u0000\u0000\u0000\u0107\u0108\u0005e\u0000\u0000\u0108\u0109\u0005"+
+		"x\u0000\u0000\u0109\u010a\u0005p\u0000\u0000\u010a\u010b\u0005o\u0000"+
+		"\u0000\u010b\u010c\u0005r\u0000\u0000\u010c\u010d\u0005t\u0000\u0000\u010d"+
+		"\u001a\u0001\u0000\u0000\u0000\u010e\u010f\u0005c\u0000\u0000\u010f\u0110"+
+		"\u0005l\u0000\u0000\u0110\u0111\u0005a\u0000\u0000\u0111\u0112\u0005s"+
+		"\u0000\u0000\u0112\u0113\u0005s\u0000\u0000\u0113\u001c\u0001\u0000\u0000"+
+		"\u0000\u0114\u0115\u0005t\u0000\u0000\u0115\u0116\u0005h\u0000\u0000\u0116"+
+		"\u0117\u0005i\u0000\u0000\u0117\u0118\u0005s\u0000\u0000\u0118\u001e\u0001"+
+		"\u0000\u0000\u0000\u0119\u011a\u0005a\u0000\u0000\u011a\u011b\u0005n\u0000"+
+		"\u0000\u011b\u011c\u0005y\u0000\u0000\u011c \u0001\u0000\u0000\u0000\u011d"+
+		"\u011e\u0005r\u0000\u0000\u011e\u011f\u0005e\u0000\u0000\u011f\u0120\u0005"+
+		"t\u0000\u0000\u0120\u0121\u0005u\u0000\u0000\u0121\u0122\u0005r\u0000"+
+		"\u0000\u0122\u0123\u0005n\u0000\u0000\u0123\"\u0001\u0000\u0000\u0000"+
+		"\u0124\u0125\u0005b\u0000\u0000\u0125\u0126\u0005r\u0000\u0000\u0126\u0127"+
+		"\u0005e\u0000\u0000\u0127\u0128\u0005a\u0000\u0000\u0128\u0129\u0005k"+
+		"\u0000\u0000\u0129$\u0001\u0000\u0000\u0000\u012a\u012b\u0005i\u0000\u0000"+
+		"\u012b\u012c\u0005f\u0000\u0000\u012c&\u0001\u0000\u0000\u0000\u012d\u012e"+
+		"\u0005e\u0000\u0000\u012e\u012f\u0005l\u0000\u0000\u012f\u0130\u0005s"+
+		"\u0000\u0000\u0130\u0131\u0005e\u0000\u0000\u0131(\u0001\u0000\u0000\u0000"+
+		"\u0132\u0133\u0005f\u0000\u0000\u0133\u0134\u0005o\u0000\u0000\u0134\u0135"+
+		"\u0005r\u0000\u0000\u0135*\u0001\u0000\u0000\u0000\u0136\u0137\u0005w"+
+		"\u0000\u0000\u0137\u0138\u0005h\u0000\u0000\u0138\u0139\u0005i\u0000\u0000"+
+		"\u0139\u013a\u0005l\u0000\u0000\u013a\u013b\u0005e\u0000\u0000\u013b,"+
+		"\u0001\u0000\u0000\u0000\u013c\u013d\u0005l\u0000\u0000\u013d\u013e\u0005"+
+		"e\u0000\u0000\u013e\u013f\u0005t\u0000\u0000\u013f.\u0001\u0000\u0000"+
+		"\u0000\u0140\u0141\u0005i\u0000\u0000\u0141\u0142\u0005n\u0000\u0000\u0142"+
+		"\u0143\u0005t\u0000\u0000\u0143\u0144\u0005e\u0000\u0000\u0144\u0145\u0005"+
+		"r\u0000\u0000\u0145\u0146\u0005f\u0000\u0000\u0146\u0147\u0005a\u0000"+
+		"\u0000\u0147\u0148\u0005c\u0000\u0000\u0148\u0149\u0005e\u0000\u0000\u0149"+
+		"0\u0001\u0000\u0000\u0000\u014a\u014b\u0005{\u0000\u0000\u014b2\u0001"+
+		"\u0000\u0000\u0000\u014c\u014d\u0005}\u0000\u0000\u014d4\u0001\u0000\u0000"+
+		"\u0000\u014e\u014f\u0005[\u0000\u0000\u014f6\u0001\u0000\u0000\u0000\u0150"+
+		"\u0151\u0005]\u0000\u0000\u01518\u0001\u0000\u0000\u0000\u0152\u0153\u0005"+
+		"(\u0000\u0000\u0153:\u0001\u0000\u0000\u0000\u0154\u0155\u0005)\u0000"+
+		"\u0000\u0155<\u0001\u0000\u0000\u0000\u0156\u0157\u0005:\u0000\u0000\u0157"+
+		">\u0001\u0000\u0000\u0000\u0158\u0159\u0005,\u0000\u0000\u0159@\u0001"+
+		"\u0000\u0000\u0000\u015a\u015b\u0005;\u0000\u0000\u015bB\u0001\u0000\u0000"+
+		"\u0000\u015c\u015d\u0005.\u0000\u0000\u015dD\u0001\u0000\u0000\u0000\u015e"+
+		"\u015f\u0005#\u0000\u0000\u015fF\u0001\u0000\u0000\u0000\u0160\u0161\u0005"+
+		"\"\u0000\u0000\u0161H\u0001\u0000\u0000\u0000\u0162\u0163\u0005\'\u0000"+
+		"\u0000\u0163J\u0001\u0000\u0000\u0000\u0164\u0165\u0005=\u0000\u0000\u0165"+
+		"L\u0001\u0000\u0000\u0000\u0166\u0167\u0005+\u0000\u0000\u0167\u0168\u0005"+
+		"+\u0000\u0000\u0168N\u0001\u0000\u0000\u0000\u0169\u016a\u0005=\u0000"+
+		"\u0000\u016a\u016b\u0005>\u0000\u0000\u016bP\u0001\u0000\u0000\u0000\u016c"+
+		"\u016d\u0005?\u0000\u0000\u016dR\u0001\u0000\u0000\u0000\u016e\u016f\u0005"+
+		"+\u0000\u0000\u016fT\u0001\u0000\u0000\u0000\u0170\u0171\u0005-\u0000"+
+		"\u0000\u0171V\u0001\u0000\u0000\u0000\u0172\u0173\u0005*\u0000\u0000\u0173"+
+		"X\u0001\u0000\u0000\u0000\u0174\u0175\u0005/\u0000\u0000\u0175Z\u0001"+
+		"\u0000\u0000\u0000\u0176\u0177\u0005%\u0000\u0000\u0177\\\u0001\u0000"+
+		"\u0000\u0000\u0178\u0179\u0005<\u0000\u0000\u0179^\u0001\u0000\u0000\u0000"+
+		"\u017a\u017b\u0005>\u0000\u0000\u017b`\u0001\u0000\u0000\u0000\u017c\u017d"+
+		"\u0005<\u0000\u0000\u017d\u017e\u0005=\u0000\u0000\u017eb\u0001\u0000"+
+		"\u0000\u0000\u017f\u0180\u0005>\u0000\u0000\u0180\u0181\u0005=\u0000\u0000"+
+		"\u0181d\u0001\u0000\u0000\u0000\u0182\u0183\u0005=\u0000\u0000\u0183\u0184"+
+		"\u0005=\u0000\u0000\u0184f\u0001\u0000\u0000\u0000\u0185\u0186\u0005!"+
+		"\u0000\u0000\u0186\u0187\u0005=\u0000\u0000\u0187h\u0001\u0000\u0000\u0000"+
+		"\u0188\u0189\u0005&\u0000\u0000\u0189\u018a\u0005&\u0000\u0000\u018aj"+
+		"\u0001\u0000\u0000\u0000\u018b\u018c\u0005|\u0000\u0000\u018c\u018d\u0005"+
+		"|\u0000\u0000\u018dl\u0001\u0000\u0000\u0000\u018e\u018f\u0005!\u0000"+
+		"\u0000\u018fn\u0001\u0000\u0000\u0000\u0190\u0192\u0007\u0000\u0000\u0000"+
+		"\u0191\u0190\u0001\u0000\u0000\u0000\u0192\u0193\u0001\u0000\u0000\u0000"+
+		"\u0193\u0191\u0001\u0000\u0000\u0000\u0193\u0194\u0001\u0000\u0000\u0000"+
+		"\u0194\u019b\u0001\u0000\u0000\u0000\u0195\u0197\u0005.\u0000\u0000\u0196"+
+		"\u0198\u0007\u0000\u0000\u0000\u0197\u0196\u0001\u0000\u0000\u0000\u0198"+
+		"\u0199\u0001\u0000\u0000\u0000\u0199\u0197\u0001\u0000\u0000\u0000\u0199"+
+		"\u019a\u0001\u0000\u0000\u0000\u019a\u019c\u0001\u0000\u0000\u0000\u019b"+
+		"\u0195\u0001\u0000\u0000\u0000\u019b\u019c\u0001\u0000\u0000\u0000\u019c"+
+		"p\u0001\u0000\u0000\u0000\u019d\u01a3\u0005\'\u0000\u0000\u019e\u01a2"+
+		"\b\u0001\u0000\u0000\u019f\u01a0\u0005\\\u0000\u0000\u01a0\u01a2\u0005"+
+		"\'\u0000\u0000\u01a1\u019e\u0001\u0000\u0000\u0000\u01a1\u019f\u0001\u0000"+
+		"\u0000\u0000\u01a2\u01a5\u0001\u0000\u0000\u0000\u01a3\u01a1\u0001\u0000"+
+		"\u0000\u0000\u01a3\u01a4\u0001\u0000\u0000\u0000\u01a4\u01a6\u0001\u0000"+
+		"\u0000\u0000\u01a5\u01a3\u0001\u0000\u0000\u0000\u01a6\u01b2\u0005\'\u0000"+
+		"\u0000\u01a7\u01ad\u0005\"\u0000\u0000\u01a8\u01ac\b\u0002\u0000\u0000"+
+		"\u01a9\u01aa\u0005\\\u0000\u0000\u01aa\u01ac\u0005\"\u0000\u0000\u01ab"+
+		"\u01a8\u0001\u0000\u0000\u0000\u01ab\u01a9\u0001\u0000\u0000\u0000\u01ac"+
+		"\u01af\u0001\u0000\u0000\u0000\u01ad\u01ab\u0001\u0000\u0000\u0000\u01ad"+
+		"\u01ae\u0001\u0000\u0000\u0000\u01ae\u01b0\u0001\u0000\u0000\u0000\u01af"+
+		"\u01ad\u0001\u0000\u0000\u0000\u01b0\u01b2\u0005\"\u0000\u0000\u01b1\u019d"+
+		"\u0001\u0000\u0000\u0000\u01b1\u01a7\u0001\u0000\u0000\u0000\u01b2r\u0001"+
+		"\u0000\u0000\u0000\u01b3\u01b4\u0005`\u0000\u0000\u01b4\u01b5\u0001\u0000"+
+		"\u0000\u0000\u01b5\u01b6\u00068\u0000\u0000\u01b6t\u0001\u0000\u0000\u0000"+
+		"\u01b7\u01b9\u0007\u0003\u0000\u0000\u01b8\u01b7\u0001\u0000\u0000\u0000"+
+		"\u01b9\u01ba\u0001\u0000\u0000\u0000\u01ba\u01b8\u0001\u0000\u0000\u0000"+
+		"\u01ba\u01bb\u0001\u0000\u0000\u0000\u01bb\u01bc\u0001\u0000\u0000\u0000"+
+		"\u01bc\u01bd\u00069\u0001\u0000\u01bdv\u0001\u0000\u0000\u0000\u01be\u01bf"+
+		"\u0005/\u0000\u0000\u01bf\u01c0\u0005/\u0000\u0000\u01c0\u01c4\u0001\u0000"+
+		"\u0000\u0000\u01c1\u01c3\b\u0004\u0000\u0000\u01c2\u01c1\u0001\u0000\u0000"+
+		"\u0000\u01c3\u01c6\u0001\u0000\u0000\u0000\u01c4\u01c2\u0001\u0000\u0000"+
+		"\u0000\u01c4\u01c5\u0001\u0000\u0000\u0000\u01c5\u01c7\u0001\u0000\u0000"+
+		"\u0000\u01c6\u01c4\u0001\u0000\u0000\u0000\u01c7\u01c8\u0006:\u0001\u0000"+
+		"\u01c8x\u0001\u0000\u0000\u0000\u01c9\u01ca\u0005/\u0000\u0000\u01ca\u01cb"+
+		"\u0005*\u0000\u0000\u01cb\u01cf\u0001\u0000\u0000\u0000\u01cc\u01ce\t"+
+		"\u0000\u0000\u0000\u01cd\u01cc\u0001\u0000\u0000\u0000\u01ce\u01d1\u0001"+
+		"\u0000\u0000\u0000\u01cf\u01d0\u0001\u0000\u0000\u0000\u01cf\u01cd\u0001"+
+		"\u0000\u0000\u0000\u01d0\u01d2\u0001\u0000\u0000\u0000\u01d1\u01cf\u0001"+
+		"\u0000\u0000\u0000\u01d2\u01d3\u0005*\u0000\u0000\u01d3\u01d4\u0005/\u0000"+
+		"\u0000\u01d4\u01d5\u0001\u0000\u0000\u0000\u01d5\u01d6\u0006;\u0001\u0000"+
+		"\u01d6z\u0001\u0000\u0000\u0000\u01d7\u01db\u0007\u0005\u0000\u0000\u01d8"+
+		"\u01da\u0007\u0006\u0000\u0000\u01d9\u01d8\u0001\u0000\u0000\u0000\u01da"+
+		"\u01dd\u0001\u0000\u0000\u0000\u01db\u01d9\u0001\u0000\u0000\u0000\u01db"+
+		"\u01dc\u0001\u0000\u0000\u0000\u01dc|\u0001\u0000\u0000\u0000\u01dd\u01db"+
+		"\u0001\u0000\u0000\u0000\u01de\u01df\u0005`\u0000\u0000\u01df\u01e0\u0001"+
+		"\u0000\u0000\u0000\u01e0\u01e1\u0006=\u0002\u0000\u01e1~\u0001\u0000\u0000"+
+		"\u0000\u01e2\u01e3\u0005<\u0000\u0000\u01e3\u01e4\u0005!\u0000\u0000\u01e4"+
+		"\u01e5\u0005-\u0000\u0000\u01e5\u01e6\u0005-\u0000\u0000\u01e6\u01ea\u0001"+
+		"\u0000\u0000\u0000\u01e7\u01e9\t\u0000\u0000\u0000\u01e8\u01e7\u0001\u0000"+
+		"\u0000\u0000\u01e9\u01ec\u0001\u0000\u0000\u0000\u01ea\u01eb\u0001\u0000"+
+		"\u0000\u0000\u01ea\u01e8\u0001\u0000\u0000\u0000\u01eb\u01ed\u0001\u0000"+
+		"\u0000\u0000\u01ec\u01ea\u0001\u0000\u0000\u0000\u01ed\u01ee\u0005-\u0000"+
+		"\u0000\u01ee\u01ef\u0005-\u0000\u0000\u01ef\u01f0\u0005>\u0000\u0000\u01f0"+
+		"\u01f1\u0001\u0000\u0000\u0000\u01f1\u01f2\u0006>\u0001\u0000\u01f2\u0080"+
+		"\u0001\u0000\u0000\u0000\u01f3\u01f4\u0005<\u0000\u0000\u01f4\u01f5\u0005"+
+		"/\u0000\u0000\u01f5\u01f6\u0001\u0000\u0000\u0000\u01f6\u01f7\u0006?\u0003"+
+		"\u0000\u01f7\u0082\u0001\u0000\u0000\u0000\u01f8\u01f9\u0005<\u0000\u0000"+
+		"\u01f9\u01fa\u0001\u0000\u0000\u0000\u01fa\u01fb\u0006@\u0003\u0000\u01fb"+
+		"\u0084\u0001\u0000\u0000\u0000\u01fc\u01fd\u0005{\u0000\u0000\u01fd\u01fe"+
+		"\u0005{\u0000\u0000\u01fe\u0202\u0001\u0000\u0000\u0000\u01ff\u0201\t"+
+		"\u0000\u0000\u0000\u0200\u01ff\u0001\u0000\u0000\u0000\u0201\u0204\u0001"+
+		"\u0000\u0000\u0000\u0202\u0203\u0001\u0000\u0000\u0000\u0202\u0200\u0001"+
+		"\u0000\u0000\u0000\u0203\u0205\u0001\u0000\u0000\u0000\u0204\u0202\u0001"+
+		"\u0000\u0000\u0000\u0205\u0206\u0005}\u0000\u0000\u0206\u0207\u0005}\u0000"+
+		"\u0000\u0207\u0086\u0001\u0000\u0000\u0000\u0208\u020a\b\u0007\u0000\u0000"+
+		"\u0209\u0208\u0001\u0000\u0000\u0000\u020a\u020b\u0001\u0000\u0000\u0000"+
+		"\u020b\u0209\u0001\u0000\u0000\u0000\u020b\u020c\u0001\u0000\u0000\u0000"+
+		"\u020c\u0088\u0001\u0000\u0000\u0000\u020d\u020e\u0005{\u0000\u0000\u020e"+
+		"\u008a\u0001\u0000\u0000\u0000\u020f\u0210\u0005}\u0000\u0000\u0210\u008c"+
+		"\u0001\u0000\u0000\u0000\u0211\u0212\u0005:\u0000\u0000\u0212\u008e\u0001"+
+		"\u0000\u0000\u0000\u0213\u0214\u0005;\u0000\u0000\u0214\u0090\u0001\u0000"+
+		"\u0000\u0000\u0215\u0216\u0005,\u0000\u0000\u0216\u0092\u0001\u0000\u0000"+
+		"\u0000\u0217\u021b\u0007\u0005\u0000\u0000\u0218\u021a\u0007\b\u0000\u0000"+
+		"\u0219\u0218\u0001\u0000\u0000\u0000\u021a\u021d\u0001\u0000\u0000\u0000"+
+		"\u021b\u0219\u0001\u0000\u0000\u0000\u021b\u021c\u0001\u0000\u0000\u0000"+
+		"\u021c\u0094\u0001\u0000\u0000\u0000\u021d\u021b\u0001\u0000\u0000\u0000"+
+		"\u021e\u0220\b\t\u0000\u0000\u021f\u021e\u0001\u0000\u0000\u0000\u0220"+
+		"\u0221\u0001\u0000\u0000\u0000\u0221\u021f\u0001\u0000\u0000\u0000\u0221"+
+		"\u0222\u0001\u0000\u0000\u0000\u0222\u0096\u0001\u0000\u0000\u0000\u0223"+
+		"\u0224\t\u0000\u0000\u0000\u0224\u0098\u0001\u0000\u0000\u0000\u0225\u0226"+
+		"\u0005>\u0000\u0000\u0226\u0227\u0001\u0000\u0000\u0000\u0227\u0228\u0006"+
+		"K\u0002\u0000\u0228\u009a\u0001\u0000\u0000\u0000\u0229\u022a\u0005/\u0000"+
+		"\u0000\u022a\u022b\u0005>\u0000\u0000\u022b\u022c\u0001\u0000\u0000\u0000"+
+		"\u022c\u022d\u0006L\u0002\u0000\u022d\u009c\u0001\u0000\u0000\u0000\u022e"+
+		"\u022f\u0005/\u0000\u0000\u022f\u009e\u0001\u0000\u0000\u0000\u0230\u0231"+
+		"\u0005=\u0000\u0000\u0231\u00a0\u0001\u0000\u0000\u0000\u0232\u0233\u0005"+
+		"[\u0000\u0000\u0233\u00a2\u0001\u0000\u0000\u0000\u0234\u0235\u0005]\u0000"+
+		"\u0000\u0235\u00a4\u0001\u0000\u0000\u0000\u0236\u0237\u0005(\u0000\u0000"+
+		"\u0237\u00a6\u0001\u0000\u0000\u0000\u0238\u0239\u0005)\u0000\u0000\u0239"+
+		"\u00a8\u0001\u0000\u0000\u0000\u023a\u023b\u0005*\u0000\u0000\u023b\u00aa"+
+		"\u0001\u0000\u0000\u0000\u023c\u0240\u0005\"\u0000\u0000\u023d\u023f\t"+
+		"\u0000\u0000\u0000\u023e\u023d\u0001\u0000\u0000\u0000\u023f\u0242\u0001"+
+		"\u0000\u0000\u0000\u0240\u0241\u0001\u0000\u0000\u0000\u0240\u023e\u0001"+
+		"\u0000\u0000\u0000\u0241\u0243\u0001\u0000\u0000\u0000\u0242\u0240\u0001"+
+		"\u0000\u0000\u0000\u0243\u024d\u0005\"\u0000\u0000\u0244\u0248\u0005\'"+
+		"\u0000\u0000\u0245\u0247\t\u0000\u0000\u0000\u0246\u0245\u0001\u0000\u0000"+
+		"\u0000\u0247\u024a\u0001\u0000\u0000\u0000\u0248\u0249\u0001\u0000\u0000"+
+		"\u0000\u0248\u0246\u0001\u0000\u0000\u0000\u0249\u024b\u0001\u0000\u0000"+
+		"\u0000\u024a\u0248\u0001\u0000\u0000\u0000\u024b\u024d\u0005\'\u0000\u0000"+
+		"\u024c\u023c\u0001\u0000\u0000\u0000\u024c\u0244\u0001\u0000\u0000\u0000"+
+		"\u024d\u00ac\u0001\u0000\u0000\u0000\u024e\u0252\u0007\n\u0000\u0000\u024f"+
+		"\u0251\u0007\u000b\u0000\u0000\u0250\u024f\u0001\u0000\u0000\u0000\u0251"+
+		"\u0254\u0001\u0000\u0000\u0000\u0252\u0250\u0001\u0000\u0000\u0000\u0252"+
+		"\u0253\u0001\u0000\u0000\u0000\u0253\u00ae\u0001\u0000\u0000\u0000\u0254"+
+		"\u0252\u0001\u0000\u0000\u0000\u0255\u0257\u0007\u0003\u0000\u0000\u0256"+
+		"\u0255\u0001\u0000\u0000\u0000\u0257\u0258\u0001\u0000\u0000\u0000\u0258"+
+		"\u0256\u0001\u0000\u0000\u0000\u0258\u0259\u0001\u0000\u0000\u0000\u0259"+
+		"\u025a\u0001\u0000\u0000\u0000\u025a\u025b\u0006V\u0001\u0000\u025b\u00b0"+
+		"\u0001\u0000\u0000\u0000\u025c\u025d\u0005`\u0000\u0000\u025d\u025e\u0001"+
+		"\u0000\u0000\u0000\u025e\u025f\u0006W\u0004\u0000\u025f\u0260\u0006W\u0002"+
+		"\u0000\u0260\u0261\u0006W\u0002\u0000\u0261\u00b2\u0001\u0000\u0000\u0000"+
+		"\u0262\u0263\t\u0000\u0000\u0000\u0263\u0264\u0001\u0000\u0000\u0000\u0264"+
+		"\u0265\u0006X\u0005\u0000\u0265\u00b4\u0001\u0000\u0000\u0000\u0019\u0000"+
+		"\u0001\u0002\u0193\u0199\u019b\u01a1\u01a3\u01ab\u01ad\u01b1\u01ba\u01c4"+
+		"\u01cf\u01db\u01ea\u0202\u020b\u021b\u0221\u0240\u0248\u024c\u0252\u0258"+
+		"\u0006\u0005\u0001\u0000\u0006\u0000\u0000\u0004\u0000\u0000\u0005\u0002"+
+		"\u0000\u0007>\u0000\u0007K\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -25,11 +25,12 @@ public class AngularParser extends Parser {
 		EQUALS=37, INCREMENT=38, ARROW=39, QUESTION=40, PLUS=41, MINUS=42, MULT=43, 
 		DIV=44, MOD=45, LT=46, GT=47, LE=48, GE=49, EQ=50, NEQ=51, AND=52, OR=53, 
 		NOT=54, NUMBER=55, STRING_LITERAL=56, BACKTICK_OPEN=57, WS=58, COMMENT=59, 
-		MULTILINE_COMMENT=60, IDENTIFIER=61, BACKTICK_CLOSE=62, HTML_END_LT=63, 
-		HTML_LT=64, HTML_GT=65, HTML_SLASH_GT=66, HTML_SLASH=67, HTML_EQ=68, ATTR_LBRACK=69, 
-		ATTR_RBRACK=70, ATTR_LPAREN=71, ATTR_RPAREN=72, ATTR_STAR=73, INTERPOLATION=74, 
-		TPL_STRING=75, HTML_NAME=76, HTML_TEXT=77, CSS_LBRACE=78, CSS_RBRACE=79, 
-		CSS_COLON=80, CSS_SEMI=81, CSS_COMMA=82, CSS_IDENT=83, CSS_TEXT=84, TPL_OTHER=85;
+		MULTILINE_COMMENT=60, IDENTIFIER=61, BACKTICK_CLOSE=62, HTML_COMMENT=63, 
+		HTML_END_LT=64, HTML_LT=65, INTERPOLATION=66, HTML_TEXT=67, CSS_LBRACE=68, 
+		CSS_RBRACE=69, CSS_COLON=70, CSS_SEMI=71, CSS_COMMA=72, CSS_IDENT=73, 
+		CSS_TEXT=74, TPL_OTHER=75, HTML_GT=76, HTML_SLASH_GT=77, HTML_SLASH=78, 
+		HTML_EQ=79, ATTR_LBRACK=80, ATTR_RBRACK=81, ATTR_LPAREN=82, ATTR_RPAREN=83, 
+		ATTR_STAR=84, TPL_STRING=85, HTML_NAME=86, TAG_WS=87;
 	public static final int
 		RULE_program = 0, RULE_importStatement = 1, RULE_importItems = 2, RULE_importItem = 3, 
 		RULE_modulePath = 4, RULE_interfaceDeclaration = 5, RULE_interfaceMember = 6, 
@@ -86,7 +87,8 @@ public class AngularParser extends Parser {
 			null, null, null, null, "'.'", "'#'", "'\"'", "'''", null, "'++'", "'=>'", 
 			"'?'", "'+'", "'-'", null, null, "'%'", null, null, "'<='", "'>='", "'=='", 
 			"'!='", "'&&'", "'||'", "'!'", null, null, null, null, null, null, null, 
-			null, "'</'", null, null, "'/>'"
+			null, null, "'</'", null, null, null, null, null, null, null, null, null, 
+			null, null, null, "'/>'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -100,11 +102,11 @@ public class AngularParser extends Parser {
 			"INCREMENT", "ARROW", "QUESTION", "PLUS", "MINUS", "MULT", "DIV", "MOD", 
 			"LT", "GT", "LE", "GE", "EQ", "NEQ", "AND", "OR", "NOT", "NUMBER", "STRING_LITERAL", 
 			"BACKTICK_OPEN", "WS", "COMMENT", "MULTILINE_COMMENT", "IDENTIFIER", 
-			"BACKTICK_CLOSE", "HTML_END_LT", "HTML_LT", "HTML_GT", "HTML_SLASH_GT", 
-			"HTML_SLASH", "HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", 
-			"ATTR_RPAREN", "ATTR_STAR", "INTERPOLATION", "TPL_STRING", "HTML_NAME", 
+			"BACKTICK_CLOSE", "HTML_COMMENT", "HTML_END_LT", "HTML_LT", "INTERPOLATION", 
 			"HTML_TEXT", "CSS_LBRACE", "CSS_RBRACE", "CSS_COLON", "CSS_SEMI", "CSS_COMMA", 
-			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER"
+			"CSS_IDENT", "CSS_TEXT", "TPL_OTHER", "HTML_GT", "HTML_SLASH_GT", "HTML_SLASH", 
+			"HTML_EQ", "ATTR_LBRACK", "ATTR_RBRACK", "ATTR_LPAREN", "ATTR_RPAREN", 
+			"ATTR_STAR", "TPL_STRING", "HTML_NAME", "TAG_WS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -5447,7 +5449,7 @@ public class AngularParser extends Parser {
 			setState(601);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 9217L) != 0)) {
+			while (((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 7L) != 0)) {
 				{
 				{
 				setState(598);
@@ -5606,7 +5608,7 @@ public class AngularParser extends Parser {
 				setState(614);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & 149L) != 0)) {
+				while (((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & 85L) != 0)) {
 					{
 					{
 					setState(611);
@@ -5622,7 +5624,7 @@ public class AngularParser extends Parser {
 				setState(621);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 9217L) != 0)) {
+				while (((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & 7L) != 0)) {
 					{
 					{
 					setState(618);
@@ -5651,7 +5653,7 @@ public class AngularParser extends Parser {
 				setState(632);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & 149L) != 0)) {
+				while (((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & 85L) != 0)) {
 					{
 					{
 					setState(629);
@@ -6476,7 +6478,7 @@ public class AngularParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001U\u02c8\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001W\u02c8\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -6857,42 +6859,42 @@ public class AngularParser extends Parser {
 		"\u0001\u0000\u0000\u0000\u025c\u0260\u0003v;\u0000\u025d\u0260\u0003\u0084"+
 		"B\u0000\u025e\u0260\u0003\u0086C\u0000\u025f\u025c\u0001\u0000\u0000\u0000"+
 		"\u025f\u025d\u0001\u0000\u0000\u0000\u025f\u025e\u0001\u0000\u0000\u0000"+
-		"\u0260u\u0001\u0000\u0000\u0000\u0261\u0262\u0005@\u0000\u0000\u0262\u0266"+
-		"\u0005L\u0000\u0000\u0263\u0265\u0003x<\u0000\u0264\u0263\u0001\u0000"+
+		"\u0260u\u0001\u0000\u0000\u0000\u0261\u0262\u0005A\u0000\u0000\u0262\u0266"+
+		"\u0005V\u0000\u0000\u0263\u0265\u0003x<\u0000\u0264\u0263\u0001\u0000"+
 		"\u0000\u0000\u0265\u0268\u0001\u0000\u0000\u0000\u0266\u0264\u0001\u0000"+
 		"\u0000\u0000\u0266\u0267\u0001\u0000\u0000\u0000\u0267\u0269\u0001\u0000"+
-		"\u0000\u0000\u0268\u0266\u0001\u0000\u0000\u0000\u0269\u026d\u0005A\u0000"+
+		"\u0000\u0000\u0268\u0266\u0001\u0000\u0000\u0000\u0269\u026d\u0005L\u0000"+
 		"\u0000\u026a\u026c\u0003t:\u0000\u026b\u026a\u0001\u0000\u0000\u0000\u026c"+
 		"\u026f\u0001\u0000\u0000\u0000\u026d\u026b\u0001\u0000\u0000\u0000\u026d"+
 		"\u026e\u0001\u0000\u0000\u0000\u026e\u0270\u0001\u0000\u0000\u0000\u026f"+
-		"\u026d\u0001\u0000\u0000\u0000\u0270\u0271\u0005?\u0000\u0000\u0271\u0272"+
-		"\u0005L\u0000\u0000\u0272\u027d\u0005A\u0000\u0000\u0273\u0274\u0005@"+
-		"\u0000\u0000\u0274\u0278\u0005L\u0000\u0000\u0275\u0277\u0003x<\u0000"+
+		"\u026d\u0001\u0000\u0000\u0000\u0270\u0271\u0005@\u0000\u0000\u0271\u0272"+
+		"\u0005V\u0000\u0000\u0272\u027d\u0005L\u0000\u0000\u0273\u0274\u0005A"+
+		"\u0000\u0000\u0274\u0278\u0005V\u0000\u0000\u0275\u0277\u0003x<\u0000"+
 		"\u0276\u0275\u0001\u0000\u0000\u0000\u0277\u027a\u0001\u0000\u0000\u0000"+
 		"\u0278\u0276\u0001\u0000\u0000\u0000\u0278\u0279\u0001\u0000\u0000\u0000"+
 		"\u0279\u027b\u0001\u0000\u0000\u0000\u027a\u0278\u0001\u0000\u0000\u0000"+
-		"\u027b\u027d\u0005B\u0000\u0000\u027c\u0261\u0001\u0000\u0000\u0000\u027c"+
+		"\u027b\u027d\u0005M\u0000\u0000\u027c\u0261\u0001\u0000\u0000\u0000\u027c"+
 		"\u0273\u0001\u0000\u0000\u0000\u027dw\u0001\u0000\u0000\u0000\u027e\u0284"+
 		"\u0003z=\u0000\u027f\u0284\u0003|>\u0000\u0280\u0284\u0003~?\u0000\u0281"+
 		"\u0284\u0003\u0080@\u0000\u0282\u0284\u0003\u0082A\u0000\u0283\u027e\u0001"+
 		"\u0000\u0000\u0000\u0283\u027f\u0001\u0000\u0000\u0000\u0283\u0280\u0001"+
 		"\u0000\u0000\u0000\u0283\u0281\u0001\u0000\u0000\u0000\u0283\u0282\u0001"+
-		"\u0000\u0000\u0000\u0284y\u0001\u0000\u0000\u0000\u0285\u0288\u0005L\u0000"+
-		"\u0000\u0286\u0287\u0005D\u0000\u0000\u0287\u0289\u0005K\u0000\u0000\u0288"+
+		"\u0000\u0000\u0000\u0284y\u0001\u0000\u0000\u0000\u0285\u0288\u0005V\u0000"+
+		"\u0000\u0286\u0287\u0005O\u0000\u0000\u0287\u0289\u0005U\u0000\u0000\u0288"+
 		"\u0286\u0001\u0000\u0000\u0000\u0288\u0289\u0001\u0000\u0000\u0000\u0289"+
-		"{\u0001\u0000\u0000\u0000\u028a\u028b\u0005E\u0000\u0000\u028b\u028c\u0005"+
-		"L\u0000\u0000\u028c\u028d\u0005F\u0000\u0000\u028d\u028e\u0005D\u0000"+
-		"\u0000\u028e\u028f\u0005K\u0000\u0000\u028f}\u0001\u0000\u0000\u0000\u0290"+
-		"\u0291\u0005G\u0000\u0000\u0291\u0292\u0005L\u0000\u0000\u0292\u0293\u0005"+
-		"H\u0000\u0000\u0293\u0294\u0005D\u0000\u0000\u0294\u0295\u0005K\u0000"+
-		"\u0000\u0295\u007f\u0001\u0000\u0000\u0000\u0296\u0297\u0005E\u0000\u0000"+
-		"\u0297\u0298\u0005G\u0000\u0000\u0298\u0299\u0005L\u0000\u0000\u0299\u029a"+
-		"\u0005H\u0000\u0000\u029a\u029b\u0005F\u0000\u0000\u029b\u029c\u0005D"+
-		"\u0000\u0000\u029c\u029d\u0005K\u0000\u0000\u029d\u0081\u0001\u0000\u0000"+
-		"\u0000\u029e\u029f\u0005I\u0000\u0000\u029f\u02a0\u0005L\u0000\u0000\u02a0"+
-		"\u02a1\u0005D\u0000\u0000\u02a1\u02a2\u0005K\u0000\u0000\u02a2\u0083\u0001"+
-		"\u0000\u0000\u0000\u02a3\u02a4\u0005J\u0000\u0000\u02a4\u0085\u0001\u0000"+
-		"\u0000\u0000\u02a5\u02a7\u0005M\u0000\u0000\u02a6\u02a5\u0001\u0000\u0000"+
+		"{\u0001\u0000\u0000\u0000\u028a\u028b\u0005P\u0000\u0000\u028b\u028c\u0005"+
+		"V\u0000\u0000\u028c\u028d\u0005Q\u0000\u0000\u028d\u028e\u0005O\u0000"+
+		"\u0000\u028e\u028f\u0005U\u0000\u0000\u028f}\u0001\u0000\u0000\u0000\u0290"+
+		"\u0291\u0005R\u0000\u0000\u0291\u0292\u0005V\u0000\u0000\u0292\u0293\u0005"+
+		"S\u0000\u0000\u0293\u0294\u0005O\u0000\u0000\u0294\u0295\u0005U\u0000"+
+		"\u0000\u0295\u007f\u0001\u0000\u0000\u0000\u0296\u0297\u0005P\u0000\u0000"+
+		"\u0297\u0298\u0005R\u0000\u0000\u0298\u0299\u0005V\u0000\u0000\u0299\u029a"+
+		"\u0005S\u0000\u0000\u029a\u029b\u0005Q\u0000\u0000\u029b\u029c\u0005O"+
+		"\u0000\u0000\u029c\u029d\u0005U\u0000\u0000\u029d\u0081\u0001\u0000\u0000"+
+		"\u0000\u029e\u029f\u0005T\u0000\u0000\u029f\u02a0\u0005V\u0000\u0000\u02a0"+
+		"\u02a1\u0005O\u0000\u0000\u02a1\u02a2\u0005U\u0000\u0000\u02a2\u0083\u0001"+
+		"\u0000\u0000\u0000\u02a3\u02a4\u0005B\u0000\u0000\u02a4\u0085\u0001\u0000"+
+		"\u0000\u0000\u02a5\u02a7\u0005C\u0000\u0000\u02a6\u02a5\u0001\u0000\u0000"+
 		"\u0000\u02a7\u02a8\u0001\u0000\u0000\u0000\u02a8\u02a6\u0001\u0000\u0000"+
 		"\u0000\u02a8\u02a9\u0001\u0000\u0000\u0000\u02a9\u0087\u0001\u0000\u0000"+
 		"\u0000\u02aa\u02ad\u0003\u008aE\u0000\u02ab\u02ad\u0003r9\u0000\u02ac"+
@@ -6902,15 +6904,15 @@ public class AngularParser extends Parser {
 		"\u0000\u0000\u0000\u02b1\u02b4\u0001\u0000\u0000\u0000\u02b2\u02b0\u0001"+
 		"\u0000\u0000\u0000\u02b2\u02b3\u0001\u0000\u0000\u0000\u02b3\u008b\u0001"+
 		"\u0000\u0000\u0000\u02b4\u02b2\u0001\u0000\u0000\u0000\u02b5\u02b6\u0005"+
-		"S\u0000\u0000\u02b6\u02ba\u0005N\u0000\u0000\u02b7\u02b9\u0003\u008eG"+
+		"I\u0000\u0000\u02b6\u02ba\u0005D\u0000\u0000\u02b7\u02b9\u0003\u008eG"+
 		"\u0000\u02b8\u02b7\u0001\u0000\u0000\u0000\u02b9\u02bc\u0001\u0000\u0000"+
 		"\u0000\u02ba\u02b8\u0001\u0000\u0000\u0000\u02ba\u02bb\u0001\u0000\u0000"+
 		"\u0000\u02bb\u02bd\u0001\u0000\u0000\u0000\u02bc\u02ba\u0001\u0000\u0000"+
-		"\u0000\u02bd\u02be\u0005O\u0000\u0000\u02be\u008d\u0001\u0000\u0000\u0000"+
-		"\u02bf\u02c0\u0005S\u0000\u0000\u02c0\u02c1\u0005P\u0000\u0000\u02c1\u02c3"+
-		"\u0005T\u0000\u0000\u02c2\u02c4\u0005Q\u0000\u0000\u02c3\u02c2\u0001\u0000"+
+		"\u0000\u02bd\u02be\u0005E\u0000\u0000\u02be\u008d\u0001\u0000\u0000\u0000"+
+		"\u02bf\u02c0\u0005I\u0000\u0000\u02c0\u02c1\u0005F\u0000\u0000\u02c1\u02c3"+
+		"\u0005J\u0000\u0000\u02c2\u02c4\u0005G\u0000\u0000\u02c3\u02c2\u0001\u0000"+
 		"\u0000\u0000\u02c3\u02c4\u0001\u0000\u0000\u0000\u02c4\u008f\u0001\u0000"+
-		"\u0000\u0000\u02c5\u02c6\u0005T\u0000\u0000\u02c6\u0091\u0001\u0000\u0000"+
+		"\u0000\u0000\u02c5\u02c6\u0005J\u0000\u0000\u02c6\u0091\u0001\u0000\u0000"+
 		"\u0000I\u0095\u009a\u009c\u00a5\u00ad\u00bc\u00c5\u00d3\u00ea\u00f2\u00f5"+
 		"\u0100\u0103\u010e\u0113\u0118\u011c\u011f\u0124\u0129\u0132\u013c\u0141"+
 		"\u0149\u014c\u014f\u015b\u0169\u016f\u0173\u017c\u0187\u018e\u0192\u0199"+